@@ -39,6 +39,13 @@ public class ClientConfig extends BaseConfig {
     public static final int DEFAULT_KEEP_ALIVE_TIMEOUT = 1200; 
     public static final int DEFAULT_RESET_TIMEOUT = 300000; 
     public static final int DEFAULT_CONNECTION_POOL_SIZE = 1000;
+    public static final int DEFAULT_SLIDING_WINDOW = 10000;
+    public static final int DEFAULT_MINIMUM_CALLS = 10;
+    public static final int DEFAULT_FAILURE_RATE_THRESHOLD = 50;
+    public static final int DEFAULT_SLOW_CALL_DURATION = 3000;
+    public static final int DEFAULT_SLOW_CALL_RATE_THRESHOLD = 80;
+    public static final int DEFAULT_HALF_OPEN_CALLS = 3;
+    public static final int DEFAULT_MAX_CONCURRENT_CALLS = 200;
 
     private String proxy;
     private int resetTimeout = DEFAULT_RESET_TIMEOUT;
@@ -47,6 +54,15 @@ public class ClientConfig extends BaseConfig {
     private int keepAliveTimeout = DEFAULT_KEEP_ALIVE_TIMEOUT;
     private int errorThreshold = DEFAULT_ERROR_THRESHOLD;
     private int connectionPoolSize = DEFAULT_CONNECTION_POOL_SIZE;
+    // circuit breaker: outcomes of the last slidingWindow milliseconds decide whether a service instance is cut off,
+    // errorThreshold is the least number of failures to trip and resetTimeout how long the circuit stays open
+    private int slidingWindow = DEFAULT_SLIDING_WINDOW;
+    private int minimumCalls = DEFAULT_MINIMUM_CALLS;
+    private int failureRateThreshold = DEFAULT_FAILURE_RATE_THRESHOLD;  // percent
+    private int slowCallDuration = DEFAULT_SLOW_CALL_DURATION;  // 0 to disable
+    private int slowCallRateThreshold = DEFAULT_SLOW_CALL_RATE_THRESHOLD;  // percent
+    private int halfOpenCalls = DEFAULT_HALF_OPEN_CALLS;
+    private int maxConcurrentCalls = DEFAULT_MAX_CONCURRENT_CALLS;  // bulkhead per service instance, 0 for unlimited
     private String userAgent = CloudClient.DEFAULT_USER_AGENT;
 
     public String getProxy() {
@@ -105,6 +121,62 @@ public class ClientConfig extends BaseConfig {
         this.connectionPoolSize = connectionPoolSize;
     }
 
+    public int getSlidingWindow() {
+        return slidingWindow;
+    }
+
+    public void setSlidingWindow(int slidingWindow) {
+        this.slidingWindow = slidingWindow;
+    }
+
+    public int getMinimumCalls() {
+        return minimumCalls;
+    }
+
+    public void setMinimumCalls(int minimumCalls) {
+        this.minimumCalls = minimumCalls;
+    }
+
+    public int getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    public void setFailureRateThreshold(int failureRateThreshold) {
+        this.failureRateThreshold = failureRateThreshold;
+    }
+
+    public int getSlowCallDuration() {
+        return slowCallDuration;
+    }
+
+    public void setSlowCallDuration(int slowCallDuration) {
+        this.slowCallDuration = slowCallDuration;
+    }
+
+    public int getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    public void setSlowCallRateThreshold(int slowCallRateThreshold) {
+        this.slowCallRateThreshold = slowCallRateThreshold;
+    }
+
+    public int getHalfOpenCalls() {
+        return halfOpenCalls;
+    }
+
+    public void setHalfOpenCalls(int halfOpenCalls) {
+        this.halfOpenCalls = halfOpenCalls;
+    }
+
+    public int getMaxConcurrentCalls() {
+        return maxConcurrentCalls;
+    }
+
+    public void setMaxConcurrentCalls(int maxConcurrentCalls) {
+        this.maxConcurrentCalls = maxConcurrentCalls;
+    }
+
     public String getUserAgent() {
         return userAgent;
     }
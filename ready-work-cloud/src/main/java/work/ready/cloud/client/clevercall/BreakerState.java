@@ -0,0 +1,196 @@
+/**
+ *
+ * Copyright (c) 2020 WeiHua Lyu [ready.work]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package work.ready.cloud.client.clevercall;
+
+import work.ready.cloud.client.ClientConfig;
+import work.ready.core.server.Ready;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Lock free breaker state of one service instance: a sliding time window of call outcomes split into buckets,
+ * the current phase of the circuit and the number of calls in flight for the bulkhead.
+ */
+final class BreakerState {
+
+    private static final int BUCKETS = 10;
+
+    private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(BUCKETS);
+    private final AtomicReference<Phase> phase = new AtomicReference<>(new Phase(CircuitBreaker.State.CLOSE, 0));
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile long lastFailureTime;
+
+    // takes a bulkhead slot and, while half open, one of the probe permits. rejects at once instead of queuing
+    Phase acquire(ClientConfig config) {
+        int maxConcurrentCalls = config.getMaxConcurrentCalls();
+        if (inFlight.incrementAndGet() > maxConcurrentCalls && maxConcurrentCalls > 0) {
+            inFlight.decrementAndGet();
+            throw new CircuitBreakerException("bulkhead is full, " + maxConcurrentCalls + " calls in flight.");
+        }
+        for (;;) {
+            Phase current = phase.get();
+            if (current.state == CircuitBreaker.State.OPEN) {
+                if (config.getResetTimeout() <= 0 || Ready.currentTimeMillis() - current.since < config.getResetTimeout()) {
+                    inFlight.decrementAndGet();
+                    throw new CircuitBreakerException("circuit is opened.");
+                }
+                phase.compareAndSet(current, new Phase(CircuitBreaker.State.HALF_OPEN, Ready.currentTimeMillis()));
+                continue;
+            }
+            if (current.state == CircuitBreaker.State.HALF_OPEN && current.permits.incrementAndGet() > Math.max(1, config.getHalfOpenCalls())) {
+                inFlight.decrementAndGet();
+                throw new CircuitBreakerException("circuit is half opened, waiting for probe calls.");
+            }
+            return current;
+        }
+    }
+
+    void release() {
+        inFlight.decrementAndGet();
+    }
+
+    void record(Phase acquired, boolean success, long latency, ClientConfig config) {
+        long now = Ready.currentTimeMillis();
+        boolean slow = config.getSlowCallDuration() > 0 && latency >= config.getSlowCallDuration();
+        bucket(now, config).add(success, slow, latency);
+        if (!success) lastFailureTime = now;
+
+        Phase current = phase.get();
+        if (current != acquired) return;  // outcome of a call started in an earlier phase
+        if (current.state == CircuitBreaker.State.HALF_OPEN) {
+            if (!success || slow) {
+                phase.compareAndSet(current, new Phase(CircuitBreaker.State.OPEN, now));
+            } else if (current.successes.incrementAndGet() >= Math.max(1, config.getHalfOpenCalls())) {
+                if (phase.compareAndSet(current, new Phase(CircuitBreaker.State.CLOSE, now))) {
+                    resetWindow();
+                }
+            }
+        } else if (current.state == CircuitBreaker.State.CLOSE && (!success || slow) && shouldTrip(now, config)) {
+            phase.compareAndSet(current, new Phase(CircuitBreaker.State.OPEN, now));
+        }
+    }
+
+    private boolean shouldTrip(long now, ClientConfig config) {
+        long[] window = snapshot(now, config);
+        long calls = window[0], failures = window[1], slowCalls = window[2];
+        if (failures >= config.getErrorThreshold() &&
+                (calls < config.getMinimumCalls() || failures * 100 >= calls * config.getFailureRateThreshold())) {
+            return true;
+        }
+        return calls >= config.getMinimumCalls() && config.getSlowCallRateThreshold() > 0 &&
+                slowCalls * 100 >= calls * config.getSlowCallRateThreshold();
+    }
+
+    // calls, failures, slow calls and total latency within the window
+    long[] snapshot(long now, ClientConfig config) {
+        long epoch = now / bucketTime(config);
+        long[] window = new long[4];
+        for (int i = 0; i < BUCKETS; i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null && bucket.epoch > epoch - BUCKETS) {
+                window[0] += bucket.success.get() + bucket.failure.get();
+                window[1] += bucket.failure.get();
+                window[2] += bucket.slow.get();
+                window[3] += bucket.latency.get();
+            }
+        }
+        return window;
+    }
+
+    private Bucket bucket(long now, ClientConfig config) {
+        long epoch = now / bucketTime(config);
+        int index = (int) (epoch % BUCKETS);
+        for (;;) {
+            Bucket bucket = buckets.get(index);
+            if (bucket != null && bucket.epoch == epoch) {
+                return bucket;
+            }
+            Bucket fresh = new Bucket(epoch);
+            if (buckets.compareAndSet(index, bucket, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    private static long bucketTime(ClientConfig config) {
+        return Math.max(1, config.getSlidingWindow() / BUCKETS);
+    }
+
+    private void resetWindow() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, null);
+        }
+    }
+
+    void force(CircuitBreaker.State state) {
+        phase.set(new Phase(state, Ready.currentTimeMillis()));
+        if (state == CircuitBreaker.State.CLOSE) {
+            resetWindow();
+        }
+    }
+
+    boolean transit(CircuitBreaker.State from, CircuitBreaker.State to) {
+        Phase current = phase.get();
+        return current.state == from && phase.compareAndSet(current, new Phase(to, Ready.currentTimeMillis()));
+    }
+
+    CircuitBreaker.State getState() {
+        return phase.get().state;
+    }
+
+    int getInFlight() {
+        return inFlight.get();
+    }
+
+    long getLastFailureTime() {
+        return lastFailureTime;
+    }
+
+    static final class Phase {
+        private final CircuitBreaker.State state;
+        private final long since;
+        private final AtomicInteger permits = new AtomicInteger();
+        private final AtomicInteger successes = new AtomicInteger();
+
+        private Phase(CircuitBreaker.State state, long since) {
+            this.state = state;
+            this.since = since;
+        }
+    }
+
+    private static final class Bucket {
+        private final long epoch;
+        private final AtomicInteger success = new AtomicInteger();
+        private final AtomicInteger failure = new AtomicInteger();
+        private final AtomicInteger slow = new AtomicInteger();
+        private final AtomicLong latency = new AtomicLong();
+
+        private Bucket(long epoch) {
+            this.epoch = epoch;
+        }
+
+        private void add(boolean succeeded, boolean slowCall, long time) {
+            if (succeeded) success.incrementAndGet(); else failure.incrementAndGet();
+            if (slowCall) slow.incrementAndGet();
+            latency.addAndGet(time);
+        }
+    }
+}
@@ -20,26 +20,25 @@ package work.ready.cloud.client.clevercall;
 
 import work.ready.cloud.ReadyCloud;
 import work.ready.cloud.client.ClientConfig;
+import work.ready.cloud.loadbalance.ServiceStats;
 import work.ready.cloud.registry.base.URL;
 import work.ready.core.server.Ready;
-import work.ready.core.tools.define.BiTuple;
 
 import java.net.http.HttpResponse;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Supplier;
 
 public class CircuitBreaker {
-    private static final Map<URL, BiTuple<AtomicInteger, AtomicLong>> stateHolder = new HashMap<>();
+    private static final Map<URL, BreakerState> stateHolder = new ConcurrentHashMap<>();
     private static final ClientConfig clientConfig = ReadyCloud.getConfig().getHttpClient();
     private final Supplier<CompletableFuture<HttpResponse<String>>> supplier;
     private final URL url;
+    private final BreakerState state;
     private int timeout = 0;
 
     public static final int MIN_UNSTABLE_LEVEL = 0; 
@@ -48,47 +47,43 @@ public class CircuitBreaker {
     public CircuitBreaker(URL url, Supplier<CompletableFuture<HttpResponse<String>>> supplier) {
         this.url = url;
         this.supplier = supplier;
-        stateHolder.computeIfAbsent(url, k->new BiTuple<>(new AtomicInteger(0), new AtomicLong(0)));
+        this.state = getState(url);
     }
 
     public static void close(URL url){
-        var state = getState(url);
-        state.get1().set(0);
+        getState(url).force(State.CLOSE);
     }
 
     public static void open(URL url){
-        var state = getState(url);
-        state.get1().set(clientConfig.getErrorThreshold() + 1);
-        state.get2().set(Ready.currentTimeMillis());
+        getState(url).force(State.OPEN);
     }
 
     public static void tryHalfOpen(URL url){
-        var state = getState(url);
-        if(state.get1().get() > clientConfig.getErrorThreshold()) {
-            state.get1().set(clientConfig.getErrorThreshold());
-        }
+        getState(url).transit(State.OPEN, State.HALF_OPEN);
     }
 
     public static void halfOpen(URL url){
-        getState(url).get1().set(clientConfig.getErrorThreshold());
+        getState(url).force(State.HALF_OPEN);
     }
 
-    private static BiTuple<AtomicInteger, AtomicLong> getState(URL url) {
-        synchronized (stateHolder) {
-            return stateHolder.computeIfAbsent(url, k -> new BiTuple<>(new AtomicInteger(0), new AtomicLong(0)));
-        }
+    private static BreakerState getState(URL url) {
+        return stateHolder.computeIfAbsent(url, k -> new BreakerState());
     }
 
     public URL getUrl() { return url; }
 
     public boolean isOpen() {
-        return stateHolder.get(url).get1().get() >= clientConfig.getErrorThreshold();
+        return state.getState() == State.OPEN;
     }
 
-    public int getTimeoutCount() { return stateHolder.get(url).get1().get(); }
+    public State getState() { return state.getState(); }
+
+    public int getTimeoutCount() { return (int) state.snapshot(Ready.currentTimeMillis(), clientConfig)[1]; }
+
+    public int getConcurrentCalls() { return state.getInFlight(); }
 
     public long getLastErrorTime() {
-        return stateHolder.get(url).get2().get();
+        return state.getLastFailureTime();
     }
 
     public CircuitBreaker setTimeout(int timeout) {
@@ -97,54 +92,38 @@ public class CircuitBreaker {
     }
 
     public HttpResponse<String> call() throws TimeoutException, ExecutionException, InterruptedException {
-        State state = checkState();
+        BreakerState.Phase phase = state.acquire(clientConfig);
 
+        timeout = timeout > 0 ? timeout : clientConfig.getTimeout();
+        ServiceStats stats = ServiceStats.of(url);
+        long start = stats.start();
+        boolean success = false;
+        CompletableFuture<HttpResponse<String>> future = null;
         try {
-            if (State.OPEN == state) {
-                throw new CircuitBreakerException("circuit is opened.");
-            }
-
-            timeout = timeout > 0 ? timeout : clientConfig.getTimeout();
-            HttpResponse<String> httpResponse = supplier.get().get(timeout, TimeUnit.MILLISECONDS);
-            if(stateHolder.get(url).get1().get() > 0) {
-                stateHolder.get(url).get1().decrementAndGet();
-            }
+            future = supplier.get();
+            HttpResponse<String> httpResponse = future.get(timeout, TimeUnit.MILLISECONDS);
+            success = httpResponse.statusCode() < 500;
             return httpResponse;
-        } catch (InterruptedException | ExecutionException e) {
-            throw e;
-        } catch (TimeoutException e) {
-            recordTimeout();
-            throw e;
-        }
-    }
-
-    private State checkState() {
-        if (stateHolder.get(url).get2().get() > 0 && clientConfig.getResetTimeout() > 0) {
-            if(Ready.currentTimeMillis() - stateHolder.get(url).get2().get() > clientConfig.getResetTimeout()) {
-                
-                if(stateHolder.get(url).get1().get() > clientConfig.getErrorThreshold()) {
-                    stateHolder.get(url).get1().set(clientConfig.getErrorThreshold());
-                } else { 
-                    stateHolder.get(url).get1().set(0);
+        } finally {
+            long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            // failed calls count as slow as the timeout, so the latency aware balancer backs off from them
+            stats.end(start, success, TimeUnit.MILLISECONDS.toNanos(timeout));
+            state.record(phase, success, latency, clientConfig);
+            // the bulkhead slot is held until the request really ends, not just until we stop waiting for it.
+            // the requests carry no timeout of their own, so one we gave up on is cancelled, otherwise a hanging
+            // request would never complete and keep its slot forever
+            if (future == null) {
+                state.release();
+            } else {
+                future.whenComplete((response, throwable) -> state.release());
+                if (!future.isDone()) {
+                    future.cancel(true);
                 }
-                stateHolder.get(url).get2().set(0);
             }
         }
-        if (stateHolder.get(url).get1().get() == clientConfig.getErrorThreshold()) {   
-            return State.HALF_OPEN;
-        }
-        if (stateHolder.get(url).get1().get() >= clientConfig.getErrorThreshold()) {
-            return State.OPEN;
-        }
-        return State.CLOSE;
-    }
-
-    private void recordTimeout() {
-        stateHolder.get(url).get1().incrementAndGet();
-        stateHolder.get(url).get2().set(Ready.currentTimeMillis());
     }
 
-    enum State {
+    public enum State {
         CLOSE,
         HALF_OPEN,
         OPEN
@@ -23,6 +23,7 @@ import work.ready.cloud.client.ClientConfig;
 import work.ready.cloud.config.ConfigClientConfig;
 import work.ready.cloud.config.ConfigServerConfig;
 import work.ready.cloud.transaction.loadbalance.DtxOptimizedLoadBalancer;
+import work.ready.cloud.loadbalance.LatencyAwareLoadBalancer;
 import work.ready.cloud.loadbalance.LoadBalancer;
 import work.ready.cloud.loadbalance.LocalFirstLoadBalancer;
 import work.ready.cloud.loadbalance.RoundRobinLoadBalancer;
@@ -128,9 +129,12 @@ public class CloudConfig extends BaseConfig {
     
     private transient Map<String, Class<? extends LoadBalancer>> supportedLoadBalancer = new HashMap<>(Map.of(
             RoundRobinLoadBalancer.name, RoundRobinLoadBalancer.class,
-            LocalFirstLoadBalancer.name, LocalFirstLoadBalancer.class
+            LocalFirstLoadBalancer.name, LocalFirstLoadBalancer.class,
+            LatencyAwareLoadBalancer.name, LatencyAwareLoadBalancer.class
     ));
 
+    private String zone;
+
     private boolean autoDiscover;
 
     private ClientConfig httpClient = new ClientConfig();
@@ -524,6 +528,15 @@ public class CloudConfig extends BaseConfig {
         return this.supportedLoadBalancer.get(name);
     }
 
+    public String getZone() {
+        return zone;
+    }
+
+    public CloudConfig setZone(String zone) {
+        this.zone = zone;
+        return this;
+    }
+
     public boolean isEnabledDistributedTransaction() {
         return enabledDistributedTransaction;
     }
@@ -0,0 +1,149 @@
+/**
+ *
+ * Copyright (c) 2020 WeiHua Lyu [ready.work]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package work.ready.cloud.jdbc.olap;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * One page of a result set kept column by column, numeric columns are held in primitive arrays
+ * so a large page does not retain a boxed object per cell.
+ */
+final class ColumnarPage {
+
+    static final ColumnarPage EMPTY = new ColumnarPage(0, new Object[0], new BitSet[0]);
+
+    private final int size;
+    private final Object[] columns;
+    private final BitSet[] nulls;
+
+    private ColumnarPage(int size, Object[] columns, BitSet[] nulls) {
+        this.size = size;
+        this.columns = columns;
+        this.nulls = nulls;
+    }
+
+    static ColumnarPage of(List<JdbcColumnInfo> columnInfos, List<List<Object>> rows) {
+        int size = rows.size();
+        int width = columnInfos.size();
+        Object[] columns = new Object[width];
+        BitSet[] nulls = new BitSet[width];
+        for (int c = 0; c < width; c++) {
+            EsType type = columnInfos.get(c).type;
+            BitSet nullBits = new BitSet();
+            Object column = null;
+            if (isIntegral(type)) {
+                column = toLongs(rows, c, nullBits);
+            } else if (isRational(type)) {
+                column = toDoubles(rows, c, nullBits);
+            }
+            if (column == null) {
+                // mixed or non numeric values are kept as they came from the server
+                Object[] values = new Object[size];
+                for (int r = 0; r < size; r++) {
+                    values[r] = rows.get(r).get(c);
+                }
+                column = values;
+                nullBits = null;
+            }
+            columns[c] = column;
+            nulls[c] = nullBits;
+        }
+        return new ColumnarPage(size, columns, nulls);
+    }
+
+    private static long[] toLongs(List<List<Object>> rows, int c, BitSet nullBits) {
+        long[] values = new long[rows.size()];
+        for (int r = 0; r < values.length; r++) {
+            Object value = rows.get(r).get(c);
+            if (value == null) {
+                nullBits.set(r);
+            } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                values[r] = ((Number) value).longValue();
+            } else {
+                return null;
+            }
+        }
+        return values;
+    }
+
+    private static double[] toDoubles(List<List<Object>> rows, int c, BitSet nullBits) {
+        double[] values = new double[rows.size()];
+        for (int r = 0; r < values.length; r++) {
+            Object value = rows.get(r).get(c);
+            if (value == null) {
+                nullBits.set(r);
+            } else if (value instanceof Double || value instanceof Float) {
+                values[r] = ((Number) value).doubleValue();
+            } else {
+                return null;
+            }
+        }
+        return values;
+    }
+
+    static boolean isIntegral(EsType type) {
+        return type == EsType.BYTE || type == EsType.SHORT || type == EsType.INTEGER || type == EsType.LONG;
+    }
+
+    static boolean isRational(EsType type) {
+        return type == EsType.DOUBLE || type == EsType.FLOAT || type == EsType.HALF_FLOAT || type == EsType.SCALED_FLOAT;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isNull(int row, int column) {
+        Object values = columns[column];
+        if (values instanceof Object[]) {
+            return ((Object[]) values)[row] == null;
+        }
+        return nulls[column].get(row);
+    }
+
+    Object get(int row, int column) {
+        Object values = columns[column];
+        if (values instanceof Object[]) {
+            return ((Object[]) values)[row];
+        }
+        if (nulls[column].get(row)) {
+            return null;
+        }
+        if (values instanceof long[]) {
+            return ((long[]) values)[row];
+        }
+        return ((double[]) values)[row];
+    }
+
+    boolean hasLongs(int column) {
+        return columns[column] instanceof long[];
+    }
+
+    boolean hasDoubles(int column) {
+        return columns[column] instanceof double[];
+    }
+
+    long getLong(int row, int column) {
+        return ((long[]) columns[column])[row];
+    }
+
+    double getDouble(int row, int column) {
+        return ((double[]) columns[column])[row];
+    }
+}
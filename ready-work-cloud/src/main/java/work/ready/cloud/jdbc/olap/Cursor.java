@@ -20,6 +20,27 @@ interface Cursor {
 
     Object column(int column);
 
+    default boolean isNull(int column) {
+        return column(column) == null;
+    }
+
+    // numeric columns held in primitive arrays can be read without boxing
+    default boolean hasLongs(int column) {
+        return false;
+    }
+
+    default long longColumn(int column) {
+        throw new UnsupportedOperationException();
+    }
+
+    default boolean hasDoubles(int column) {
+        return false;
+    }
+
+    default double doubleColumn(int column) {
+        throw new UnsupportedOperationException();
+    }
+
     int batchSize();
 
     void close() throws SQLException;
@@ -10,22 +10,28 @@ import work.ready.core.tools.define.BiTuple;
 import java.sql.SQLException;
 import java.util.List;
 
+import static work.ready.core.tools.StrUtil.EMPTY;
+
 class DefaultCursor implements Cursor {
 
     private final JdbcHttpClient client;
     private final RequestMeta meta;
 
     private final List<JdbcColumnInfo> columnInfos;
-    private List<List<Object>> rows;
+    private final PagePrefetcher prefetcher;
+    private ColumnarPage page;
     private int row = -1;
     private String cursor;
 
-    DefaultCursor(JdbcHttpClient client, String cursor, List<JdbcColumnInfo> columnInfos, List<List<Object>> rows, RequestMeta meta) {
+    DefaultCursor(JdbcHttpClient client, String cursor, List<JdbcColumnInfo> columnInfos, List<List<Object>> rows, RequestMeta meta,
+                  int prefetch) {
         this.client = client;
         this.meta = meta;
         this.cursor = cursor;
         this.columnInfos = columnInfos;
-        this.rows = rows;
+        this.page = ColumnarPage.of(columnInfos, rows);
+        this.prefetcher = prefetch > 0 && cursor.isEmpty() == false
+                ? new PagePrefetcher(client, cursor, columnInfos, meta, prefetch) : null;
     }
 
     @Override
@@ -35,15 +41,23 @@ class DefaultCursor implements Cursor {
 
     @Override
     public boolean next() throws SQLException {
-        if (row < rows.size() - 1) {
+        if (row < page.size() - 1) {
             row++;
             return true;
         }
         else {
-            if (cursor.isEmpty() == false) {
+            if (prefetcher != null) {
+                ColumnarPage nextPage = prefetcher.take();
+                if (nextPage != null) {
+                    page = nextPage;
+                    row = -1;
+                    return next();
+                }
+                cursor = EMPTY;
+            } else if (cursor.isEmpty() == false) {
                 BiTuple<String, List<List<Object>>> nextPage = client.nextPage(cursor, meta);
                 cursor = nextPage.get1();
-                rows = nextPage.get2();
+                page = ColumnarPage.of(columnInfos, nextPage.get2());
                 row = -1;
                 return next();
             }
@@ -53,17 +67,44 @@ class DefaultCursor implements Cursor {
 
     @Override
     public Object column(int column) {
-        return rows.get(row).get(column);
+        return page.get(row, column);
+    }
+
+    @Override
+    public boolean isNull(int column) {
+        return page.isNull(row, column);
+    }
+
+    @Override
+    public boolean hasLongs(int column) {
+        return page.hasLongs(column);
+    }
+
+    @Override
+    public long longColumn(int column) {
+        return page.getLong(row, column);
+    }
+
+    @Override
+    public boolean hasDoubles(int column) {
+        return page.hasDoubles(column);
+    }
+
+    @Override
+    public double doubleColumn(int column) {
+        return page.getDouble(row, column);
     }
 
     @Override
     public int batchSize() {
-        return rows.size();
+        return page.size();
     }
 
     @Override
     public void close() throws SQLException {
-        if (cursor.isEmpty() == false) {
+        if (prefetcher != null) {
+            prefetcher.close();
+        } else if (cursor.isEmpty() == false) {
             client.queryClose(cursor);
         }
     }
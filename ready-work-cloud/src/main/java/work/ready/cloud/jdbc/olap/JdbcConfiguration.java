@@ -46,8 +46,12 @@ public class JdbcConfiguration extends ConnectionConfiguration implements JdbcDe
     static final String INDEX_INCLUDE_FROZEN = "index.include.frozen";
     static final String INDEX_INCLUDE_FROZEN_DEFAULT = "false";
 
+    // number of pages fetched ahead while the current one is consumed, 0 fetches pages on demand
+    static final String PAGE_PREFETCH = "page.prefetch";
+    static final String PAGE_PREFETCH_DEFAULT = "0";
+
     private static final Set<String> OPTION_NAMES = new LinkedHashSet<>(
-            Arrays.asList(TIME_ZONE, FIELD_MULTI_VALUE_LENIENCY, INDEX_INCLUDE_FROZEN, DEBUG, DEBUG_OUTPUT, DEBUG_FLUSH_ALWAYS));
+            Arrays.asList(TIME_ZONE, FIELD_MULTI_VALUE_LENIENCY, INDEX_INCLUDE_FROZEN, PAGE_PREFETCH, DEBUG, DEBUG_OUTPUT, DEBUG_FLUSH_ALWAYS));
 
     static {
 
@@ -61,6 +65,7 @@ public class JdbcConfiguration extends ConnectionConfiguration implements JdbcDe
     private ZoneId zoneId;
     private boolean fieldMultiValueLeniency;
     private boolean includeFrozen;
+    private int pagePrefetch;
 
     public static JdbcConfiguration create(String u, Properties props, int loginTimeoutSeconds) throws JdbcSQLException {
         URI uri = parseUrl(u);
@@ -145,6 +150,7 @@ public class JdbcConfiguration extends ConnectionConfiguration implements JdbcDe
                 props.getProperty(FIELD_MULTI_VALUE_LENIENCY, FIELD_MULTI_VALUE_LENIENCY_DEFAULT), Boolean::parseBoolean);
         this.includeFrozen = parseValue(INDEX_INCLUDE_FROZEN, props.getProperty(INDEX_INCLUDE_FROZEN, INDEX_INCLUDE_FROZEN_DEFAULT),
                 Boolean::parseBoolean);
+        this.pagePrefetch = parseValue(PAGE_PREFETCH, props.getProperty(PAGE_PREFETCH, PAGE_PREFETCH_DEFAULT), Integer::parseInt);
     }
 
     @Override
@@ -183,6 +189,10 @@ public class JdbcConfiguration extends ConnectionConfiguration implements JdbcDe
         return includeFrozen;
     }
 
+    public int pagePrefetch() {
+        return pagePrefetch;
+    }
+
     public static boolean canAccept(String url) {
         String u = url.trim();
         return (StrUtil.notBlank(u) &&
@@ -53,7 +53,8 @@ class JdbcHttpClient {
                 conCfg.indexIncludeFrozen(),
                 conCfg.binaryCommunication());
         SqlQueryResponse response = httpClient.query(sqlRequest);
-        return new DefaultCursor(this, response.cursor(), toJdbcColumnInfo(response.columns()), response.rows(), meta);
+        return new DefaultCursor(this, response.cursor(), toJdbcColumnInfo(response.columns()), response.rows(), meta,
+                conCfg.pagePrefetch());
     }
 
     BiTuple<String, List<List<Object>>> nextPage(String cursor, RequestMeta meta) throws SQLException {
@@ -46,7 +46,7 @@ class JdbcResultSet implements ResultSet, JdbcWrapper {
         }
     }
 
-    private Object column(int columnIndex) throws SQLException {
+    private void checkColumn(int columnIndex) throws SQLException {
         checkOpen();
         if (columnIndex < 1 || columnIndex > cursor.columnSize()) {
             throw new SQLException("Invalid column index [" + columnIndex + "]");
@@ -54,6 +54,10 @@ class JdbcResultSet implements ResultSet, JdbcWrapper {
         if (wasLast || rowNumber < 1) {
             throw new SQLException("No row available");
         }
+    }
+
+    private Object column(int columnIndex) throws SQLException {
+        checkColumn(columnIndex);
         Object object = null;
         try {
             object = cursor.column(columnIndex - 1);
@@ -133,11 +137,22 @@ class JdbcResultSet implements ResultSet, JdbcWrapper {
 
     @Override
     public int getInt(int columnIndex) throws SQLException {
+        checkColumn(columnIndex);
+        EsType type = columnType(columnIndex);
+        if (type != LONG && cursor.hasLongs(columnIndex - 1)) {
+            wasNull = cursor.isNull(columnIndex - 1);
+            return wasNull ? 0 : (int) cursor.longColumn(columnIndex - 1);
+        }
         return column(columnIndex) != null ? getObject(columnIndex, Integer.class) : 0;
     }
 
     @Override
     public long getLong(int columnIndex) throws SQLException {
+        checkColumn(columnIndex);
+        if (cursor.hasLongs(columnIndex - 1)) {
+            wasNull = cursor.isNull(columnIndex - 1);
+            return wasNull ? 0 : cursor.longColumn(columnIndex - 1);
+        }
         return column(columnIndex) != null ? getObject(columnIndex, Long.class) : 0;
     }
 
@@ -148,6 +163,11 @@ class JdbcResultSet implements ResultSet, JdbcWrapper {
 
     @Override
     public double getDouble(int columnIndex) throws SQLException {
+        checkColumn(columnIndex);
+        if (cursor.hasDoubles(columnIndex - 1)) {
+            wasNull = cursor.isNull(columnIndex - 1);
+            return wasNull ? 0 : cursor.doubleColumn(columnIndex - 1);
+        }
         return column(columnIndex) != null ? getObject(columnIndex, Double.class) : 0;
     }
 
@@ -0,0 +1,169 @@
+/**
+ *
+ * Copyright (c) 2020 WeiHua Lyu [ready.work]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package work.ready.cloud.jdbc.olap;
+
+import work.ready.core.tools.ReadyThreadFactory;
+import work.ready.core.tools.define.BiTuple;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Walks the server side cursor on a background thread and keeps up to depth pages ready,
+ * page N+1 is requested while page N is still being consumed.
+ */
+class PagePrefetcher implements Runnable {
+
+    private static final ExecutorService executor = Executors.newCachedThreadPool(
+            new ReadyThreadFactory("OlapCursorPrefetch", Thread.NORM_PRIORITY, true));
+    private static final Fetched END = new Fetched(null, null);
+    private static final long OFFER_INTERVAL = 100;
+
+    private final JdbcHttpClient client;
+    private final List<JdbcColumnInfo> columnInfos;
+    private final RequestMeta meta;
+    private final BlockingQueue<Fetched> pages;
+
+    private final Object lock = new Object();
+    private String cursor;
+    private boolean inFlight;
+    private volatile boolean closed;
+
+    PagePrefetcher(JdbcHttpClient client, String cursor, List<JdbcColumnInfo> columnInfos, RequestMeta meta, int depth) {
+        this.client = client;
+        this.cursor = cursor;
+        this.columnInfos = columnInfos;
+        this.meta = meta;
+        this.pages = new ArrayBlockingQueue<>(depth);
+        executor.execute(this);
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            String current;
+            synchronized (lock) {
+                if (closed || cursor.isEmpty()) {
+                    break;
+                }
+                current = cursor;
+                inFlight = true;
+            }
+            Fetched fetched;
+            try {
+                BiTuple<String, List<List<Object>>> nextPage = client.nextPage(current, meta);
+                String next = nextPage.get1();
+                synchronized (lock) {
+                    inFlight = false;
+                    cursor = next;
+                    if (closed) {
+                        // the consumer is gone while the request was on the wire
+                        closeQuietly(next);
+                        return;
+                    }
+                }
+                fetched = new Fetched(ColumnarPage.of(columnInfos, nextPage.get2()), null);
+            } catch (SQLException | RuntimeException e) {
+                synchronized (lock) {
+                    inFlight = false;
+                }
+                fetched = new Fetched(null, e instanceof SQLException ? (SQLException) e : new SQLException(e.getMessage(), e));
+            }
+            if (!offer(fetched) || fetched.error != null) {
+                return;
+            }
+        }
+        offer(END);
+    }
+
+    private boolean offer(Fetched fetched) {
+        try {
+            while (!pages.offer(fetched, OFFER_INTERVAL, TimeUnit.MILLISECONDS)) {
+                if (closed) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // returns the next page, or null once the server cursor is exhausted
+    ColumnarPage take() throws SQLException {
+        Fetched fetched;
+        try {
+            fetched = pages.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for the next page", e);
+        }
+        if (fetched == END) {
+            pages.offer(END);
+            return null;
+        }
+        if (fetched.error != null) {
+            pages.offer(fetched);
+            throw fetched.error;
+        }
+        return fetched.page;
+    }
+
+    void close() throws SQLException {
+        String toClose = null;
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            // an in flight request closes the cursor it gets back by itself
+            if (!inFlight && !cursor.isEmpty()) {
+                toClose = cursor;
+            }
+        }
+        pages.clear();
+        if (toClose != null) {
+            client.queryClose(toClose);
+        }
+    }
+
+    private void closeQuietly(String cursor) {
+        if (!cursor.isEmpty()) {
+            try {
+                client.queryClose(cursor);
+            } catch (SQLException | RuntimeException e) {
+            }
+        }
+    }
+
+    private static class Fetched {
+        private final ColumnarPage page;
+        private final SQLException error;
+
+        private Fetched(ColumnarPage page, SQLException error) {
+            this.page = page;
+            this.error = error;
+        }
+    }
+}
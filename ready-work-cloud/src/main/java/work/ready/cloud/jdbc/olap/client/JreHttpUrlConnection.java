@@ -131,11 +131,15 @@ public class JreHttpUrlConnection implements Closeable {
                 }
             }
             if (shouldParseBody(con.getResponseCode())) {
-                try (InputStream stream = getStream(con, con.getInputStream())) {
-                    return new ResponseOrException<>(parser.apply(
+                InputStream raw = con.getInputStream();
+                try (InputStream stream = getStream(con, raw)) {
+                    R response = parser.apply(
                             new BufferedInputStream(stream),
                             con::getHeaderField
-                            ));
+                            );
+                    // a fully read body lets the socket go back to the keep-alive cache instead of being dropped on close
+                    drain(raw);
+                    return new ResponseOrException<>(response);
                 }
             }
             return parserError();
@@ -237,20 +241,26 @@ public class JreHttpUrlConnection implements Closeable {
 
     private void consumeStreams() {
         try (InputStream in = con.getInputStream()) {
-            while (in != null && in.read() > -1) {
-            }
+            drain(in);
         } catch (IOException ex) {
             
         } finally {
             try (InputStream ein = con.getErrorStream()) {
-                while (ein != null && ein.read() > -1) {
-                }
+                drain(ein);
             } catch (IOException ex) {
                 
             }
         }
     }
 
+    private static void drain(InputStream stream) throws IOException {
+        if (stream != null) {
+            byte[] buffer = new byte[512];
+            while (stream.read(buffer) > -1) {
+            }
+        }
+    }
+
     public enum SqlExceptionType {
         UNKNOWN(SQLException::new),
         SERIAL(SerialException::new),
@@ -0,0 +1,136 @@
+/**
+ *
+ * Copyright (c) 2020 WeiHua Lyu [ready.work]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package work.ready.cloud.loadbalance;
+
+import work.ready.cloud.ReadyCloud;
+import work.ready.cloud.client.clevercall.CircuitBreaker;
+import work.ready.cloud.registry.base.URL;
+import work.ready.cloud.registry.base.URLParam;
+import work.ready.core.log.Log;
+import work.ready.core.log.LogFactory;
+import work.ready.core.tools.StrUtil;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Power of two choices: two random instances are compared by peak EWMA latency times outstanding calls and the
+ * cheaper one wins, so slow or busy instances shed traffic without starving. Instances in the same zone are
+ * preferred when the local node has a zone configured.
+ */
+public class LatencyAwareLoadBalancer implements LoadBalancer {
+    private static Log logger = LogFactory.getLog(LatencyAwareLoadBalancer.class);
+    public static final String name = "LatencyAware";
+    private static final int PURGE_INTERVAL = 10000;
+
+    private final String zone;
+    private final AtomicInteger selections = new AtomicInteger();
+
+    public LatencyAwareLoadBalancer() {
+        zone = ReadyCloud.getConfig().getZone();
+        if(logger.isInfoEnabled()) logger.info("A LatencyAwareLoadBalancer instance is started");
+    }
+
+    @Override
+    public URL select(String serviceId, List<URL> urls, Function<URL, Integer> unstableCheck, String requestKey) {
+        if (getPositive(selections.incrementAndGet()) % PURGE_INTERVAL == 0) {
+            ServiceStats.purgeIdle();
+        }
+        URL url = null;
+        if (urls.size() > 1) {
+            List<URL> zoneUrls = searchZoneUrls(urls);
+            if (zoneUrls.size() > 0) {
+                url = doSelect(zoneUrls, unstableCheck);
+            }
+            if (url == null) {
+                url = doSelect(urls, unstableCheck);
+            }
+        } else if (urls.size() == 1) {
+            url = urls.get(0);
+            if(unstableCheck.apply(url) >= CircuitBreaker.MAX_UNSTABLE_LEVEL) {
+                if(logger.isWarnEnabled()) logger.warn(url + " is very unstable, but there is no choice.");
+            }
+        }
+        return url;
+    }
+
+    protected URL doSelect(List<URL> urls, Function<URL, Integer> unstableCheck) {
+        int size = urls.size();
+        if (size == 1) {
+            URL url = urls.get(0);
+            return unstableCheck.apply(url) >= CircuitBreaker.MAX_UNSTABLE_LEVEL ? null : url;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) second++;
+
+        URL best = null;
+        double bestCost = Double.MAX_VALUE;
+        for (URL url : new URL[]{ urls.get(first), urls.get(second) }) {
+            double cost = cost(url, unstableCheck);
+            if (cost < bestCost) {
+                best = url;
+                bestCost = cost;
+            }
+        }
+        if (best != null) {
+            return best;
+        }
+
+        for (URL url : urls) {
+            double cost = cost(url, unstableCheck);
+            if (cost < bestCost) {
+                best = url;
+                bestCost = cost;
+            }
+        }
+        if (best == null && logger.isWarnEnabled()) {
+            logger.warn("all instances of " + urls.get(0).getPath() + " are very unstable, temporarily unavailable.");
+        }
+        return best;
+    }
+
+    // very unstable instances are not eligible, otherwise the registry stability level scales the cost up to twice
+    private double cost(URL url, Function<URL, Integer> unstableCheck) {
+        int unstableLevel = unstableCheck.apply(url);
+        if (unstableLevel >= CircuitBreaker.MAX_UNSTABLE_LEVEL) {
+            return Double.MAX_VALUE;
+        }
+        ServiceStats stats = ServiceStats.peek(url);
+        double latency = stats == null ? 0 : stats.getLatency();
+        int inFlight = stats == null ? 0 : stats.getInFlight();
+        double unstable = 1 + (double) Math.max(unstableLevel, 0) / CircuitBreaker.MAX_UNSTABLE_LEVEL;
+        return (latency + 1) * (inFlight + 1) * unstable;
+    }
+
+    private List<URL> searchZoneUrls(List<URL> urls) {
+        List<URL> zoneUrls = new ArrayList<>();
+        if (StrUtil.notBlank(zone)) {
+            for (URL url : urls) {
+                if (zone.equals(url.getParameter(URLParam.zone.getName()))) {
+                    zoneUrls.add(url);
+                }
+            }
+        }
+        return zoneUrls;
+    }
+}
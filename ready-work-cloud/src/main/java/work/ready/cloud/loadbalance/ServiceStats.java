@@ -0,0 +1,95 @@
+/**
+ *
+ * Copyright (c) 2020 WeiHua Lyu [ready.work]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package work.ready.cloud.loadbalance;
+
+import work.ready.cloud.registry.base.URL;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Outstanding calls and peak EWMA latency of a service instance, fed by the CircuitBreaker around every call.
+ * A slower sample replaces the average at once, faster ones pull it back with a time based decay.
+ */
+public class ServiceStats {
+
+    private static final Map<URL, ServiceStats> stats = new ConcurrentHashMap<>();
+    private static final double DECAY_NANOS = TimeUnit.SECONDS.toNanos(10);
+    private static final long IDLE_NANOS = TimeUnit.MINUTES.toNanos(10);
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private double latency;
+    private long lastUpdate;
+
+    private ServiceStats() {
+        lastUpdate = System.nanoTime();
+    }
+
+    public static ServiceStats of(URL url) {
+        return stats.computeIfAbsent(url, k -> new ServiceStats());
+    }
+
+    public static ServiceStats peek(URL url) {
+        return stats.get(url);
+    }
+
+    // instances that left the registry are dropped once they have been idle for a while
+    public static void purgeIdle() {
+        long now = System.nanoTime();
+        stats.values().removeIf(s -> s.inFlight.get() == 0 && now - s.lastUpdate() > IDLE_NANOS);
+    }
+
+    public long start() {
+        inFlight.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    public void end(long start, boolean success, long failurePenaltyNanos) {
+        inFlight.decrementAndGet();
+        long now = System.nanoTime();
+        double sample = now - start;
+        if (!success) {
+            sample = Math.max(sample, failurePenaltyNanos);
+        }
+        synchronized (this) {
+            if (sample > latency) {
+                latency = sample;
+            } else {
+                double weight = Math.exp(-(now - lastUpdate) / DECAY_NANOS);
+                latency = latency * weight + sample * (1 - weight);
+            }
+            lastUpdate = now;
+        }
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    // decays towards zero while the instance gets no traffic, so a once slow instance is probed again
+    public synchronized double getLatency() {
+        long elapsed = System.nanoTime() - lastUpdate;
+        return latency * Math.exp(-elapsed / DECAY_NANOS);
+    }
+
+    private synchronized long lastUpdate() {
+        return lastUpdate;
+    }
+}
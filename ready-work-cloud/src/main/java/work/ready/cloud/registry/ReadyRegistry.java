@@ -39,6 +39,7 @@ import work.ready.core.log.Log;
 import work.ready.core.log.LogFactory;
 import work.ready.core.module.Application;
 import work.ready.core.server.Ready;
+import work.ready.core.tools.StrUtil;
 import work.ready.core.tools.define.TriTuple;
 
 import javax.cache.Cache;
@@ -216,6 +217,9 @@ public class ReadyRegistry extends NotifierRegistry {
             parameters.put(URLParam.nodeId.getName(), Cloud.cluster().localNode().id().toString());
             parameters.put(URLParam.nodeConsistentId.getName(), Cloud.cluster().localNode().consistentId().toString());
             parameters.put(URLParam.environment.getName(), Ready.getBootstrapConfig().getActiveProfile());
+            if (StrUtil.notBlank(ReadyCloud.getConfig().getZone())) {
+                parameters.putIfAbsent(URLParam.zone.getName(), ReadyCloud.getConfig().getZone());
+            }
             URL applicationUrl = new URL(protocol, ipAddress, port, serviceId, parameters);
             if (logger.isInfoEnabled()) logger.info("register service: " + applicationUrl.toFullStr());
             register(applicationUrl);
@@ -239,6 +243,9 @@ public class ReadyRegistry extends NotifierRegistry {
             parameters.put(URLParam.nodeId.getName(), Cloud.cluster().localNode().id().toString());
             parameters.put(URLParam.nodeConsistentId.getName(), Cloud.cluster().localNode().consistentId().toString());
             parameters.put(URLParam.environment.getName(), Ready.getBootstrapConfig().getActiveProfile());
+            if (StrUtil.notBlank(ReadyCloud.getConfig().getZone())) {
+                parameters.putIfAbsent(URLParam.zone.getName(), ReadyCloud.getConfig().getZone());
+            }
             URL applicationUrl = new URL(protocol, ipAddress, port, serviceId, parameters);
             if (logger.isInfoEnabled()) logger.info("register service: " + applicationUrl.toFullStr());
             register(applicationUrl);
@@ -73,6 +73,7 @@ public enum URLParam {
     nodeType("nodeType", Constant.NODE_TYPE_APPLICATION),
     nodeId("nodeId", ""),
     nodeConsistentId("nodeConsistentId", ""),
+    zone("zone", ""),
 
     healthCheck("healthCheck", false),
     healthCheckPath("healthCheckPath", ""),
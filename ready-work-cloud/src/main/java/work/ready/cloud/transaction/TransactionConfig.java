@@ -42,6 +42,8 @@ public class TransactionConfig extends BaseConfig {
 
     private boolean optimizeLoadBalancer = true;
 
+    private boolean undoLogCompression = true;
+
     public String getDefaultType() {
         return defaultType;
     }
@@ -106,6 +108,14 @@ public class TransactionConfig extends BaseConfig {
         this.optimizeLoadBalancer = optimizeLoadBalancer;
     }
 
+    public boolean isUndoLogCompression() {
+        return undoLogCompression;
+    }
+
+    public void setUndoLogCompression(boolean undoLogCompression) {
+        this.undoLogCompression = undoLogCompression;
+    }
+
     public TxLoggerConfig getTxLogger() {
         return txLogger;
     }
@@ -42,6 +42,6 @@ public interface FastStorage {
 
     void acquireLocks(String contextId, Map<String, Set<String>> lockMap, LockValue lockValue) throws FastStorageException;
 
-    void releaseLocks(String contextId, Map<String, Set<String>> lockMap) throws FastStorageException;
+    void releaseLocks(String contextId, String groupId, Map<String, Set<String>> lockMap) throws FastStorageException;
 
 }
@@ -20,6 +20,7 @@ package work.ready.cloud.transaction.coordination.core.storage;
 
 import org.apache.ignite.IgniteCache;
 import org.apache.ignite.cache.CacheAtomicityMode;
+import org.apache.ignite.cache.CacheEntryProcessor;
 import org.apache.ignite.cache.CacheMode;
 import org.apache.ignite.cache.CacheRebalanceMode;
 import org.apache.ignite.configuration.CacheConfiguration;
@@ -31,16 +32,30 @@ import work.ready.cloud.transaction.common.lock.DtxLocks;
 import work.ready.core.log.Log;
 import work.ready.core.log.LogFactory;
 
+import javax.cache.CacheException;
+import javax.cache.expiry.Duration;
+import javax.cache.expiry.ModifiedExpiryPolicy;
+import javax.cache.processor.EntryProcessorException;
+import javax.cache.processor.EntryProcessorResult;
+import javax.cache.processor.MutableEntry;
 import java.util.*;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 public class IgniteStorage implements FastStorage {
     private static final Log logger = LogFactory.getLog(IgniteStorage.class);
     public static final String transactionCacheName = "ready.work:transaction";
     public static final String transactionStateCacheName = "ready.work:transaction:state";
-    public static final String txcLockCacheName = "ready.work:transaction:txcLock";
+    public static final String txcLockCacheName = "ready.work:transaction:txcRowLock";
+    private static final int MAX_REPORTED_CONFLICTS = 10;
+    // outcomes of AcquireProcessor for a single row
+    static final int ACQUIRED = 0;
+    static final int REENTERED = 1;
+    static final int UPGRADED = 2;
+    static final int CONFLICT = 3;
+
     private IgniteCache<String, Map<String, TransactionUnit>> TRANSACTION_CACHE;
-    private IgniteCache<String, Map<String, LockValue>> TXC_LOCK_CACHE;
+    private IgniteCache<String, RowLock> TXC_LOCK_CACHE;
     private IgniteCache<String, Integer> TRANSACTION_STATE_CACHE;
     private TransactionConfig config;
 
@@ -61,9 +76,10 @@ public class IgniteStorage implements FastStorage {
         txCacheConfig.setName(transactionCacheName);
         TRANSACTION_CACHE = Cloud.getOrCreateCache(txCacheConfig);
 
-        CacheConfiguration<String, Map<String, LockValue>> lockCacheConfig = new CacheConfiguration<>();
-        lockCacheConfig.setAtomicityMode(CacheAtomicityMode.TRANSACTIONAL);
-        lockCacheConfig.setCacheMode(CacheMode.REPLICATED);
+        // one entry per locked row, spread over the cluster. entry processors keep every row atomic without a cluster transaction
+        CacheConfiguration<String, RowLock> lockCacheConfig = new CacheConfiguration<>();
+        lockCacheConfig.setAtomicityMode(CacheAtomicityMode.ATOMIC);
+        lockCacheConfig.setCacheMode(CacheMode.PARTITIONED);
         lockCacheConfig.setRebalanceMode(CacheRebalanceMode.SYNC);
         lockCacheConfig.setDataRegionName(Cloud.WITHOUT_PERSISTENCE);
         lockCacheConfig.setEagerTtl(true);
@@ -148,55 +164,156 @@ public class IgniteStorage implements FastStorage {
             return;
         }
 
-        try (Transaction tx = Cloud.transactions().txStart()) {
-            for(var entry : lockMap.entrySet()) {
-                if(TXC_LOCK_CACHE.containsKey(entry.getKey())) {
-                    Map<String, LockValue> locks = TXC_LOCK_CACHE.get(entry.getKey());
-                    
-                    boolean lockConflict = locks.entrySet().stream()
-                            .filter(each -> entry.getValue().contains(each.getKey()))
-                            .filter(each -> !each.getValue().getGroupId().equals(lockValue.getGroupId()))
-                            .anyMatch(each -> each.getValue().getLockType() == DtxLocks.X_LOCK || lockValue.getLockType() != DtxLocks.S_LOCK);
-                    if (lockConflict) {
-                        throw new FastStorageException("acquire locks fail.", FastStorageException.EX_CODE_REPEAT_LOCK);
-                    }
-
-                    entry.getValue().forEach(k -> {
-
-                        if(locks.containsKey(k) && locks.get(k).getLockType() == DtxLocks.X_LOCK && lockValue.getLockType() == DtxLocks.S_LOCK) {
-                            LockValue mergedLock = new LockValue(lockValue.getGroupId(), DtxLocks.X_LOCK);
-                            locks.put(k, mergedLock);
-                        } else {
-                            locks.put(k, lockValue);
-                        }
-                    });
-                    
-                    Cloud.putWithExpiration(TXC_LOCK_CACHE, entry.getKey(), locks, config.getTxTimeout());
-                } else {
-                    Map<String, LockValue> locks = entry.getValue().stream().collect(Collectors.toMap(lock -> lock, lock -> lockValue));
-                    Cloud.putWithExpiration(TXC_LOCK_CACHE, entry.getKey(), locks, config.getTxTimeout());
+        String groupId = lockValue.getGroupId();
+        Map<String, EntryProcessorResult<Integer>> results;
+        try {
+            results = lockCache().invokeAll(rowKeys(lockMap), new AcquireProcessor(groupId, lockValue.getLockType()));
+        } catch (CacheException e) {
+            throw new FastStorageException("acquire locks fail.", e, FastStorageException.EX_CODE_ACQUIRE_ERROR);
+        }
+
+        Set<String> acquired = new HashSet<>();
+        Set<String> upgraded = new HashSet<>();
+        Set<String> conflicts = new TreeSet<>();
+        FastStorageException error = null;
+        for (var entry : results.entrySet()) {
+            try {
+                int result = entry.getValue().get();
+                if (result == ACQUIRED) {
+                    acquired.add(entry.getKey());
+                } else if (result == UPGRADED) {
+                    upgraded.add(entry.getKey());
+                } else if (result == CONFLICT) {
+                    conflicts.add(entry.getKey());
                 }
+            } catch (EntryProcessorException e) {
+                error = new FastStorageException("acquire lock of " + entry.getKey() + " fail.", e, FastStorageException.EX_CODE_ACQUIRE_ERROR);
             }
-            tx.commit();
         }
+        if (conflicts.isEmpty() && error == null) {
+            return;
+        }
+
+        // give back what this attempt took, so the retry of this group does not block others meanwhile
+        if (!acquired.isEmpty()) {
+            lockCache().invokeAll(acquired, new ReleaseProcessor(groupId, false));
+        }
+        if (!upgraded.isEmpty()) {
+            lockCache().invokeAll(upgraded, new ReleaseProcessor(groupId, true));
+        }
+        if (error != null) {
+            throw error;
+        }
+        throw new FastStorageException("acquire locks fail, rows are locked by other transactions: " + describeConflicts(conflicts),
+                FastStorageException.EX_CODE_REPEAT_LOCK);
     }
 
     @Override
-    public void releaseLocks(String contextId, Map<String, Set<String>> lockMap) throws FastStorageException {
-        try (Transaction tx = Cloud.transactions().txStart()) {
-            for(var entry : lockMap.entrySet()) {
-                Map<String, LockValue> locks = TXC_LOCK_CACHE.get(entry.getKey());
-                if(locks != null && !locks.isEmpty()) {
-                    entry.getValue().forEach(locks::remove);
+    public void releaseLocks(String contextId, String groupId, Map<String, Set<String>> lockMap) throws FastStorageException {
+        if (lockMap == null || lockMap.isEmpty()) {
+            return;
+        }
+        try {
+            TXC_LOCK_CACHE.invokeAll(rowKeys(lockMap), new ReleaseProcessor(groupId, false));
+        } catch (CacheException e) {
+            throw new FastStorageException("release locks fail.", e, FastStorageException.EX_CODE_ACQUIRE_ERROR);
+        }
+    }
+
+    // every write restarts the ttl, so a group joining a shared lock keeps it alive for its own timeout
+    private IgniteCache<String, RowLock> lockCache() {
+        return TXC_LOCK_CACHE.withExpiryPolicy(new ModifiedExpiryPolicy(new Duration(TimeUnit.MILLISECONDS, config.getTxTimeout())));
+    }
+
+    // sorted, so concurrent batches touch the rows in the same order
+    private static Set<String> rowKeys(Map<String, Set<String>> lockMap) {
+        Set<String> rowKeys = new TreeSet<>();
+        for (var entry : lockMap.entrySet()) {
+            for (String lockId : entry.getValue()) {
+                rowKeys.add(entry.getKey() + '#' + lockId);
+            }
+        }
+        return rowKeys;
+    }
+
+    private String describeConflicts(Set<String> conflicts) {
+        Map<String, RowLock> holders = TXC_LOCK_CACHE.getAll(conflicts.stream().limit(MAX_REPORTED_CONFLICTS).collect(Collectors.toSet()));
+        String report = conflicts.stream().limit(MAX_REPORTED_CONFLICTS)
+                .map(key -> key + "=" + holders.get(key))
+                .collect(Collectors.joining(", ", "[", conflicts.size() > MAX_REPORTED_CONFLICTS ? ", ...]" : "]"));
+        return conflicts.size() + " " + report;
+    }
+
+    static final class AcquireProcessor implements CacheEntryProcessor<String, RowLock, Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final String groupId;
+        private final int lockType;
+
+        AcquireProcessor(String groupId, int lockType) {
+            this.groupId = groupId;
+            this.lockType = lockType;
+        }
+
+        @Override
+        public Integer process(MutableEntry<String, RowLock> entry, Object... arguments) {
+            RowLock lock = entry.getValue();
+            if (lock == null || lock.getGroups().isEmpty()) {
+                entry.setValue(new RowLock(groupId, lockType));
+                return ACQUIRED;
+            }
+            if (lock.isHeldOnlyBy(groupId)) {
+                // an exclusive lock already covers a shared one of the same group
+                if (lock.getLockType() == DtxLocks.S_LOCK && lockType == DtxLocks.X_LOCK) {
+                    lock.setLockType(DtxLocks.X_LOCK);
+                    entry.setValue(lock);
+                    return UPGRADED;
+                }
+                return REENTERED;
+            }
+            if (lock.getLockType() == DtxLocks.S_LOCK && lockType == DtxLocks.S_LOCK) {
+                if (lock.getGroups().add(groupId)) {
+                    entry.setValue(lock);
+                    return ACQUIRED;
+                }
+                return REENTERED;
+            }
+            return CONFLICT;
+        }
+    }
+
+    static final class ReleaseProcessor implements CacheEntryProcessor<String, RowLock, Void> {
+        private static final long serialVersionUID = 1L;
+
+        private final String groupId;
+        private final boolean downgrade;
+
+        ReleaseProcessor(String groupId, boolean downgrade) {
+            this.groupId = groupId;
+            this.downgrade = downgrade;
+        }
+
+        @Override
+        public Void process(MutableEntry<String, RowLock> entry, Object... arguments) {
+            RowLock lock = entry.getValue();
+            if (lock == null) {
+                return null;
+            }
+            if (downgrade) {
+                if (lock.isHeldOnlyBy(groupId)) {
+                    lock.setLockType(DtxLocks.S_LOCK);
+                    entry.setValue(lock);
                 }
-                if(locks == null || locks.isEmpty()) {
-                    TXC_LOCK_CACHE.remove(entry.getKey());
+            } else if (groupId == null) {
+                entry.remove();
+            } else if (lock.getGroups().remove(groupId)) {
+                if (lock.getGroups().isEmpty()) {
+                    entry.remove();
                 } else {
-                    
-                    Cloud.putWithExpiration(TXC_LOCK_CACHE, entry.getKey(), locks, config.getTxTimeout());
+                    entry.setValue(lock);
                 }
             }
-            tx.commit();
+            return null;
         }
     }
 }
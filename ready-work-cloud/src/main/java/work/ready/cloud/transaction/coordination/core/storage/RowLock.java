@@ -0,0 +1,72 @@
+/**
+ *
+ * Copyright (c) 2020 WeiHua Lyu [ready.work]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package work.ready.cloud.transaction.coordination.core.storage;
+
+import work.ready.cloud.transaction.common.lock.DtxLocks;
+
+import java.io.Serializable;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Lock on a single data row, shared locks keep every group holding them.
+ */
+public class RowLock implements Serializable {
+
+    private int lockType;
+
+    private Set<String> groups = new HashSet<>();
+
+    public RowLock() {
+
+    }
+
+    public RowLock(String groupId, int lockType) {
+        this.lockType = lockType;
+        this.groups.add(groupId);
+    }
+
+    public int getLockType() {
+        return lockType;
+    }
+
+    public void setLockType(int lockType) {
+        this.lockType = lockType;
+    }
+
+    public Set<String> getGroups() {
+        return groups;
+    }
+
+    public void setGroups(Set<String> groups) {
+        this.groups = groups;
+    }
+
+    public boolean isHeldBy(String groupId) {
+        return groups.contains(groupId);
+    }
+
+    public boolean isHeldOnlyBy(String groupId) {
+        return groups.size() == 1 && groups.contains(groupId);
+    }
+
+    @Override
+    public String toString() {
+        return (lockType == DtxLocks.X_LOCK ? "X" : "S") + groups;
+    }
+}
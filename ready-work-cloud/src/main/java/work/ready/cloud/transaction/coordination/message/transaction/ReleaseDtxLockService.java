@@ -39,7 +39,7 @@ public class ReleaseDtxLockService implements CoordinationCmdService {
     public Serializable execute(TransactionCmd transactionCmd) throws TxCoordinationException {
         DtxLockParams dtxLockParams = transactionCmd.getMessage().loadBean(DtxLockParams.class);
         try {
-            fastStorage.releaseLocks(dtxLockParams.getContextId(), dtxLockParams.getLockMap());
+            fastStorage.releaseLocks(dtxLockParams.getContextId(), dtxLockParams.getGroupId(), dtxLockParams.getLockMap());
             return true;
         } catch (FastStorageException e) {
             throw new TxCoordinationException(e);
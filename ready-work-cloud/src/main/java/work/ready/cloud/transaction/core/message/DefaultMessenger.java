@@ -54,8 +54,8 @@ public class DefaultMessenger implements ReliableMessenger {
     }
 
     @Override
-    public void releaseLocks(Map<String, Set<String>> lockMap) throws MessageException {
-        MessageBody messageBody = request(MessageCreator.releaseLocks(lockMap));
+    public void releaseLocks(String groupId, Map<String, Set<String>> lockMap) throws MessageException {
+        MessageBody messageBody = request(MessageCreator.releaseLocks(groupId, lockMap));
         if (!messageBody.isStateOk()) {
             throw new MessageException("release locks fail.");
         }
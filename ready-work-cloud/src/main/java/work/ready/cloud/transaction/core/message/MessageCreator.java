@@ -65,8 +65,9 @@ public class MessageCreator {
         return messageBody;
     }
 
-    public static MessageBody releaseLocks(Map<String, Set<String>> lockMap) {
+    public static MessageBody releaseLocks(String groupId, Map<String, Set<String>> lockMap) {
         DtxLockParams dtxLockParams = new DtxLockParams();
+        dtxLockParams.setGroupId(groupId);
         dtxLockParams.setContextId(Transaction.APPLICATION_ID);
         dtxLockParams.setLockMap(lockMap);
         MessageBody messageBody = new MessageBody();
@@ -29,7 +29,7 @@ public interface ReliableMessenger {
     
     boolean acquireLocks(String groupId, Map<String, Set<String>> lockMap, int type) throws MessageException;
 
-    void releaseLocks(Map<String, Set<String>> lockMap) throws MessageException;
+    void releaseLocks(String groupId, Map<String, Set<String>> lockMap) throws MessageException;
 
     int notifyGroup(String groupId, int transactionState) throws MessageException, TxBusinessException;
 
@@ -24,6 +24,7 @@ import work.ready.cloud.transaction.core.transaction.txc.TxcTransactionType;
 import work.ready.cloud.transaction.core.transaction.txc.analyse.bean.*;
 import work.ready.cloud.transaction.core.transaction.txc.analyse.util.SqlUtils;
 import work.ready.cloud.transaction.core.transaction.txc.logger.TxcLogHelper;
+import work.ready.cloud.transaction.core.transaction.txc.logger.UndoLogCodec;
 import work.ready.cloud.transaction.core.transaction.txc.analyse.undo.TableRecord;
 import work.ready.cloud.transaction.core.transaction.txc.analyse.undo.TableRecordList;
 import work.ready.cloud.transaction.core.transaction.txc.analyse.undo.UndoLogAnalyser;
@@ -77,7 +78,7 @@ public class DefaultTxcService implements TxcService {
 
     private void saveUndoLog(String datasource, String groupId, String unitId, int sqlType, TableRecordList recordList) throws TxcLogicException {
         UndoLogDO undoLogDO = new UndoLogDO();
-        undoLogDO.setRollbackInfo(SqlUtils.objectToBlob(recordList));
+        undoLogDO.setRollbackInfo(UndoLogCodec.encode(recordList, Cloud.getTransactionManager().getConfig().isUndoLogCompression()));
         undoLogDO.setUnitId(unitId);
         undoLogDO.setGroupId(groupId);
         undoLogDO.setDatasource(datasource);
@@ -233,7 +234,7 @@ public class DefaultTxcService implements TxcService {
     public void cleanTxc(String groupId, String unitId) throws TxcLogicException {
         
         try {
-            reliableMessenger.releaseLocks(txcTransaction.findTxcLockSet(groupId, unitId));
+            reliableMessenger.releaseLocks(groupId, txcTransaction.findTxcLockSet(groupId, unitId));
         } catch (MessageException e) {
             throw new TxcLogicException(e);
         } catch (DtxNodeContextException e) {
@@ -255,7 +256,7 @@ public class DefaultTxcService implements TxcService {
 
             Collections.reverse(undoLogDOList);
             for (UndoLogDO undoLogDO : undoLogDOList) {
-                TableRecordList tableRecords = SqlUtils.blobToObject(undoLogDO.getRollbackInfo());
+                TableRecordList tableRecords = UndoLogCodec.decode(undoLogDO.getRollbackInfo());
                 List<StatementInfo> statementInfoList = statementInfo.computeIfAbsent(undoLogDO.getDatasource(), k->new ArrayList<>());
                 switch (undoLogDO.getSqlType()) {
                     case SqlUtils.SQL_TYPE_UPDATE:
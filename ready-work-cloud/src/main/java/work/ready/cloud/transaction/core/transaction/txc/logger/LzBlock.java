@@ -0,0 +1,140 @@
+/**
+ *
+ * Copyright (c) 2020 WeiHua Lyu [ready.work]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package work.ready.cloud.transaction.core.transaction.txc.logger;
+
+import java.util.Arrays;
+
+/**
+ * LZ4 style block compression: runs of literals followed by back references of at least 4 bytes within 64KB.
+ * Favours speed over ratio, the undo images it is used for are small and written on the transaction path.
+ */
+final class LzBlock {
+
+    private static final int MIN_MATCH = 4;
+    private static final int MAX_OFFSET = 65535;
+    private static final int LAST_LITERALS = 5;
+    private static final int MATCH_FIND_LIMIT = 12;
+    private static final int HASH_BITS = 12;
+
+    private LzBlock() {
+    }
+
+    static byte[] compress(byte[] src) {
+        int length = src.length;
+        byte[] out = new byte[length + length / 255 + 16];
+        int[] table = new int[1 << HASH_BITS];
+        int anchor = 0, ip = 0, op = 0;
+        while (ip < length - MATCH_FIND_LIMIT) {
+            int sequence = readInt(src, ip);
+            int hash = (sequence * -1640531535) >>> (32 - HASH_BITS);
+            int ref = table[hash] - 1;
+            table[hash] = ip + 1;
+            if (ref < 0 || ip - ref > MAX_OFFSET || readInt(src, ref) != sequence) {
+                ip++;
+                continue;
+            }
+            int matchLength = MIN_MATCH;
+            while (ip + matchLength < length - LAST_LITERALS && src[ref + matchLength] == src[ip + matchLength]) {
+                matchLength++;
+            }
+            op = writeSequence(out, op, src, anchor, ip - anchor, ip - ref, matchLength);
+            ip += matchLength;
+            anchor = ip;
+        }
+        op = writeSequence(out, op, src, anchor, length - anchor, 0, 0);
+        return Arrays.copyOf(out, op);
+    }
+
+    static byte[] decompress(byte[] src, int offset, int length, int originalLength) {
+        byte[] dst = new byte[originalLength];
+        int ip = offset, end = offset + length, op = 0;
+        while (ip < end) {
+            int token = src[ip++] & 0xFF;
+            int literalLength = token >>> 4;
+            if (literalLength == 15) {
+                int b;
+                do {
+                    b = src[ip++] & 0xFF;
+                    literalLength += b;
+                } while (b == 255);
+            }
+            System.arraycopy(src, ip, dst, op, literalLength);
+            ip += literalLength;
+            op += literalLength;
+            if (ip >= end) {
+                break;
+            }
+            int distance = (src[ip++] & 0xFF) | (src[ip++] & 0xFF) << 8;
+            int matchLength = token & 0x0F;
+            if (matchLength == 15) {
+                int b;
+                do {
+                    b = src[ip++] & 0xFF;
+                    matchLength += b;
+                } while (b == 255);
+            }
+            matchLength += MIN_MATCH;
+            int ref = op - distance;
+            if (distance == 0 || ref < 0) {
+                throw new IllegalStateException("corrupted compressed block at " + (ip - offset));
+            }
+            // byte by byte, the match may overlap what it is copying
+            for (int i = 0; i < matchLength; i++) {
+                dst[op++] = dst[ref++];
+            }
+        }
+        if (op != originalLength) {
+            throw new IllegalStateException("corrupted compressed block, expected " + originalLength + " bytes but got " + op);
+        }
+        return dst;
+    }
+
+    private static int writeSequence(byte[] out, int op, byte[] src, int literalStart, int literalLength, int distance, int matchLength) {
+        int tokenPos = op++;
+        int token = Math.min(literalLength, 15) << 4;
+        if (literalLength >= 15) {
+            op = writeLength(out, op, literalLength - 15);
+        }
+        System.arraycopy(src, literalStart, out, op, literalLength);
+        op += literalLength;
+        if (matchLength > 0) {
+            out[op++] = (byte) distance;
+            out[op++] = (byte) (distance >>> 8);
+            int extra = matchLength - MIN_MATCH;
+            token |= Math.min(extra, 15);
+            if (extra >= 15) {
+                op = writeLength(out, op, extra - 15);
+            }
+        }
+        out[tokenPos] = (byte) token;
+        return op;
+    }
+
+    private static int writeLength(byte[] out, int op, int length) {
+        while (length >= 255) {
+            out[op++] = (byte) 255;
+            length -= 255;
+        }
+        out[op++] = (byte) length;
+        return op;
+    }
+
+    private static int readInt(byte[] src, int pos) {
+        return (src[pos] & 0xFF) | (src[pos + 1] & 0xFF) << 8 | (src[pos + 2] & 0xFF) << 16 | (src[pos + 3] & 0xFF) << 24;
+    }
+}
@@ -24,7 +24,6 @@ import work.ready.cloud.transaction.core.corelog.CoreLogHelper;
 import work.ready.cloud.transaction.core.transaction.txc.analyse.bean.UndoLogDO;
 import work.ready.core.log.Log;
 import work.ready.core.log.LogFactory;
-import work.ready.core.server.Ready;
 
 import java.sql.SQLException;
 import java.util.ArrayList;
@@ -33,13 +32,15 @@ import java.util.List;
 public class TxcLogHelper implements CoreLogHelper {
     private static final Log logger = LogFactory.getLog(TxcLogHelper.class);
     private final H2DbHelper h2DbHelper;
+    private final UndoLogWriter undoLogWriter;
 
     public TxcLogHelper() {
-        this.h2DbHelper = Cloud.getTransactionManager().getH2DbHelper();
+        this(Cloud.getTransactionManager().getH2DbHelper());
     }
 
     public TxcLogHelper(H2DbHelper h2DbHelper) {
         this.h2DbHelper = h2DbHelper;
+        this.undoLogWriter = new UndoLogWriter(h2DbHelper.queryRunner());
     }
 
     @Override
@@ -57,9 +58,7 @@ public class TxcLogHelper implements CoreLogHelper {
     }
 
     public void saveUndoLog(UndoLogDO undoLogDO) throws SQLException {
-        String sql = "INSERT INTO TXC_UNDO_LOG (ID, DATASOURCE, UNIT_ID, GROUP_ID, SQL_TYPE, ROLLBACK_INFO, CREATE_TIME) VALUES(?, ?, ?, ?, ?, ?, ?)";
-        h2DbHelper.queryRunner().update(sql, Ready.getId(), undoLogDO.getDatasource(), undoLogDO.getUnitId(), undoLogDO.getGroupId(), undoLogDO.getSqlType(),
-                undoLogDO.getRollbackInfo(), undoLogDO.getCreateTime());
+        undoLogWriter.write(undoLogDO);
     }
 
     public List<UndoLogDO> getUndoLogByGroupAndUnitId(String groupId, String unitId) throws SQLException {
@@ -0,0 +1,421 @@
+/**
+ *
+ * Copyright (c) 2020 WeiHua Lyu [ready.work]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package work.ready.cloud.transaction.core.transaction.txc.logger;
+
+import work.ready.cloud.transaction.core.transaction.txc.analyse.bean.FieldCluster;
+import work.ready.cloud.transaction.core.transaction.txc.analyse.bean.FieldValue;
+import work.ready.cloud.transaction.core.transaction.txc.analyse.undo.TableRecord;
+import work.ready.cloud.transaction.core.transaction.txc.analyse.undo.TableRecordList;
+import work.ready.cloud.transaction.core.transaction.txc.analyse.util.SqlUtils;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * Compact binary form of undo images. Table, column and type names go to a dictionary once per image and are
+ * referenced by ordinal, common column values are written as typed varints instead of serialized objects.
+ * Larger images are LZ compressed. Images written by the former serializer are still readable.
+ */
+public final class UndoLogCodec {
+
+    private static final byte[] MAGIC = {(byte) 0xFE, 'R', 'U', 'L'};
+    private static final int VERSION = 1;
+    private static final int FLAG_COMPRESSED = 1;
+    private static final int COMPRESS_THRESHOLD = 256;
+
+    private static final int NULL = 0;
+    private static final int BOOLEAN = 1;
+    private static final int BYTE = 2;
+    private static final int SHORT = 3;
+    private static final int INTEGER = 4;
+    private static final int LONG = 5;
+    private static final int FLOAT = 6;
+    private static final int DOUBLE = 7;
+    private static final int STRING = 8;
+    private static final int BIG_DECIMAL = 9;
+    private static final int BIG_INTEGER = 10;
+    private static final int BYTES = 11;
+    private static final int SQL_DATE = 12;
+    private static final int SQL_TIME = 13;
+    private static final int TIMESTAMP = 14;
+    private static final int DATE = 15;
+    private static final int LOCAL_DATE = 16;
+    private static final int LOCAL_TIME = 17;
+    private static final int LOCAL_DATE_TIME = 18;
+    private static final int UUID_VALUE = 19;
+    private static final int CHARACTER = 20;
+    private static final int SERIALIZED = 127;
+
+    // how FieldValue.valueType relates to the value
+    private static final int TYPE_OF_VALUE = 0;
+    private static final int TYPE_NULL = 1;
+    private static final int TYPE_NAMED = 2;
+
+    private UndoLogCodec() {
+    }
+
+    public static byte[] encode(TableRecordList records, boolean compress) {
+        try {
+            Map<String, Integer> dictionary = new LinkedHashMap<>();
+            ByteArrayOutputStream body = new ByteArrayOutputStream(256);
+            DataOutputStream out = new DataOutputStream(body);
+            writeVarInt(out, records.getTableRecords().size());
+            for (TableRecord record : records.getTableRecords()) {
+                writeName(out, dictionary, record.getTableName());
+                FieldCluster cluster = record.getFieldCluster();
+                out.writeBoolean(cluster != null);
+                if (cluster != null) {
+                    writeFields(out, dictionary, cluster.getFields());
+                    writeFields(out, dictionary, cluster.getPrimaryKeys());
+                }
+            }
+            out.flush();
+
+            ByteArrayOutputStream image = new ByteArrayOutputStream(body.size() + 64);
+            DataOutputStream header = new DataOutputStream(image);
+            writeVarInt(header, dictionary.size());
+            for (String name : dictionary.keySet()) {
+                writeString(header, name);
+            }
+            body.writeTo(header);
+            header.flush();
+            byte[] plain = image.toByteArray();
+
+            byte[] payload = plain;
+            int flags = 0;
+            if (compress && plain.length >= COMPRESS_THRESHOLD) {
+                byte[] compressed = LzBlock.compress(plain);
+                if (compressed.length < plain.length) {
+                    payload = compressed;
+                    flags |= FLAG_COMPRESSED;
+                }
+            }
+            ByteArrayOutputStream result = new ByteArrayOutputStream(payload.length + 16);
+            DataOutputStream resultOut = new DataOutputStream(result);
+            resultOut.write(MAGIC);
+            resultOut.writeByte(VERSION);
+            resultOut.writeByte(flags);
+            if ((flags & FLAG_COMPRESSED) != 0) {
+                writeVarInt(resultOut, plain.length);
+            }
+            resultOut.write(payload);
+            resultOut.flush();
+            return result.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static boolean isEncoded(byte[] blob) {
+        if (blob == null || blob.length < MAGIC.length + 2) {
+            return false;
+        }
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (blob[i] != MAGIC[i]) return false;
+        }
+        return true;
+    }
+
+    public static TableRecordList decode(byte[] blob) {
+        if (!isEncoded(blob)) {
+            return SqlUtils.blobToObject(blob);
+        }
+        try {
+            int version = blob[MAGIC.length];
+            if (version != VERSION) {
+                throw new IllegalStateException("unsupported undo log version " + version);
+            }
+            int flags = blob[MAGIC.length + 1];
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(blob, MAGIC.length + 2, blob.length - MAGIC.length - 2));
+            if ((flags & FLAG_COMPRESSED) != 0) {
+                int originalLength = readVarInt(in);
+                int offset = blob.length - in.available();
+                byte[] plain = LzBlock.decompress(blob, offset, blob.length - offset, originalLength);
+                in = new DataInputStream(new ByteArrayInputStream(plain));
+            }
+
+            String[] dictionary = new String[readVarInt(in)];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = readString(in);
+            }
+            TableRecordList records = new TableRecordList();
+            int count = readVarInt(in);
+            for (int i = 0; i < count; i++) {
+                TableRecord record = new TableRecord();
+                record.setTableName(readName(in, dictionary));
+                if (in.readBoolean()) {
+                    FieldCluster cluster = new FieldCluster();
+                    cluster.setFields(readFields(in, dictionary));
+                    cluster.setPrimaryKeys(readFields(in, dictionary));
+                    record.setFieldCluster(cluster);
+                }
+                records.getTableRecords().add(record);
+            }
+            return records;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeFields(DataOutputStream out, Map<String, Integer> dictionary, List<FieldValue> fields) throws IOException {
+        if (fields == null) {
+            writeVarInt(out, 0);
+            return;
+        }
+        writeVarInt(out, fields.size());
+        for (FieldValue field : fields) {
+            writeName(out, dictionary, field.getTableName());
+            writeName(out, dictionary, field.getFieldName());
+            Object value = field.getValue();
+            Class<?> valueType = field.getValueType();
+            if (valueType == null) {
+                out.writeByte(TYPE_NULL);
+            } else if (valueType == (value == null ? Void.class : value.getClass())) {
+                out.writeByte(TYPE_OF_VALUE);
+            } else {
+                out.writeByte(TYPE_NAMED);
+                writeName(out, dictionary, valueType.getName());
+            }
+            writeValue(out, value);
+        }
+    }
+
+    private static List<FieldValue> readFields(DataInputStream in, String[] dictionary) throws IOException {
+        int count = readVarInt(in);
+        List<FieldValue> fields = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            FieldValue field = new FieldValue();
+            field.setTableName(readName(in, dictionary));
+            field.setFieldName(readName(in, dictionary));
+            int typeMode = in.readByte();
+            String typeName = typeMode == TYPE_NAMED ? readName(in, dictionary) : null;
+            Object value = readValue(in);
+            field.setValue(value);
+            if (typeMode == TYPE_OF_VALUE) {
+                field.setValueType(value == null ? Void.class : value.getClass());
+            } else if (typeMode == TYPE_NAMED) {
+                field.setValueType(loadClass(typeName));
+            }
+            fields.add(field);
+        }
+        return fields;
+    }
+
+    private static void writeValue(DataOutputStream out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NULL);
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof Integer) {
+            out.writeByte(INTEGER);
+            writeVarLong(out, zigZag((Integer) value));
+        } else if (value instanceof Long) {
+            out.writeByte(LONG);
+            writeVarLong(out, zigZag((Long) value));
+        } else if (value instanceof BigDecimal) {
+            out.writeByte(BIG_DECIMAL);
+            BigDecimal decimal = (BigDecimal) value;
+            writeVarLong(out, zigZag(decimal.scale()));
+            writeBytes(out, decimal.unscaledValue().toByteArray());
+        } else if (value instanceof java.sql.Timestamp) {
+            out.writeByte(TIMESTAMP);
+            java.sql.Timestamp timestamp = (java.sql.Timestamp) value;
+            writeVarLong(out, zigZag(timestamp.getTime()));
+            writeVarInt(out, timestamp.getNanos());
+        } else if (value instanceof java.sql.Date) {
+            out.writeByte(SQL_DATE);
+            writeVarLong(out, zigZag(((java.sql.Date) value).getTime()));
+        } else if (value instanceof java.sql.Time) {
+            out.writeByte(SQL_TIME);
+            writeVarLong(out, zigZag(((java.sql.Time) value).getTime()));
+        } else if (value.getClass() == Date.class) {
+            out.writeByte(DATE);
+            writeVarLong(out, zigZag(((Date) value).getTime()));
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Byte) {
+            out.writeByte(BYTE);
+            out.writeByte((Byte) value);
+        } else if (value instanceof Short) {
+            out.writeByte(SHORT);
+            writeVarLong(out, zigZag((Short) value));
+        } else if (value instanceof Float) {
+            out.writeByte(FLOAT);
+            out.writeFloat((Float) value);
+        } else if (value instanceof Double) {
+            out.writeByte(DOUBLE);
+            out.writeDouble((Double) value);
+        } else if (value instanceof BigInteger) {
+            out.writeByte(BIG_INTEGER);
+            writeBytes(out, ((BigInteger) value).toByteArray());
+        } else if (value instanceof byte[]) {
+            out.writeByte(BYTES);
+            writeBytes(out, (byte[]) value);
+        } else if (value instanceof LocalDate) {
+            out.writeByte(LOCAL_DATE);
+            writeVarLong(out, zigZag(((LocalDate) value).toEpochDay()));
+        } else if (value instanceof LocalTime) {
+            out.writeByte(LOCAL_TIME);
+            writeVarLong(out, ((LocalTime) value).toNanoOfDay());
+        } else if (value instanceof LocalDateTime) {
+            out.writeByte(LOCAL_DATE_TIME);
+            LocalDateTime dateTime = (LocalDateTime) value;
+            writeVarLong(out, zigZag(dateTime.toLocalDate().toEpochDay()));
+            writeVarLong(out, dateTime.toLocalTime().toNanoOfDay());
+        } else if (value instanceof UUID) {
+            out.writeByte(UUID_VALUE);
+            out.writeLong(((UUID) value).getMostSignificantBits());
+            out.writeLong(((UUID) value).getLeastSignificantBits());
+        } else if (value instanceof Character) {
+            out.writeByte(CHARACTER);
+            out.writeChar((Character) value);
+        } else {
+            out.writeByte(SERIALIZED);
+            writeBytes(out, SqlUtils.objectToBlob(value));
+        }
+    }
+
+    private static Object readValue(DataInputStream in) throws IOException {
+        int tag = in.readByte() & 0xFF;
+        switch (tag) {
+            case NULL: return null;
+            case STRING: return readString(in);
+            case INTEGER: return (int) unZigZag(readVarLong(in));
+            case LONG: return unZigZag(readVarLong(in));
+            case BIG_DECIMAL: {
+                int scale = (int) unZigZag(readVarLong(in));
+                return new BigDecimal(new BigInteger(readBytes(in)), scale);
+            }
+            case TIMESTAMP: {
+                java.sql.Timestamp timestamp = new java.sql.Timestamp(unZigZag(readVarLong(in)));
+                timestamp.setNanos(readVarInt(in));
+                return timestamp;
+            }
+            case SQL_DATE: return new java.sql.Date(unZigZag(readVarLong(in)));
+            case SQL_TIME: return new java.sql.Time(unZigZag(readVarLong(in)));
+            case DATE: return new Date(unZigZag(readVarLong(in)));
+            case BOOLEAN: return in.readBoolean();
+            case BYTE: return in.readByte();
+            case SHORT: return (short) unZigZag(readVarLong(in));
+            case FLOAT: return in.readFloat();
+            case DOUBLE: return in.readDouble();
+            case BIG_INTEGER: return new BigInteger(readBytes(in));
+            case BYTES: return readBytes(in);
+            case LOCAL_DATE: return LocalDate.ofEpochDay(unZigZag(readVarLong(in)));
+            case LOCAL_TIME: return LocalTime.ofNanoOfDay(readVarLong(in));
+            case LOCAL_DATE_TIME: {
+                LocalDate date = LocalDate.ofEpochDay(unZigZag(readVarLong(in)));
+                return LocalDateTime.of(date, LocalTime.ofNanoOfDay(readVarLong(in)));
+            }
+            case UUID_VALUE: return new UUID(in.readLong(), in.readLong());
+            case CHARACTER: return in.readChar();
+            case SERIALIZED: return SqlUtils.blobToObject(readBytes(in));
+            default: throw new IllegalStateException("unknown undo log value type " + tag);
+        }
+    }
+
+    private static Class<?> loadClass(String name) {
+        try {
+            return Class.forName(name, false, UndoLogCodec.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("undo log value type " + name + " is not found", e);
+        }
+    }
+
+    // ordinal + 1 into the dictionary, 0 stands for null
+    private static void writeName(DataOutputStream out, Map<String, Integer> dictionary, String name) throws IOException {
+        if (name == null) {
+            writeVarInt(out, 0);
+        } else {
+            Integer ordinal = dictionary.get(name);
+            if (ordinal == null) {
+                ordinal = dictionary.size();
+                dictionary.put(name, ordinal);
+            }
+            writeVarInt(out, ordinal + 1);
+        }
+    }
+
+    private static String readName(DataInputStream in, String[] dictionary) throws IOException {
+        int ordinal = readVarInt(in);
+        return ordinal == 0 ? null : dictionary[ordinal - 1];
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        writeVarLong(out, value & 0xFFFFFFFFL);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        return (int) readVarLong(in);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.readByte() & 0xFF;
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("malformed varint in undo log");
+    }
+}
@@ -0,0 +1,118 @@
+/**
+ *
+ * Copyright (c) 2020 WeiHua Lyu [ready.work]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package work.ready.cloud.transaction.core.transaction.txc.logger;
+
+import work.ready.cloud.transaction.core.transaction.txc.analyse.bean.UndoLogDO;
+import work.ready.core.database.query.QueryRunner;
+import work.ready.core.server.Ready;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Group commit of undo logs. Every caller queues its log and waits for the commit lock, whoever gets it writes all
+ * queued logs in one H2 transaction, so callers arriving during a commit share the next one.
+ * A caller returns only after its own log is committed, before its business transaction may commit.
+ */
+class UndoLogWriter {
+    private static final String INSERT_SQL = "INSERT INTO TXC_UNDO_LOG (ID, DATASOURCE, UNIT_ID, GROUP_ID, SQL_TYPE, ROLLBACK_INFO, CREATE_TIME) VALUES(?, ?, ?, ?, ?, ?, ?)";
+    private static final int MAX_BATCH_SIZE = 256;
+
+    private final QueryRunner queryRunner;
+    private final ConcurrentLinkedQueue<Pending> queue = new ConcurrentLinkedQueue<>();
+    private final ReentrantLock commitLock = new ReentrantLock();
+
+    UndoLogWriter(QueryRunner queryRunner) {
+        this.queryRunner = queryRunner;
+    }
+
+    void write(UndoLogDO undoLogDO) throws SQLException {
+        Pending pending = new Pending(undoLogDO);
+        queue.add(pending);
+        commitLock.lock();
+        try {
+            while (!pending.done) {
+                commit();
+            }
+        } finally {
+            commitLock.unlock();
+        }
+        if (pending.error != null) {
+            throw pending.error;
+        }
+    }
+
+    private void commit() {
+        List<Pending> batch = new ArrayList<>();
+        Pending pending;
+        while (batch.size() < MAX_BATCH_SIZE && (pending = queue.poll()) != null) {
+            batch.add(pending);
+        }
+        // the batch has left the queue, every item in it has to be released whatever happens below
+        SQLException error = null;
+        try {
+            insert(batch);
+        } catch (SQLException e) {
+            error = e;
+        } catch (RuntimeException e) {
+            error = new SQLException("undo log group commit failed", e);
+        } finally {
+            for (Pending each : batch) {
+                each.error = error;
+                each.done = true;
+            }
+        }
+    }
+
+    private void insert(List<Pending> batch) throws SQLException {
+        Object[][] params = new Object[batch.size()][];
+        for (int i = 0; i < params.length; i++) {
+            UndoLogDO undoLogDO = batch.get(i).undoLogDO;
+            params[i] = new Object[]{Ready.getId(), undoLogDO.getDatasource(), undoLogDO.getUnitId(), undoLogDO.getGroupId(),
+                    undoLogDO.getSqlType(), undoLogDO.getRollbackInfo(), undoLogDO.getCreateTime()};
+        }
+
+        try (Connection connection = queryRunner.getDataSource().getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                queryRunner.batch(connection, INSERT_SQL, params);
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private static final class Pending {
+        private final UndoLogDO undoLogDO;
+        private boolean done;
+        private SQLException error;
+
+        private Pending(UndoLogDO undoLogDO) {
+            this.undoLogDO = undoLogDO;
+        }
+    }
+}
@@ -32,7 +32,11 @@ public class ReadyDbSqlHandler implements SqlExecuteHandler {
     @Override
     public void beforeAudit(SqlAuditTuple sqlAuditTuple) {
         if(sqlAuditTuple.getStatement() instanceof CreateTable) {
-            sqlAuditTuple.setChanged(ReadyCloud.getInstance().verifyCreateTableDDL((CreateTable)sqlAuditTuple.getStatement()));
+            // verifyCreateTableDDL rewrites the table options, so it must not touch the cached statement
+            CreateTable createTable = (CreateTable) sqlAuditTuple.getMutableStatement();
+            if(ReadyCloud.getInstance().verifyCreateTableDDL(createTable)) {
+                sqlAuditTuple.setChanged(true);
+            }
         }
     }
 
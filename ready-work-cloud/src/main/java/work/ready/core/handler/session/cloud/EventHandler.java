@@ -39,6 +39,8 @@ public class EventHandler {
             ApplicationConfig config = event.getObject();
             IgniteSessionRepository sessionRepository = new IgniteSessionRepository();
             sessionRepository.setDefaultMaxInactiveInterval(config.getSessionMaxInactiveInterval());
+            sessionRepository.setTouchInterval(config.getSessionTouchInterval());
+            sessionRepository.setDeltaPersistence(config.isSessionDeltaPersistence());
             handler.setSessionManager(new IgniteSessionManager(
                     Ready.beanManager().get(SessionCookieConfig.class),
                     sessionRepository));
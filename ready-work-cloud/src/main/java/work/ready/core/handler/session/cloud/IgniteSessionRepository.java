@@ -19,6 +19,7 @@
 package work.ready.core.handler.session.cloud;
 
 import org.apache.ignite.IgniteCache;
+import org.apache.ignite.cache.CacheEntryProcessor;
 import org.apache.ignite.configuration.CacheConfiguration;
 import work.ready.cloud.ReadyCloud;
 import work.ready.cloud.cluster.Cloud;
@@ -33,10 +34,9 @@ import javax.cache.Cache;
 import javax.cache.expiry.CreatedExpiryPolicy;
 import javax.cache.expiry.Duration;
 import javax.cache.expiry.ExpiryPolicy;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
-import java.util.Set;
+import javax.cache.expiry.ModifiedExpiryPolicy;
+import javax.cache.processor.MutableEntry;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 
 public class IgniteSessionRepository implements SessionRepository<IgniteSessionRepository.IgniteSession> {
@@ -49,6 +49,10 @@ public class IgniteSessionRepository implements SessionRepository<IgniteSessionR
 
     private int defaultMaxInactiveInterval;
 
+    private long touchInterval;
+
+    private boolean deltaPersistence;
+
     public IgniteSessionRepository() {
         CacheConfiguration<String, MapSession> sessionCfg = ReadyCloud.getInstance().newCacheConfig("ready.work:session", false, true, 0, false);
         this.sessions = Cloud.getOrCreateCache(sessionCfg);
@@ -58,6 +62,14 @@ public class IgniteSessionRepository implements SessionRepository<IgniteSessionR
         this.defaultMaxInactiveInterval = defaultMaxInactiveInterval;
     }
 
+    public void setTouchInterval(int seconds) {
+        this.touchInterval = seconds * 1000L;
+    }
+
+    public void setDeltaPersistence(boolean deltaPersistence) {
+        this.deltaPersistence = deltaPersistence;
+    }
+
     @Override
     public void setSessionFlushMode(SessionFlushMode flushMode) {
         this.sessionFlushMode = flushMode;
@@ -82,14 +94,34 @@ public class IgniteSessionRepository implements SessionRepository<IgniteSessionR
         if (!session.getId().equals(session.originalId)) {
             this.sessions.remove(session.originalId);
             session.originalId = session.getId();
+            session.persisted = false;
         }
         if (session.isChanged()) {
+            if (deltaPersistence && session.persisted && saveDelta(session)) {
+                session.markUnchanged();
+                return;
+            }
             ExpiryPolicy plc = new CreatedExpiryPolicy(new Duration(TimeUnit.SECONDS, session.getMaxInactiveInterval()));
             this.sessions.withExpiryPolicy(plc).put(session.getId(), session.getDelegate());
+            session.persisted = true;
             session.markUnchanged();
         }
     }
 
+    // applies the changes on the node owning the entry, instead of shipping the whole session
+    private boolean saveDelta(IgniteSession session) {
+        MapSession delegate = session.getDelegate();
+        Map<String, Object> changed = new HashMap<>();
+        for (String name : session.changedAttributes) {
+            changed.put(name, delegate.getAttribute(name));
+        }
+        SessionDeltaProcessor processor = new SessionDeltaProcessor(changed,
+                session.touched ? delegate.getLastAccessedTime() : -1,
+                session.intervalChanged ? delegate.getMaxInactiveInterval() : null);
+        ExpiryPolicy plc = new ModifiedExpiryPolicy(new Duration(TimeUnit.SECONDS, delegate.getMaxInactiveInterval()));
+        return Boolean.TRUE.equals(this.sessions.withExpiryPolicy(plc).invoke(session.getId(), processor));
+    }
+
     @Override
     public IgniteSession findById(String id) {
         MapSession saved = this.sessions.get(id);
@@ -118,14 +150,51 @@ public class IgniteSessionRepository implements SessionRepository<IgniteSessionR
         return sessionMap;
     }
 
+    static final class SessionDeltaProcessor implements CacheEntryProcessor<String, MapSession, Boolean> {
+        private static final long serialVersionUID = 1L;
+
+        private final Map<String, Object> attributes;
+        private final long lastAccessedTime;
+        private final Integer maxInactiveInterval;
+
+        SessionDeltaProcessor(Map<String, Object> attributes, long lastAccessedTime, Integer maxInactiveInterval) {
+            this.attributes = attributes;
+            this.lastAccessedTime = lastAccessedTime;
+            this.maxInactiveInterval = maxInactiveInterval;
+        }
+
+        @Override
+        public Boolean process(MutableEntry<String, MapSession> entry, Object... arguments) {
+            MapSession session = entry.getValue();
+            if (session == null) {
+                return false;
+            }
+            attributes.forEach(session::setAttribute);
+            if (lastAccessedTime >= 0) {
+                session.setLastAccessedTime(lastAccessedTime);
+            }
+            if (maxInactiveInterval != null) {
+                session.setMaxInactiveInterval(maxInactiveInterval);
+            }
+            entry.setValue(session);
+            return true;
+        }
+    }
+
     final class IgniteSession implements HttpSession {
 
         private final MapSession delegate;
         private boolean changed;
         private String originalId;
+        private boolean persisted;
+        private boolean touched;
+        private boolean intervalChanged;
+        private long touchedTime;
+        private final Set<String> changedAttributes = new HashSet<>();
 
         IgniteSession() {
             this(new MapSession());
+            this.persisted = false;
             this.changed = true;
             flushImmediateIfNecessary();
         }
@@ -133,13 +202,19 @@ public class IgniteSessionRepository implements SessionRepository<IgniteSessionR
         IgniteSession(MapSession cached) {
             this.delegate = cached;
             this.originalId = cached.getId();
+            this.persisted = true;
+            this.touchedTime = cached.getLastAccessedTime();
         }
 
         @Override
         public void setLastAccessedTime(long lastAccessedTime) {
             this.delegate.setLastAccessedTime(lastAccessedTime);
-            this.changed = true;
-            flushImmediateIfNecessary();
+            if (lastAccessedTime - this.touchedTime >= IgniteSessionRepository.this.touchInterval) {
+                this.touchedTime = lastAccessedTime;
+                this.touched = true;
+                this.changed = true;
+                flushImmediateIfNecessary();
+            }
         }
 
         @Override
@@ -172,6 +247,7 @@ public class IgniteSessionRepository implements SessionRepository<IgniteSessionR
         @Override
         public void setMaxInactiveInterval(int interval) {
             this.delegate.setMaxInactiveInterval(interval);
+            this.intervalChanged = true;
             this.changed = true;
             flushImmediateIfNecessary();
         }
@@ -194,6 +270,7 @@ public class IgniteSessionRepository implements SessionRepository<IgniteSessionR
         @Override
         public Object setAttribute(String attributeName, Object attributeValue) {
             Object object = this.delegate.setAttribute(attributeName, attributeValue);
+            this.changedAttributes.add(attributeName);
             this.changed = true;
             flushImmediateIfNecessary();
             return object;
@@ -202,6 +279,7 @@ public class IgniteSessionRepository implements SessionRepository<IgniteSessionR
         @Override
         public Object removeAttribute(String attributeName) {
             Object object = this.delegate.removeAttribute(attributeName);
+            this.changedAttributes.add(attributeName);
             this.changed = true;
             flushImmediateIfNecessary();
             return object;
@@ -213,6 +291,9 @@ public class IgniteSessionRepository implements SessionRepository<IgniteSessionR
 
         void markUnchanged() {
             this.changed = false;
+            this.touched = false;
+            this.intervalChanged = false;
+            this.changedAttributes.clear();
         }
 
         MapSession getDelegate() {
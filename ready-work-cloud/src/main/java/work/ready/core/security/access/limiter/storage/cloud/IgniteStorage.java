@@ -20,22 +20,26 @@ package work.ready.core.security.access.limiter.storage.cloud;
 
 import org.apache.ignite.IgniteCache;
 import org.apache.ignite.cache.CacheAtomicityMode;
+import org.apache.ignite.cache.CacheEntryProcessor;
 import org.apache.ignite.configuration.CacheConfiguration;
 import work.ready.cloud.ReadyCloud;
 import work.ready.cloud.cluster.Cloud;
+import work.ready.core.security.LimiterConfig;
 import work.ready.core.security.access.limiter.limit.LimitKey;
 import work.ready.core.security.access.limiter.storage.LimitUsageStorage;
 import work.ready.core.security.access.limiter.storage.utils.AddAndGetRequest;
+import work.ready.core.server.Ready;
 import work.ready.core.tools.StrUtil;
 
 import javax.cache.Cache;
 import javax.cache.expiry.CreatedExpiryPolicy;
 import javax.cache.expiry.Duration;
 import javax.cache.expiry.ExpiryPolicy;
+import javax.cache.processor.MutableEntry;
 import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -46,23 +50,19 @@ public class IgniteStorage implements LimitUsageStorage {
 
      static final String KEY_SEPARATOR = "|";
     private static final String KEY_SEPARATOR_SUBSTITUTE = "_";
+    private static final int LEASE_PURGE_THRESHOLD = 1024;
 
-    private IgniteStorage(){}  
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+    private final LimiterConfig limiterConfig = Ready.getMainApplicationConfig().getSecurity().getLimiter();
+
+    public IgniteStorage(){
+        initStorage();
+    }
 
     public static IgniteStorage getStorage(){
-        if(!ReadyCloud.isReady()) {
-            throw new RuntimeException("IgniteStorage for Distributed Limiter depends on ReadyCloud, please start server with cloud mode.");
-        }
         if(instance == null) {
             synchronized (IgniteStorage.class) {
                 if (instance == null) {
-                    CacheConfiguration<String, Integer> config = new CacheConfiguration<>();
-                    config.setName("LimiterStorage");
-                    config.setEventsDisabled(true);
-                    config.setCacheMode(ReadyCloud.getNodeMode().getMode());
-                    config.setAtomicityMode(CacheAtomicityMode.TRANSACTIONAL);
-                    config.setDataRegionName(Cloud.WITHOUT_PERSISTENCE);
-                    limiterStorage = Cloud.getOrCreateCache(config);
                     instance = new IgniteStorage();
                 }
             }
@@ -70,32 +70,43 @@ public class IgniteStorage implements LimitUsageStorage {
         return instance;
     }
 
+    private static synchronized void initStorage() {
+        if(!ReadyCloud.isReady()) {
+            throw new RuntimeException("IgniteStorage for Distributed Limiter depends on ReadyCloud, please start server with cloud mode.");
+        }
+        if(limiterStorage == null) {
+            CacheConfiguration<String, Integer> config = new CacheConfiguration<>();
+            config.setName("LimiterStorage");
+            config.setEventsDisabled(true);
+            config.setCacheMode(ReadyCloud.getNodeMode().getMode());
+            config.setAtomicityMode(CacheAtomicityMode.TRANSACTIONAL);
+            config.setDataRegionName(Cloud.WITHOUT_PERSISTENCE);
+            limiterStorage = Cloud.getOrCreateCache(config);
+        }
+    }
+
     @Override
     public Map<LimitKey, Integer> addAndGet(Collection<AddAndGetRequest> requests) {
         Map<LimitKey, Integer> responses = new LinkedHashMap<>();
         for (AddAndGetRequest request : requests) {
             LimitKey limitKey = LimitKey.fromRequest(request);
-            String cacheKey =
-                    Stream.of(
-                            limitKey.getResource(),
-                            limitKey.getLimitName(),
-                            limitKey.getProperty(),
-                            limitKey.getBucket().toString(),
-                            limitKey.getExpiration().toString())
-                            .map(IgniteStorage::clean)
-                            .collect(Collectors.joining(KEY_SEPARATOR));
-
-            ExpiryPolicy plc = new CreatedExpiryPolicy(new Duration(TimeUnit.SECONDS, (int) request.getExpiration().getSeconds() * 2));
-            Lock lock = limiterStorage.lock(cacheKey + "_lock");
-            lock.lock();
-            try {
-                Integer val = limiterStorage.get(cacheKey);
-                val = val == null ? request.getCost() : val + request.getCost();
-                limiterStorage.withExpiryPolicy(plc).put(cacheKey, val);
-                responses.put(limitKey, val);
-            } finally {
-                lock.unlock();
+            String cacheKey = buildCacheKey(limitKey);
+            int leaseSize = leaseSize(request.getLimit());
+            Lease lease = leaseSize > 0 || request.getCost() == 0 ? leases.get(cacheKey) : null;
+            int val;
+            if (request.getCost() == 0) {
+                if (lease != null) {
+                    val = lease.estimate();
+                } else {
+                    Integer current = limiterStorage.get(cacheKey);
+                    val = current == null ? 0 : current;
+                }
+            } else if (leaseSize > 0) {
+                val = leasedAddAndGet(cacheKey, limitKey, request, leaseSize);
+            } else {
+                val = limiterStorage.withExpiryPolicy(expiryPolicy(request)).invoke(cacheKey, new AddProcessor(request.getCost(), -1));
             }
+            responses.put(limitKey, val);
         }
         return responses;
     }
@@ -105,31 +116,79 @@ public class IgniteStorage implements LimitUsageStorage {
         Map<LimitKey, Integer> responses = new LinkedHashMap<>();
         for (AddAndGetRequest request : requests) {
             LimitKey limitKey = LimitKey.fromRequest(request);
-            String cacheKey =
-                    Stream.of(
-                            limitKey.getResource(),
-                            limitKey.getLimitName(),
-                            limitKey.getProperty(),
-                            limitKey.getBucket().toString(),
-                            limitKey.getExpiration().toString())
-                            .map(IgniteStorage::clean)
-                            .collect(Collectors.joining(KEY_SEPARATOR));
-
-            ExpiryPolicy plc = new CreatedExpiryPolicy(new Duration(TimeUnit.SECONDS, (int) request.getExpiration().getSeconds() * 2));
-            Lock lock = limiterStorage.lock(cacheKey + "_lock");
-            lock.lock();
-            try {
-                Integer val = limiterStorage.get(cacheKey);
-                val = val == null ? request.getCost() : val > request.getLimit() ? val : val + request.getCost();
-                limiterStorage.withExpiryPolicy(plc).put(cacheKey, val);
-                responses.put(limitKey, val);
-            } finally {
-                lock.unlock();
+            String cacheKey = buildCacheKey(limitKey);
+            int leaseSize = leaseSize(request.getLimit());
+            int val;
+            if (leaseSize > 0) {
+                val = leasedAddAndGet(cacheKey, limitKey, request, leaseSize);
+            } else {
+                val = limiterStorage.withExpiryPolicy(expiryPolicy(request)).invoke(cacheKey, new AddProcessor(request.getCost(), request.getLimit()));
             }
+            responses.put(limitKey, val);
         }
         return responses;
     }
 
+    // limits that are too small for a useful lease are counted exactly in the cluster
+    private int leaseSize(int limit) {
+        int maxLeaseSize = limiterConfig.getDistributedLeaseSize();
+        if (maxLeaseSize <= 1 || limit <= 0) {
+            return 0;
+        }
+        int leaseSize = Math.min(maxLeaseSize, (int) (limit * limiterConfig.getDistributedLeaseRatio()));
+        return leaseSize > 1 ? leaseSize : 0;
+    }
+
+    /**
+     * Takes a block of quota from the cluster counter and hands it out locally until it is used up. A node may
+     * over count by the unused part of the leases held by the other nodes, so requests are rejected early by at
+     * most (nodes - 1) * leaseSize, but never admitted beyond the limit.
+     */
+    private int leasedAddAndGet(String cacheKey, LimitKey limitKey, AddAndGetRequest request, int leaseSize) {
+        Lease lease = leases.get(cacheKey);
+        if (lease == null) {
+            purgeExpiredLeases();
+            long expireAt = limitKey.getBucket().plus(limitKey.getExpiration()).toEpochMilli();
+            lease = leases.computeIfAbsent(cacheKey, key -> new Lease(expireAt));
+        }
+        int cost = request.getCost();
+        synchronized (lease) {
+            if (lease.remaining < cost) {
+                int[] granted = limiterStorage.withExpiryPolicy(expiryPolicy(request))
+                        .invoke(cacheKey, new LeaseProcessor(Math.max(leaseSize, cost), request.getLimit()));
+                lease.remaining += granted[0];
+                lease.total = granted[1];
+                if (lease.remaining < cost) {
+                    return lease.total + cost;
+                }
+            }
+            lease.remaining -= cost;
+            return lease.estimate();
+        }
+    }
+
+    private void purgeExpiredLeases() {
+        if (leases.size() > LEASE_PURGE_THRESHOLD) {
+            long now = Ready.currentTimeMillis();
+            leases.values().removeIf(lease -> lease.expireAt < now);
+        }
+    }
+
+    private ExpiryPolicy expiryPolicy(AddAndGetRequest request) {
+        return new CreatedExpiryPolicy(new Duration(TimeUnit.SECONDS, (int) request.getExpiration().getSeconds() * 2));
+    }
+
+    private String buildCacheKey(LimitKey limitKey) {
+        return Stream.of(
+                limitKey.getResource(),
+                limitKey.getLimitName(),
+                limitKey.getProperty(),
+                limitKey.getBucket().toString(),
+                limitKey.getExpiration().toString())
+                .map(IgniteStorage::clean)
+                .collect(Collectors.joining(KEY_SEPARATOR));
+    }
+
     @Override
     public Map<LimitKey, Integer> getCurrentLimitCounters() {
         return getLimits(null);
@@ -187,4 +246,60 @@ public class IgniteStorage implements LimitUsageStorage {
                 .map(IgniteStorage::clean)
                 .collect(Collectors.joining(KEY_SEPARATOR));
     }
+
+    private static final class Lease {
+        private final long expireAt;
+        private int remaining;
+        private int total;
+
+        Lease(long expireAt) {
+            this.expireAt = expireAt;
+        }
+
+        synchronized int estimate() {
+            return total - remaining;
+        }
+    }
+
+    static final class AddProcessor implements CacheEntryProcessor<String, Integer, Integer> {
+        private static final long serialVersionUID = 1L;
+
+        private final int cost;
+        private final int limit;
+
+        AddProcessor(int cost, int limit) {
+            this.cost = cost;
+            this.limit = limit;
+        }
+
+        @Override
+        public Integer process(MutableEntry<String, Integer> entry, Object... arguments) {
+            Integer val = entry.getValue();
+            val = val == null ? cost : limit >= 0 && val > limit ? val : val + cost;
+            entry.setValue(val);
+            return val;
+        }
+    }
+
+    static final class LeaseProcessor implements CacheEntryProcessor<String, Integer, int[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final int block;
+        private final int limit;
+
+        LeaseProcessor(int block, int limit) {
+            this.block = block;
+            this.limit = limit;
+        }
+
+        @Override
+        public int[] process(MutableEntry<String, Integer> entry, Object... arguments) {
+            int current = entry.exists() ? entry.getValue() : 0;
+            int granted = Math.max(0, Math.min(block, limit - current));
+            if (granted > 0) {
+                entry.setValue(current + granted);
+            }
+            return new int[] { granted, current + granted };
+        }
+    }
 }
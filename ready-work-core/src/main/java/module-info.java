@@ -12,6 +12,7 @@ module ready.work.core {
 
     exports work.ready.core.apm;
     exports work.ready.core.apm.common;
+    exports work.ready.core.apm.metrics;
     exports work.ready.core.apm.model;
     exports work.ready.core.apm.reporter;
     exports work.ready.core.apm.collector.logger;
@@ -20,6 +21,7 @@ module ready.work.core {
 
     exports work.ready.core.component.cache;
     exports work.ready.core.component.cache.annotation;
+    exports work.ready.core.component.cache.near;
     exports work.ready.core.component.crypto;
     exports work.ready.core.component.decrypt;
     exports work.ready.core.component.i18n;
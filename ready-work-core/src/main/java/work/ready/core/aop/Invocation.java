@@ -107,7 +107,7 @@ public class Invocation {
 			try {
 
 				if (action != null) {
-					returnValue = action.getMethod().invoke(target, args);
+					returnValue = action.getInvoker().invoke(target, args);
 				}
 
 				else {
@@ -43,6 +43,12 @@ public class ApmConfig extends BaseConfig {
     private String port = "0";
     private int heartbeatPeriod = 60;
     private int jvmPeriod = 60;
+    private boolean metrics = false;
+    private String metricsPath = "/apm-metrics";
+    private boolean metricsLocalOnly = true;
+    private int metricsPeriod = 60;
+    private int metricsMaxSeries = 2000;
+    private boolean metricsReport = true;
 
     private ReporterConfig reporter = new ReporterConfig();
 
@@ -108,6 +114,36 @@ public class ApmConfig extends BaseConfig {
         return this;
     }
 
+    public ApmConfig setMetrics(boolean metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    public ApmConfig setMetricsPath(String metricsPath) {
+        this.metricsPath = metricsPath;
+        return this;
+    }
+
+    public ApmConfig setMetricsLocalOnly(boolean metricsLocalOnly) {
+        this.metricsLocalOnly = metricsLocalOnly;
+        return this;
+    }
+
+    public ApmConfig setMetricsPeriod(int metricsPeriod) {
+        this.metricsPeriod = metricsPeriod;
+        return this;
+    }
+
+    public ApmConfig setMetricsMaxSeries(int metricsMaxSeries) {
+        this.metricsMaxSeries = metricsMaxSeries;
+        return this;
+    }
+
+    public ApmConfig setMetricsReport(boolean metricsReport) {
+        this.metricsReport = metricsReport;
+        return this;
+    }
+
     public LogLevel getLogLevel() {
         return logLevel;
     }
@@ -148,6 +184,30 @@ public class ApmConfig extends BaseConfig {
         return jvmPeriod;
     }
 
+    public boolean isMetrics() {
+        return metrics;
+    }
+
+    public String getMetricsPath() {
+        return metricsPath;
+    }
+
+    public boolean isMetricsLocalOnly() {
+        return metricsLocalOnly;
+    }
+
+    public int getMetricsPeriod() {
+        return metricsPeriod;
+    }
+
+    public int getMetricsMaxSeries() {
+        return metricsMaxSeries;
+    }
+
+    public boolean isMetricsReport() {
+        return metricsReport;
+    }
+
     public ReporterConfig getReporter() {
         return reporter;
     }
@@ -21,6 +21,7 @@ package work.ready.core.apm;
 import work.ready.core.aop.transformer.TransformerManager;
 import work.ready.core.aop.transformer.enhance.Interceptor;
 import work.ready.core.apm.common.JvmInfoTask;
+import work.ready.core.apm.metrics.MetricsRegistry;
 import work.ready.core.apm.model.CollectorConfig;
 import work.ready.core.apm.reporter.ReporterManager;
 import work.ready.core.config.Config;
@@ -183,6 +184,7 @@ public class ApmManager {
 
             ReporterManager.init();
             JvmInfoTask.start();
+            MetricsRegistry.start();
 
             initialized = true;
         } catch (Throwable e) {
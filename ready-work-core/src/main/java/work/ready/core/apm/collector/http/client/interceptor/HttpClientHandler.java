@@ -21,6 +21,7 @@ package work.ready.core.apm.collector.http.client.interceptor;
 import work.ready.core.apm.ApmManager;
 import work.ready.core.apm.collector.http.client.HttpClientConfig;
 import work.ready.core.apm.common.*;
+import work.ready.core.apm.metrics.MetricsRegistry;
 import work.ready.core.apm.model.Span;
 import work.ready.core.log.Log;
 import work.ready.core.log.LogFactory;
@@ -28,10 +29,12 @@ import work.ready.core.server.Constant;
 
 import java.net.http.HttpRequest;
 import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
 
 public class HttpClientHandler implements TraceHandler {
 
     private static final Log logger = LogFactory.getLog(HttpClientHandler.class);
+    private static final ThreadLocal<RemoteCall> remoteCall = new ThreadLocal<>();
 
     @Override
     public Span before(String className, String methodName, Object[] arguments, Object[] extraParam) {
@@ -39,6 +42,9 @@ public class HttpClientHandler implements TraceHandler {
         if (arguments[0] instanceof HttpRequest.Builder) {
             HttpRequest.Builder requestBuilder = (HttpRequest.Builder) arguments[0];
             HttpRequest request = requestBuilder.build();
+            if (MetricsRegistry.isEnabled()) {
+                remoteCall.set(new RemoteCall(request.uri().getAuthority(), System.nanoTime()));
+            }
             if(ApmManager.getConfig(HttpClientConfig.class).isUrlIncluded(request.uri().toString())
                     && request.headers().firstValue(Constant.CORRELATION_ID_STRING).isEmpty()){
 
@@ -70,8 +76,33 @@ public class HttpClientHandler implements TraceHandler {
 
     @Override
     public Object after(String className, String methodName, Object[] arguments, Object result, Throwable t, Object[] extraParam) {
-        
+        RemoteCall call = remoteCall.get();
+        if (call != null) {
+            remoteCall.remove();
+            if (result instanceof CompletableFuture) {
+                ((CompletableFuture<?>) result).whenComplete((response, e) -> call.record(e));
+            } else {
+                call.record(t);
+            }
+        }
         return result;
     }
 
+    private static class RemoteCall {
+        private final String remote;
+        private final long start;
+
+        RemoteCall(String remote, long start) {
+            this.remote = remote;
+            this.start = start;
+        }
+
+        void record(Throwable t) {
+            MetricsRegistry.record("ready_http_client_latency_us", (System.nanoTime() - start) / 1000, "remote", remote);
+            if (t != null) {
+                MetricsRegistry.increment("ready_http_client_errors_total", "remote", remote);
+            }
+        }
+    }
+
 }
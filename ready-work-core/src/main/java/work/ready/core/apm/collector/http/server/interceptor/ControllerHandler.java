@@ -22,6 +22,7 @@ import io.undertow.util.HttpString;
 import work.ready.core.apm.ApmManager;
 import work.ready.core.apm.collector.http.server.WebServerConfig;
 import work.ready.core.apm.common.*;
+import work.ready.core.apm.metrics.MetricsRegistry;
 import work.ready.core.apm.model.Span;
 import work.ready.core.apm.model.SpanType;
 import work.ready.core.apm.model.Tags;
@@ -32,6 +33,7 @@ import work.ready.core.handler.response.HttpResponse;
 import work.ready.core.log.Log;
 import work.ready.core.log.LogFactory;
 import work.ready.core.server.Constant;
+import work.ready.core.server.Ready;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -113,6 +115,9 @@ public class ControllerHandler implements TraceHandler {
     @Override
     public Object after(String className, String methodName, Object[] arguments, Object result, Throwable t, Object[] extraParam) {
         
+        if (MetricsRegistry.isEnabled() && ApmManager.getConfig(WebServerConfig.class).isEnabled()) {
+            recordMetrics(className, methodName, t);
+        }
         if (!ApmManager.getConfig(WebServerConfig.class).isEnabled() || SamplingUtil.NO()) {
             return null;
         }
@@ -143,6 +148,17 @@ public class ControllerHandler implements TraceHandler {
         return result;
     }
 
+    private void recordMetrics(String className, String methodName, Throwable t) {
+        Span currSpan = SpanManager.getCurrentSpan();
+        if (currSpan != null && currSpan.getType().equals(SpanType.REQUEST)) {
+            String route = className + "." + methodName;
+            MetricsRegistry.record("ready_http_server_latency_ms", Ready.currentTimeMillis() - currSpan.getTime().getTime(), "route", route);
+            if (t != null) {
+                MetricsRegistry.increment("ready_http_server_errors_total", "route", route);
+            }
+        }
+    }
+
     private void collectRequestParameter(Span span, HttpRequest request) {
         if (ApmManager.getConfig(WebServerConfig.class).isEnableControllerRequestParam(span)) {
             var getParams = request.getParameterMap(HttpRequest.parameterMap.formPrioritized);
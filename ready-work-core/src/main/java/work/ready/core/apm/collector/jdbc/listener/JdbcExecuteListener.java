@@ -25,6 +25,7 @@ import work.ready.core.apm.collector.jdbc.interceptor.StatementHandler;
 import work.ready.core.apm.common.SamplingUtil;
 import work.ready.core.apm.common.SpanManager;
 import work.ready.core.apm.common.TraceContext;
+import work.ready.core.apm.metrics.MetricsRegistry;
 import work.ready.core.apm.model.Span;
 import work.ready.core.apm.model.SpanType;
 import work.ready.core.apm.reporter.ReporterManager;
@@ -35,9 +36,19 @@ import work.ready.core.database.jdbc.hikari.pool.HikariProxyConnection;
 
 import java.sql.SQLException;
 import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 public class JdbcExecuteListener extends AnyExecuteListener {
 
+    private static final int MAX_SQL_LABEL_LENGTH = 256;
+    private static final int MAX_SQL_LABELS = 500;
+    private static final String OTHER_SQL_LABEL = "other";
+    private static final Pattern VALUE_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern ROW_LIST = Pattern.compile("\\(\\?\\)(\\s*,\\s*\\(\\?\\))+");
+    private static final Set<String> sqlLabels = ConcurrentHashMap.newKeySet();
+
     @Override
     public String onBeforeAnyExecute(StatementInformation statementInformation) throws SQLException {
         if(!ApmManager.getConfig(JdbcConfig.class).isEnabled() || !JdbcContext.isOn() || SamplingUtil.NO()){
@@ -55,6 +66,9 @@ public class JdbcExecuteListener extends AnyExecuteListener {
 
     @Override
     public void onAfterAnyExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        if (MetricsRegistry.isEnabled() && ApmManager.getConfig(JdbcConfig.class).isEnabled()) {
+            recordMetrics(statementInformation, timeElapsedNanos, e);
+        }
         Span span = JdbcContext.getJdbcSpan();
         JdbcContext.remove();
         if (span == null || !ApmManager.getConfig(JdbcConfig.class).isEnabled() || SamplingUtil.NO()) {
@@ -82,4 +96,74 @@ public class JdbcExecuteListener extends AnyExecuteListener {
             ReporterManager.report(span);
         }
     }
+
+    private void recordMetrics(StatementInformation statementInformation, long timeElapsedNanos, SQLException e) {
+        Object dataSource = statementInformation.getConnectionInformation().getDataSource();
+        String source = dataSource instanceof ReadyDataSource ? ((ReadyDataSource) dataSource).getPoolName() : "unknown";
+        String sql = sqlLabel(statementInformation.getStatementQuery());
+        MetricsRegistry.record("ready_sql_latency_us", timeElapsedNanos / 1000, "datasource", source, "sql", sql);
+        if (e != null) {
+            MetricsRegistry.increment("ready_sql_errors_total", "datasource", source);
+        }
+    }
+
+    // literals are replaced by ? so plain statements neither leak values nor create a series per value
+    private static String sqlLabel(String sql) {
+        if (sql == null) {
+            return OTHER_SQL_LABEL;
+        }
+        StringBuilder sb = new StringBuilder(Math.min(sql.length(), MAX_SQL_LABEL_LENGTH));
+        int length = sql.length();
+        int i = 0;
+        while (i < length && sb.length() < MAX_SQL_LABEL_LENGTH) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                i++;
+                sb.append('?');
+            } else if (Character.isDigit(c) && (sb.length() == 0 || !Character.isLetterOrDigit(sb.charAt(sb.length() - 1)) && sb.charAt(sb.length() - 1) != '_')) {
+                while (i < length && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                sb.append('?');
+            } else if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (sb.length() > 0) {
+                    sb.append(' ');
+                }
+            } else {
+                sb.append(c);
+                i++;
+            }
+        }
+        String label = collapseLists(sb.toString().trim());
+        if (sqlLabels.contains(label)) {
+            return label;
+        }
+        if (sqlLabels.size() >= MAX_SQL_LABELS) {
+            return OTHER_SQL_LABEL;
+        }
+        sqlLabels.add(label);
+        return label;
+    }
+
+    // in (?, ?, ?) and values (?, ?), (?, ?) only differ by the number of items
+    private static String collapseLists(String sql) {
+        if (sql.indexOf(',') < 0) {
+            return sql;
+        }
+        return ROW_LIST.matcher(VALUE_LIST.matcher(sql).replaceAll("(?)")).replaceAll("(?)");
+    }
 }
@@ -19,6 +19,7 @@
 package work.ready.core.apm.common;
 
 import work.ready.core.apm.ApmManager;
+import work.ready.core.apm.metrics.MetricsRegistry;
 import work.ready.core.apm.model.GcInfo;
 import work.ready.core.apm.model.Span;
 import work.ready.core.apm.model.SpanType;
@@ -26,6 +27,9 @@ import work.ready.core.apm.reporter.ReporterManager;
 import work.ready.core.server.Ready;
 import work.ready.core.tools.ReadyThreadFactory;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -42,7 +46,7 @@ public class JvmInfoTask {
             @Override
             public void run() {
                 Span span = new Span(SpanType.JVM);
-                span.setId(String.valueOf(Ready.getId()));
+                span.setId(Ready.getId());
                 ApmManager.getConfig().fillEnvInfo(span);
                 span.setTime(Ready.now());
                 buildJvmInfo(span);
@@ -50,6 +54,14 @@ public class JvmInfoTask {
             }
         }, 0, period, TimeUnit.SECONDS);
         ApmManager.addShutdown((inMs)->shutdown());
+        if (ApmManager.getConfig().isMetrics()) {
+            MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+            ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+            MetricsRegistry.gauge("ready_jvm_heap_used_bytes", () -> memory.getHeapMemoryUsage().getUsed());
+            MetricsRegistry.gauge("ready_jvm_heap_max_bytes", () -> memory.getHeapMemoryUsage().getMax());
+            MetricsRegistry.gauge("ready_jvm_non_heap_used_bytes", () -> memory.getNonHeapMemoryUsage().getUsed());
+            MetricsRegistry.gauge("ready_jvm_threads", threads::getThreadCount);
+        }
     }
 
     public static void shutdown() {
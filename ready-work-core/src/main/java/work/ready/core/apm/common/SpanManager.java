@@ -24,17 +24,13 @@ import work.ready.core.apm.model.SpanType;
 import work.ready.core.apm.reporter.ReporterManager;
 import work.ready.core.server.Ready;
 
-import java.util.Stack;
+import java.util.Arrays;
 
 public class SpanManager {
-    private static final ThreadLocal<Stack<Span>> threadLocalSpan = new ThreadLocal<Stack<Span>>();
+    private static final ThreadLocal<SpanStack> threadLocalSpan = ThreadLocal.withInitial(SpanStack::new);
 
     private static Span createSpan(String spanType) {
-        Stack<Span> stack = threadLocalSpan.get();
-        if (stack == null) {
-            stack = new Stack<>();
-            threadLocalSpan.set(stack);
-        }
+        SpanStack stack = threadLocalSpan.get();
         String parentId, correlationId,traceabilityId;
         if (stack.isEmpty()) {
             parentId = TraceContext.getParentId();
@@ -56,20 +52,19 @@ public class SpanManager {
             TraceContext.setParentId(parentId);
         }
         Span span = new Span(spanType);
-        span.setId(String.valueOf(Ready.getId())).setParentId(parentId).setTraceabilityId(traceabilityId).setCorrelationId(correlationId);
+        span.setId(Ready.getId()).setParentId(parentId).setTraceabilityId(traceabilityId).setCorrelationId(correlationId);
         return span;
     }
 
     public static Span createEntrySpan(String spanType) {
         Span span = createSpan(spanType);
-        Stack<Span> stack = threadLocalSpan.get();
-        stack.push(span);
+        threadLocalSpan.get().push(span);
         return span;
     }
 
     public static Span getExitSpan() {
-        Stack<Span> stack = threadLocalSpan.get();
-        if (stack == null || stack.isEmpty()) {
+        SpanStack stack = threadLocalSpan.get();
+        if (stack.isEmpty()) {
             TraceContext.clearAll();
             return null;
         }
@@ -77,11 +72,7 @@ public class SpanManager {
     }
 
     public static Span getCurrentSpan() {
-        Stack<Span> stack = threadLocalSpan.get();
-        if (stack == null || stack.isEmpty()) {
-            return null;
-        }
-        return stack.peek();
+        return threadLocalSpan.get().peek();
     }
 
     public static Span createLocalSpan(String spanType) {
@@ -98,9 +89,36 @@ public class SpanManager {
         span.addTag("from", fromApp);
         span.setParentId(TraceContext.getParentId());
         span.setApplication(toApp);
-        span.setId(String.valueOf(Ready.getId()));
+        span.setId(Ready.getId());
 
         ReporterManager.report(span);
     }
 
+    // confined to its thread, so unlike java.util.Stack it needs no synchronization
+    private static final class SpanStack {
+        private Span[] spans = new Span[8];
+        private int size;
+
+        void push(Span span) {
+            if (size == spans.length) {
+                spans = Arrays.copyOf(spans, size << 1);
+            }
+            spans[size++] = span;
+        }
+
+        Span pop() {
+            Span span = spans[--size];
+            spans[size] = null;
+            return span;
+        }
+
+        Span peek() {
+            return size == 0 ? null : spans[size - 1];
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+    }
+
 }
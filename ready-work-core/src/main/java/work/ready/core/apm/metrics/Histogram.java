@@ -0,0 +1,131 @@
+/**
+ *
+ * Copyright (c) 2020 WeiHua Lyu [ready.work]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package work.ready.core.apm.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log-linear histogram, every power of two is split into 8 linear buckets so recorded values keep a relative
+ * error below 12.5% with a fixed 488 slot array. Count and sum are cumulative, percentiles and max are taken
+ * from the last completed window, see {@link #rotate()}.
+ */
+public class Histogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private volatile AtomicLongArray window = new AtomicLongArray(BUCKETS);
+    private volatile AtomicLong windowMax = new AtomicLong();
+    private volatile long[] lastWindow;
+    private volatile long lastWindowMax;
+
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        window.incrementAndGet(index(value));
+        count.increment();
+        sum.add(value);
+        AtomicLong max = windowMax;
+        long current;
+        while (value > (current = max.get()) && !max.compareAndSet(current, value)) { }
+    }
+
+    // a record racing with the swap may land in the retired window, which only costs that single sample
+    public void rotate() {
+        AtomicLongArray retired = window;
+        AtomicLong retiredMax = windowMax;
+        window = new AtomicLongArray(BUCKETS);
+        windowMax = new AtomicLong();
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = retired.get(i);
+        }
+        lastWindow = counts;
+        lastWindowMax = retiredMax.get();
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getSum() {
+        return sum.sum();
+    }
+
+    public long getMax() {
+        return lastWindow == null ? windowMax.get() : lastWindowMax;
+    }
+
+    public long[] percentiles(double... quantiles) {
+        long[] counts = lastWindow;
+        long max = getMax();
+        if (counts == null) {
+            AtomicLongArray current = window;
+            counts = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = current.get(i);
+            }
+        }
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        long[] result = new long[quantiles.length];
+        if (total == 0) {
+            return result;
+        }
+        for (int q = 0; q < quantiles.length; q++) {
+            long rank = Math.max(1, (long) Math.ceil(quantiles[q] * total));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    result[q] = Math.min(upperBound(i), max);
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exp = 63 - Long.numberOfLeadingZeros(value);
+        return (exp - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + (int) ((value >>> (exp - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+    }
+
+    static long lowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exp = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        return (long) (SUB_BUCKETS + index % SUB_BUCKETS) << (exp - SUB_BUCKET_BITS);
+    }
+
+    static long upperBound(int index) {
+        return index + 1 >= BUCKETS ? Long.MAX_VALUE : lowerBound(index + 1) - 1;
+    }
+}
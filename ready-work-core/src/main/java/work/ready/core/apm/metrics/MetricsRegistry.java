@@ -0,0 +1,205 @@
+/**
+ *
+ * Copyright (c) 2020 WeiHua Lyu [ready.work]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package work.ready.core.apm.metrics;
+
+import work.ready.core.apm.ApmManager;
+import work.ready.core.apm.model.Span;
+import work.ready.core.apm.model.SpanType;
+import work.ready.core.apm.reporter.ReporterManager;
+import work.ready.core.log.Log;
+import work.ready.core.log.LogFactory;
+import work.ready.core.server.Ready;
+import work.ready.core.tools.ReadyThreadFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Aggregated counters, gauges and latency histograms, exposed as text on the metrics path and pushed to the
+ * APM reporter as a metrics span every metrics period.
+ */
+public class MetricsRegistry {
+    private static final Log logger = LogFactory.getLog(MetricsRegistry.class);
+    private static final String THREAD_NAME = "metrics";
+    private static final String OVERFLOW_LABELS = "{overflow=\"true\"}";
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+    private static final String[] QUANTILE_NAMES = {"0.5", "0.9", "0.99", "0.999"};
+
+    private static final Map<String, Map<String, Counter>> counters = new ConcurrentHashMap<>();
+    private static final Map<String, Map<String, Histogram>> histograms = new ConcurrentHashMap<>();
+    private static final Map<String, Map<String, DoubleSupplier>> gauges = new ConcurrentHashMap<>();
+    private static final AtomicInteger seriesCount = new AtomicInteger();
+    private static volatile boolean enabled = false;
+    private static int maxSeries = 2000;
+    private static ScheduledExecutorService service;
+
+    public static synchronized void start() {
+        if (enabled || !ApmManager.getConfig().isMetrics()) {
+            return;
+        }
+        maxSeries = ApmManager.getConfig().getMetricsMaxSeries();
+        enabled = true;
+        int period = ApmManager.getConfig().getMetricsPeriod();
+        if (period > 0) {
+            service = new ScheduledThreadPoolExecutor(1, new ReadyThreadFactory(THREAD_NAME));
+            service.scheduleAtFixedRate(() -> {
+                try {
+                    histograms.values().forEach(series -> series.values().forEach(Histogram::rotate));
+                    if (ApmManager.getConfig().isMetricsReport()) {
+                        Span span = new Span(SpanType.METRICS);
+                        span.setId(Ready.getId());
+                        ApmManager.getConfig().fillEnvInfo(span);
+                        span.addTag("metrics", snapshot());
+                        ReporterManager.report(span);
+                    }
+                } catch (Throwable e) {
+                    logger.warn(e, "Failed to rotate APM metrics");
+                }
+            }, period, period, TimeUnit.SECONDS);
+            ApmManager.addShutdown((inMs) -> service.shutdown());
+        }
+        logger.info("APM metrics enabled, path=%s", ApmManager.getConfig().getMetricsPath());
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static Counter counter(String name, String... labels) {
+        return series(counters, name, labels, Counter::new);
+    }
+
+    public static Histogram histogram(String name, String... labels) {
+        return series(histograms, name, labels, Histogram::new);
+    }
+
+    public static void gauge(String name, DoubleSupplier supplier, String... labels) {
+        gauges.computeIfAbsent(name, k -> new ConcurrentHashMap<>()).put(labels(labels), supplier);
+    }
+
+    public static void record(String name, long value, String... labels) {
+        if (enabled) {
+            histogram(name, labels).record(value);
+        }
+    }
+
+    public static void increment(String name, String... labels) {
+        if (enabled) {
+            counter(name, labels).inc();
+        }
+    }
+
+    // once maxSeries is reached new label combinations share one overflow series instead of growing without bound
+    private static <T> T series(Map<String, Map<String, T>> metrics, String name, String[] labels, Supplier<T> factory) {
+        Map<String, T> series = metrics.computeIfAbsent(name, k -> new ConcurrentHashMap<>());
+        String key = labels(labels);
+        T metric = series.get(key);
+        if (metric == null) {
+            if (seriesCount.get() >= maxSeries) {
+                key = OVERFLOW_LABELS;
+            }
+            metric = series.computeIfAbsent(key, k -> {
+                seriesCount.incrementAndGet();
+                return factory.get();
+            });
+        }
+        return metric;
+    }
+
+    private static String labels(String[] labels) {
+        if (labels == null || labels.length == 0) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = 0; i + 1 < labels.length; i += 2) {
+            if (i > 0) sb.append(',');
+            sb.append(labels[i]).append("=\"");
+            String value = labels[i + 1] == null ? "" : labels[i + 1];
+            for (int j = 0; j < value.length(); j++) {
+                char c = value.charAt(j);
+                if (c == '\\' || c == '"') {
+                    sb.append('\\').append(c);
+                } else if (c == '\n') {
+                    sb.append("\\n");
+                } else {
+                    sb.append(c);
+                }
+            }
+            sb.append('"');
+        }
+        return sb.append('}').toString();
+    }
+
+    private static String withLabel(String labels, String name, String value) {
+        String label = name + "=\"" + value + '"';
+        return labels.isEmpty() ? '{' + label + '}' : labels.substring(0, labels.length() - 1) + ',' + label + '}';
+    }
+
+    public static String scrape() {
+        StringBuilder sb = new StringBuilder(4096);
+        new TreeMap<>(counters).forEach((name, series) -> {
+            sb.append("# TYPE ").append(name).append(" counter\n");
+            series.forEach((labels, counter) -> sb.append(name).append(labels).append(' ').append(counter.get()).append('\n'));
+        });
+        new TreeMap<>(gauges).forEach((name, series) -> {
+            sb.append("# TYPE ").append(name).append(" gauge\n");
+            series.forEach((labels, gauge) -> sb.append(name).append(labels).append(' ').append(gauge.getAsDouble()).append('\n'));
+        });
+        new TreeMap<>(histograms).forEach((name, series) -> {
+            sb.append("# TYPE ").append(name).append(" summary\n");
+            series.forEach((labels, histogram) -> {
+                long[] values = histogram.percentiles(QUANTILES);
+                for (int i = 0; i < values.length; i++) {
+                    sb.append(name).append(withLabel(labels, "quantile", QUANTILE_NAMES[i])).append(' ').append(values[i]).append('\n');
+                }
+                sb.append(name).append("_count").append(labels).append(' ').append(histogram.getCount()).append('\n');
+                sb.append(name).append("_sum").append(labels).append(' ').append(histogram.getSum()).append('\n');
+            });
+            // a summary family only allows quantiles, _count and _sum, so the max is a gauge family of its own
+            sb.append("# TYPE ").append(name).append("_max gauge\n");
+            series.forEach((labels, histogram) -> sb.append(name).append("_max").append(labels).append(' ').append(histogram.getMax()).append('\n'));
+        });
+        return sb.toString();
+    }
+
+    public static Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        counters.forEach((name, series) -> series.forEach((labels, counter) -> snapshot.put(name + labels, counter.get())));
+        gauges.forEach((name, series) -> series.forEach((labels, gauge) -> snapshot.put(name + labels, gauge.getAsDouble())));
+        histograms.forEach((name, series) -> series.forEach((labels, histogram) -> {
+            Map<String, Object> values = new LinkedHashMap<>();
+            long[] percentiles = histogram.percentiles(QUANTILES);
+            for (int i = 0; i < percentiles.length; i++) {
+                values.put("p" + QUANTILE_NAMES[i].substring(2), percentiles[i]);
+            }
+            values.put("count", histogram.getCount());
+            values.put("sum", histogram.getSum());
+            values.put("max", histogram.getMax());
+            snapshot.put(name + labels, values);
+        }));
+        return snapshot;
+    }
+}
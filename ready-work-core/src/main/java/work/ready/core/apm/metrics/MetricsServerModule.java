@@ -0,0 +1,52 @@
+/**
+ *
+ * Copyright (c) 2020 WeiHua Lyu [ready.work]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package work.ready.core.apm.metrics;
+
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.Headers;
+import work.ready.core.apm.ApmManager;
+import work.ready.core.handler.BaseHandler;
+import work.ready.core.security.AccessControl;
+
+/**
+ * Serves the metrics scrape text. It is registered as a path handler, so the limiter and ip rules of the security
+ * module run before it, and by default only loopback and private network peers may scrape.
+ */
+public class MetricsServerModule extends BaseHandler {
+
+    private static final String STATUS_ACCESS_DENIED = "ERROR10998";
+
+    @Override
+    public void handleRequest(final HttpServerExchange exchange) throws Exception {
+        if(!MetricsRegistry.isEnabled()) {
+            manager.next(exchange);
+            return;
+        }
+        if(ApmManager.getConfig().isMetricsLocalOnly() && !AccessControl.isLocal(exchange.getSourceAddress().getAddress())) {
+            exception(exchange, STATUS_ACCESS_DENIED);
+            return;
+        }
+        // rendering every series is too much work for an io thread
+        if(exchange.isInIoThread()) {
+            exchange.dispatch(this);
+            return;
+        }
+        exchange.getResponseHeaders().put(Headers.CONTENT_TYPE, "text/plain; version=0.0.4");
+        exchange.getResponseSender().send(MetricsRegistry.scrape());
+    }
+}
@@ -32,6 +32,7 @@ public class Span{
     private String parentId;
     private String correlationId;
     private String traceabilityId;
+    private long spanId;
     private String id;
     private Long spend;
     private String port;
@@ -128,14 +129,29 @@ public class Span{
     }
 
     public String getId() {
+        if (id == null && spanId != 0) {
+            id = Long.toString(spanId);
+        }
         return id;
     }
 
     public Span setId(String id) {
         this.id = id;
+        this.spanId = 0;
+        return this;
+    }
+
+    // the string form is only built when a reporter or a child span asks for it
+    public Span setId(long spanId) {
+        this.spanId = spanId;
+        this.id = null;
         return this;
     }
 
+    public long getSpanId() {
+        return spanId;
+    }
+
     public Long getSpend() {
         return spend;
     }
@@ -185,7 +201,7 @@ public class Span{
                 .append(", parentId='").append(parentId).append('\'')
                 .append(", correlationId='").append(correlationId).append('\'')
                 .append(", traceabilityId='").append(traceabilityId).append('\'')
-                .append(", id='").append(id).append('\'')
+                .append(", id='").append(getId()).append('\'')
                 .append(", spend=").append(spend)
                 .append(", port='").append(port).append('\'')
                 .append(", ip='").append(ip).append('\'')
@@ -35,4 +35,5 @@ public class SpanType {
     public final static String HEARTBEAT = "hb";
     public final static String TOPOLOGY = "topo";
     public final static String JVM = "jvm";
+    public final static String METRICS = "metric";
 }
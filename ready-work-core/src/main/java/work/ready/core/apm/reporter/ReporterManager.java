@@ -30,10 +30,10 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import static work.ready.core.tools.ClassUtil.getDefaultClassLoader;
 
@@ -41,7 +41,10 @@ public class ReporterManager {
     private static final Log logger = LogFactory.getLog(ReporterManager.class);
     private static Reporter reporter;
     private static Map<String, Reporter> reporterMap;
-    private static BlockingQueue<Span> queue = new LinkedBlockingQueue<>(ApmManager.getConfig().getReporter().getQueueSize());
+    private static SpanRingBuffer<Span> queue = new SpanRingBuffer<>(ApmManager.getConfig().getReporter().getQueueSize());
+    private static final LongAdder droppedCount = new LongAdder();
+    private static final AtomicLong lastDropWarning = new AtomicLong();
+    private static final long DROP_WARNING_INTERVAL = 10000;
     private static ScheduledExecutorService scheduledExecutorService;
     private static String reporterName;
     private static final int idleSleep = ApmManager.getConfig().getReporter().getIdleSleep();
@@ -104,7 +107,7 @@ public class ReporterManager {
 
     private static void initQueue() {
         int queueSize = ApmManager.getConfig().getReporter().getQueueSize();
-        queue = new LinkedBlockingQueue<Span>(queueSize);
+        queue = new SpanRingBuffer<>(queueSize);
     }
 
     private static void initTask(int threadNum) {
@@ -141,7 +144,20 @@ public class ReporterManager {
             logger.debug(span.toString());
         }
         if (!queue.offer(span)) {
-            logger.warn("report queue is full.");
+            droppedCount.increment();
+            long now = System.currentTimeMillis();
+            long last = lastDropWarning.get();
+            if (now - last > DROP_WARNING_INTERVAL && lastDropWarning.compareAndSet(last, now)) {
+                logger.warn("report queue is full, %s spans dropped so far.", droppedCount.sum());
+            }
         }
     }
+
+    public static long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    public static int getPendingCount() {
+        return queue.size();
+    }
 }
@@ -18,7 +18,9 @@
 
 package work.ready.core.component.cache;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public class AopCache {
 
@@ -40,6 +42,14 @@ public class AopCache {
         aopCache.put(cacheName, key, value, liveSeconds);
     }
 
+    public <T> Map<Object, T> getAll(String cacheName, Collection<?> keys) {
+        return aopCache.getAll(cacheName, keys);
+    }
+
+    public void putAll(String cacheName, Map<?, ?> values, int liveSeconds) {
+        aopCache.putAll(cacheName, values, liveSeconds);
+    }
+
     public List getKeys(String cacheName) {
         return aopCache.getKeys(cacheName);
     }
@@ -18,7 +18,10 @@
  */
 package work.ready.core.component.cache;
 
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public interface Cache {
 
@@ -36,6 +39,25 @@ public interface Cache {
 
     <T> T get(String cacheName, Object key, DataLoader dataLoader, int liveSeconds);
 
+    default <T> Map<Object, T> getAll(String cacheName, Collection<?> keys) {
+        Map<Object, T> result = new HashMap<>();
+        for (Object key : keys) {
+            T value = get(cacheName, key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    default void putAll(String cacheName, Map<?, ?> values) {
+        values.forEach((key, value) -> put(cacheName, key, value));
+    }
+
+    default void putAll(String cacheName, Map<?, ?> values, int liveSeconds) {
+        values.forEach((key, value) -> put(cacheName, key, value, liveSeconds));
+    }
+
     Integer getTtl(String cacheName, Object key);
 
     void setTtl(String cacheName, Object key, int seconds);
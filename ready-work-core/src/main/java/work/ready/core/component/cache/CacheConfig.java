@@ -19,6 +19,7 @@
 package work.ready.core.component.cache;
 
 import work.ready.core.component.cache.caffeine.CaffeineCache;
+import work.ready.core.component.cache.near.NearCache;
 import work.ready.core.component.cache.redis.RedisCache;
 import work.ready.core.component.redis.RedisConfig;
 import work.ready.core.config.BaseConfig;
@@ -31,6 +32,7 @@ public class CacheConfig extends BaseConfig {
     public static final String TYPE_IGNITE = "ignite";
     public static final String TYPE_REDIS = "redis";
     public static final String TYPE_CAFFEINE = "caffeine";
+    public static final String TYPE_NEAR = "near";
     public static final String TYPE_NONE = "none";
 
     final Map<String, Class<? extends Cache>> cacheProvider = new HashMap<>();
@@ -43,10 +45,15 @@ public class CacheConfig extends BaseConfig {
     private String aopCacheType;
     private String dbCacheType;
 
+    private String nearCacheRemoteType = TYPE_REDIS;
+    private long nearCacheMaxSize = 10000;
+    private int nearCacheLiveSeconds = 60;
+
     public CacheConfig() {
         cacheProvider.put(TYPE_NONE, DummyCache.class);
         cacheProvider.put(TYPE_CAFFEINE, CaffeineCache.class);
         cacheProvider.put(TYPE_REDIS, RedisCache.class);
+        cacheProvider.put(TYPE_NEAR, NearCache.class);
     }
 
     public String getCacheType() {
@@ -89,7 +96,34 @@ public class CacheConfig extends BaseConfig {
         this.dbCacheType = dbCacheType;
     }
 
+    public String getNearCacheRemoteType() {
+        return nearCacheRemoteType;
+    }
+
+    public void setNearCacheRemoteType(String nearCacheRemoteType) {
+        this.nearCacheRemoteType = nearCacheRemoteType;
+    }
+
+    public long getNearCacheMaxSize() {
+        return nearCacheMaxSize;
+    }
+
+    public void setNearCacheMaxSize(long nearCacheMaxSize) {
+        this.nearCacheMaxSize = nearCacheMaxSize;
+    }
+
+    public int getNearCacheLiveSeconds() {
+        return nearCacheLiveSeconds;
+    }
+
+    public void setNearCacheLiveSeconds(int nearCacheLiveSeconds) {
+        this.nearCacheLiveSeconds = nearCacheLiveSeconds;
+    }
+
     @Override
     public void validate() { 
+        if (TYPE_NEAR.equals(nearCacheRemoteType)) {
+            throw new RuntimeException("nearCacheRemoteType can not be '" + TYPE_NEAR + "'.");
+        }
     }
 }
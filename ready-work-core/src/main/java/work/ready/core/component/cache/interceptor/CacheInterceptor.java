@@ -35,7 +35,6 @@ import work.ready.core.tools.ClassUtil;
 
 import java.lang.reflect.Method;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -43,10 +42,17 @@ public class CacheInterceptor implements Interceptor {
 
     private static final String NULL_VALUE = "NULL_VALUE";
     private static final String renderKey = "_renderKey";
-    private ConcurrentHashMap<String, ReentrantLock> lockMap = new ConcurrentHashMap<String, ReentrantLock>(512);
+    private static final int lockStripes = 512;
+    private final ReentrantLock[] locks = new ReentrantLock[lockStripes];
 
     private AopCache aopCache = Ready.cacheManager().getAopCache();
 
+    public CacheInterceptor() {
+        for (int i = 0; i < lockStripes; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
     @Override
     public void intercept(Invocation inv) throws Throwable {
 
@@ -72,21 +78,16 @@ public class CacheInterceptor implements Interceptor {
 
         Object data = aopCache.get(cacheName, cacheKey);
         if (data != null) {
-            if(isController){
-                useCacheDataAndRender((Map<String, Object>)data, inv.getController());
-            }else {
-                if (NULL_VALUE.equals(data)) {
-                    inv.setReturnValue(null);
-                } else if (cacheable.returnCopyEnable()) {
-                    inv.setReturnValue(getCopyObject(inv, data));
-                } else {
-                    inv.setReturnValue(data);
-                }
-            }
+            useCacheData(inv, cacheable, isController, data);
         } else {
-            Lock lock = getLock(cacheName);
-            lock.lock();					
+            Lock lock = getLock(cacheName, cacheKey);
+            lock.lock();
             try {
+                data = aopCache.get(cacheName, cacheKey);
+                if (data != null) {
+                    useCacheData(inv, cacheable, isController, data);
+                    return;
+                }
                 inv.invoke();
                 if(isController){
                     cacheAction(cacheName, cacheKey, cacheable.liveSeconds(), inv.getController());
@@ -111,15 +112,24 @@ public class CacheInterceptor implements Interceptor {
         }
     }
 
-    private ReentrantLock getLock(String key) {
-        ReentrantLock lock = lockMap.get(key);
-        if (lock != null) {
-            return lock;
+    private void useCacheData(Invocation inv, Cacheable cacheable, boolean isController, Object data) {
+        if(isController){
+            useCacheDataAndRender((Map<String, Object>)data, inv.getController());
+        }else {
+            if (NULL_VALUE.equals(data)) {
+                inv.setReturnValue(null);
+            } else if (cacheable.returnCopyEnable()) {
+                inv.setReturnValue(getCopyObject(inv, data));
+            } else {
+                inv.setReturnValue(data);
+            }
         }
+    }
 
-        lock = new ReentrantLock();
-        ReentrantLock previousLock = lockMap.putIfAbsent(key, lock);
-        return previousLock == null ? lock : previousLock;
+    // striped per cache key, misses of the same key wait for one invocation while other keys proceed
+    private ReentrantLock getLock(String cacheName, String cacheKey) {
+        int hash = 31 * cacheName.hashCode() + cacheKey.hashCode();
+        return locks[(hash ^ (hash >>> 16)) & (lockStripes - 1)];
     }
 
     private <M extends Model> Object getCopyObject(Invocation inv, Object data) {
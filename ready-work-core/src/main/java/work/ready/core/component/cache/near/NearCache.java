@@ -0,0 +1,258 @@
+/**
+ *
+ * Copyright (c) 2020 WeiHua Lyu [ready.work]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package work.ready.core.component.cache.near;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import work.ready.core.component.cache.BaseCache;
+import work.ready.core.component.cache.Cache;
+import work.ready.core.component.cache.CacheConfig;
+import work.ready.core.component.cache.DataLoader;
+import work.ready.core.component.cache.caffeine.CaffeineCacheObject;
+import work.ready.core.component.cache.redis.RedisCache;
+import work.ready.core.log.Log;
+import work.ready.core.log.LogFactory;
+import work.ready.core.server.Ready;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Two level cache, a bounded local Caffeine tier in front of a shared remote tier (redis by default).
+ * Writes go to the remote tier first and are then broadcast, so other nodes drop their local copy.
+ * The local TTL bounds the staleness if an invalidation message gets lost.
+ */
+public class NearCache extends BaseCache {
+    private static final Log logger = LogFactory.getLog(NearCache.class);
+
+    private static final char SEPARATOR = '\n';
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<String, CaffeineCacheObject> local;
+    private final AtomicLong invalidations = new AtomicLong();
+    private volatile InvalidationBroadcaster broadcaster;
+
+    public NearCache() {
+        this(Ready.cacheManager().getCache(Ready.cacheManager().getConfig().getNearCacheRemoteType()));
+    }
+
+    public NearCache(Cache remote) {
+        if (remote instanceof NearCache) {
+            throw new IllegalArgumentException("remote tier of near cache can not be another near cache.");
+        }
+        CacheConfig config = Ready.cacheManager().getConfig();
+        this.remote = remote;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(config.getNearCacheMaxSize())
+                .expireAfterWrite(config.getNearCacheLiveSeconds(), TimeUnit.SECONDS)
+                .build();
+        if (remote instanceof RedisCache) {
+            setBroadcaster(new RedisInvalidationBroadcaster(((RedisCache) remote).getRedis()));
+        } else {
+            logger.warn("Near cache over %s has no invalidation broadcaster, local entries are only refreshed every %s seconds.", remote.getClass().getSimpleName(), config.getNearCacheLiveSeconds());
+        }
+    }
+
+    public void setBroadcaster(InvalidationBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+        broadcaster.subscribe(this::onInvalidation);
+    }
+
+    public Cache getRemote() {
+        return remote;
+    }
+
+    @Override
+    public <T> T get(String cacheName, Object key) {
+        String localKey = buildKey(cacheName, key);
+        CaffeineCacheObject data = local.getIfPresent(localKey);
+        if (data != null && !data.isDue()) {
+            return (T) data.getValue();
+        }
+        long version = invalidations.get();
+        T value = remote.get(cacheName, key);
+        putLocal(localKey, value, null, version);
+        return value;
+    }
+
+    @Override
+    public <T> T get(String cacheName, Object key, DataLoader dataLoader) {
+        return get(cacheName, key, dataLoader, 0);
+    }
+
+    @Override
+    public <T> T get(String cacheName, Object key, DataLoader dataLoader, int liveSeconds) {
+        String localKey = buildKey(cacheName, key);
+        CaffeineCacheObject data = local.getIfPresent(localKey);
+        if (data != null && !data.isDue()) {
+            return (T) data.getValue();
+        }
+        long version = invalidations.get();
+        T value = remote.get(cacheName, key, dataLoader, liveSeconds);
+        putLocal(localKey, value, liveSeconds > 0 ? liveSeconds : null, version);
+        return value;
+    }
+
+    @Override
+    public <T> Map<Object, T> getAll(String cacheName, Collection<?> keys) {
+        Map<Object, T> result = new HashMap<>();
+        List<Object> missed = new ArrayList<>();
+        for (Object key : keys) {
+            CaffeineCacheObject data = local.getIfPresent(buildKey(cacheName, key));
+            if (data != null && !data.isDue()) {
+                result.put(key, (T) data.getValue());
+            } else {
+                missed.add(key);
+            }
+        }
+        if (!missed.isEmpty()) {
+            long version = invalidations.get();
+            Map<Object, T> loaded = remote.getAll(cacheName, missed);
+            loaded.forEach((key, value) -> putLocal(buildKey(cacheName, key), value, null, version));
+            result.putAll(loaded);
+        }
+        return result;
+    }
+
+    @Override
+    public void put(String cacheName, Object key, Object value) {
+        remote.put(cacheName, key, value);
+        invalidate(cacheName, buildKey(cacheName, key));
+    }
+
+    @Override
+    public void put(String cacheName, Object key, Object value, int liveSeconds) {
+        remote.put(cacheName, key, value, liveSeconds);
+        invalidate(cacheName, buildKey(cacheName, key));
+    }
+
+    @Override
+    public void putAll(String cacheName, Map<?, ?> values) {
+        putAll(cacheName, values, 0);
+    }
+
+    @Override
+    public void putAll(String cacheName, Map<?, ?> values, int liveSeconds) {
+        remote.putAll(cacheName, values, liveSeconds);
+        for (Object key : values.keySet()) {
+            invalidate(cacheName, buildKey(cacheName, key));
+        }
+    }
+
+    @Override
+    public void remove(String cacheName, Object key) {
+        remote.remove(cacheName, key);
+        invalidate(cacheName, buildKey(cacheName, key));
+    }
+
+    @Override
+    public void removeAll(String cacheName) {
+        remote.removeAll(cacheName);
+        invalidate(cacheName, "");
+    }
+
+    @Override
+    public Integer getTtl(String cacheName, Object key) {
+        return remote.getTtl(cacheName, key);
+    }
+
+    @Override
+    public void setTtl(String cacheName, Object key, int seconds) {
+        remote.setTtl(cacheName, key, seconds);
+        invalidate(cacheName, buildKey(cacheName, key));
+    }
+
+    @Override
+    public void refresh(String cacheName, Object key) {
+        evictLocal(cacheName, buildKey(cacheName, key));
+    }
+
+    @Override
+    public void refresh(String cacheName) {
+        evictLocal(cacheName, "");
+    }
+
+    @Override
+    public List getNames() {
+        return remote.getNames();
+    }
+
+    @Override
+    public List getKeys(String cacheName) {
+        return remote.getKeys(cacheName);
+    }
+
+    // a value read from the remote tier is only kept locally if no invalidation arrived while it was read
+    private void putLocal(String localKey, Object value, Integer liveSeconds, long version) {
+        if (value == null) {
+            return;
+        }
+        CaffeineCacheObject data = new CaffeineCacheObject(value, liveSeconds);
+        data.setCachetime(Ready.currentTimeMillis());
+        if (invalidations.get() == version) {
+            local.put(localKey, data);
+        }
+    }
+
+    private void invalidate(String cacheName, String localKey) {
+        evictLocal(cacheName, localKey);
+        InvalidationBroadcaster broadcaster = this.broadcaster;
+        if (broadcaster != null) {
+            try {
+                broadcaster.publish(nodeId + SEPARATOR + cacheName + SEPARATOR + localKey);
+            } catch (Exception e) {
+                logger.warn(e, "Near cache failed to broadcast invalidation of %s.", cacheName);
+            }
+        }
+    }
+
+    private void evictLocal(String cacheName, String localKey) {
+        invalidations.incrementAndGet();
+        if (localKey.isEmpty()) {
+            String prefix = cacheName + ":";
+            local.asMap().keySet().removeIf(key -> key.startsWith(prefix));
+        } else {
+            local.invalidate(localKey);
+        }
+    }
+
+    private void onInvalidation(String message) {
+        int first = message.indexOf(SEPARATOR);
+        int second = first < 0 ? -1 : message.indexOf(SEPARATOR, first + 1);
+        if (second < 0 || message.regionMatches(0, nodeId, 0, first) && first == nodeId.length()) {
+            return;
+        }
+        evictLocal(message.substring(first + 1, second), message.substring(second + 1));
+    }
+
+    private String buildKey(String cacheName, Object key) {
+        StringBuilder keyBuilder = new StringBuilder(cacheName).append(":");
+        if (key instanceof String) {
+            keyBuilder.append("S");
+        } else if (key instanceof Number) {
+            keyBuilder.append("I");
+        } else if (key == null) {
+            keyBuilder.append("S");
+            key = "null";
+        } else {
+            keyBuilder.append("O");
+        }
+        return keyBuilder.append(":").append(key).toString();
+    }
+}
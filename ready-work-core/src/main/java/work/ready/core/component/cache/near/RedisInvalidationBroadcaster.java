@@ -0,0 +1,49 @@
+/**
+ *
+ * Copyright (c) 2020 WeiHua Lyu [ready.work]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package work.ready.core.component.cache.near;
+
+import redis.clients.jedis.JedisPubSub;
+import work.ready.core.component.redis.Redis;
+
+import java.util.function.Consumer;
+
+public class RedisInvalidationBroadcaster implements InvalidationBroadcaster {
+
+    public static final String CHANNEL = "ready_near_cache_invalidation";
+
+    private final Redis redis;
+
+    public RedisInvalidationBroadcaster(Redis redis) {
+        this.redis = redis;
+    }
+
+    @Override
+    public void publish(String message) {
+        redis.publish(CHANNEL, message);
+    }
+
+    @Override
+    public void subscribe(Consumer<String> listener) {
+        redis.subscribe(new JedisPubSub() {
+            @Override
+            public void onMessage(String channel, String message) {
+                listener.accept(message);
+            }
+        }, CHANNEL);
+    }
+}
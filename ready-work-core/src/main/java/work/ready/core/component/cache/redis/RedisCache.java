@@ -18,6 +18,7 @@
  */
 package work.ready.core.component.cache.redis;
 
+import redis.clients.jedis.JedisPubSub;
 import work.ready.core.component.cache.BaseCache;
 import work.ready.core.component.cache.DataLoader;
 import work.ready.core.component.redis.Redis;
@@ -27,15 +28,19 @@ import work.ready.core.component.redis.jedis.JedisCluster;
 import work.ready.core.component.redis.RedisConfig;
 import work.ready.core.server.Ready;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class RedisCache extends BaseCache {
 
     private Redis redis;
-    private static final Object dataLocker = new Object();
     private static final String redisCacheNamesKey = "cache_names";
+    private static final String cacheNameRemovedChannel = "ready_cache_name_removed";
+    private static final long cacheNameRegisterInterval = 60000;
+    private final Map<String, Long> registeredCacheNames = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Object>> loadingData = new ConcurrentHashMap<>();
 
     public RedisCache() {
         RedisConfig config = Ready.cacheManager().getConfig().getRedis();
@@ -45,6 +50,12 @@ public class RedisCache extends BaseCache {
         } catch (Exception e) {
             throw new RuntimeException("Redis client initialize failed, please check the cache paragraph of application config.");
         }
+        redis.subscribe(new JedisPubSub() {
+            @Override
+            public void onMessage(String channel, String message) {
+                registeredCacheNames.remove(message);
+            }
+        }, cacheNameRemovedChannel);
     }
 
     @Override
@@ -55,8 +66,8 @@ public class RedisCache extends BaseCache {
 
     @Override
     public void put(String cacheName, Object key, Object value) {
-        redis.set(buildKey(cacheName, key), wrapNull(value)); 
-        redis.sadd(redisCacheNamesKey, cacheName);
+        redis.set(buildKey(cacheName, key), wrapNull(value));
+        registerCacheName(cacheName);
     }
 
     @Override
@@ -67,7 +78,55 @@ public class RedisCache extends BaseCache {
         }
 
         redis.setex(buildKey(cacheName, key), liveSeconds, wrapNull(value));
-        redis.sadd(redisCacheNamesKey, cacheName);
+        registerCacheName(cacheName);
+    }
+
+    @Override
+    public <T> Map<Object, T> getAll(String cacheName, Collection<?> keys) {
+        if (keys.isEmpty() || redis instanceof JedisCluster) {
+            return super.getAll(cacheName, keys);
+        }
+        Object[] keyArray = keys.toArray();
+        Object[] redisKeys = new Object[keyArray.length];
+        for (int i = 0; i < keyArray.length; i++) {
+            redisKeys[i] = buildKey(cacheName, keyArray[i]);
+        }
+        List values = redis.mget(redisKeys);
+        Map<Object, T> result = new HashMap<>();
+        for (int i = 0; i < keyArray.length; i++) {
+            Object value = values.get(i);
+            if (value != null && !NULL.equals(value)) {
+                result.put(keyArray[i], (T) value);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void putAll(String cacheName, Map<?, ?> values) {
+        putAll(cacheName, values, 0);
+    }
+
+    @Override
+    public void putAll(String cacheName, Map<?, ?> values, int liveSeconds) {
+        if (values.isEmpty()) {
+            return;
+        }
+        Map<Object, Object> keysValues = new HashMap<>();
+        values.forEach((key, value) -> keysValues.put(buildKey(cacheName, key), wrapNull(value)));
+        redis.msetex(keysValues, liveSeconds);
+        registerCacheName(cacheName);
+    }
+
+    // cache_names only backs getNames(), so a node re-registers a name once per interval instead of on every put,
+    // a removeAll on any node drops the local registration through pub/sub so the next write registers it again
+    private void registerCacheName(String cacheName) {
+        long now = Ready.currentTimeMillis();
+        Long registered = registeredCacheNames.get(cacheName);
+        if (registered == null || now - registered > cacheNameRegisterInterval) {
+            registeredCacheNames.put(cacheName, now);
+            redis.sadd(redisCacheNamesKey, cacheName);
+        }
     }
 
     @Override
@@ -97,22 +156,14 @@ public class RedisCache extends BaseCache {
             }
         } while (scanKeys != null && scanKeys.size() != 0);
 
+        registeredCacheNames.remove(cacheName);
         redis.srem(redisCacheNamesKey, cacheName);
+        redis.publish(cacheNameRemovedChannel, cacheName);
     }
 
     @Override
     public <T> T get(String cacheName, Object key, DataLoader dataLoader) {
-        Object data = get(cacheName, key);
-        if (data == null) {
-            synchronized (dataLocker) {
-                data = get(cacheName, key);
-                if (data == null) {
-                    data = dataLoader.load();
-                    put(cacheName, key, data);
-                }
-            }
-        }
-        return (T) data;
+        return get(cacheName, key, dataLoader, 0);
     }
 
     private String buildKey(String cacheName, Object key) {
@@ -132,21 +183,35 @@ public class RedisCache extends BaseCache {
 
     @Override
     public <T> T get(String cacheName, Object key, DataLoader dataLoader, int liveSeconds) {
-        if (liveSeconds <= 0) {
-            return get(cacheName, key, dataLoader);
-        }
-
         Object data = get(cacheName, key);
-        if (data == null) {
-            synchronized (dataLocker) {
-                data = get(cacheName, key);
-                if (data == null) {
-                    data = dataLoader.load();
-                    put(cacheName, key, data, liveSeconds);
-                }
+        if (data != null) {
+            return (T) data;
+        }
+        // concurrent misses of the same key share one load, other keys are not blocked
+        String redisKey = buildKey(cacheName, key);
+        CompletableFuture<Object> loading = new CompletableFuture<>();
+        CompletableFuture<Object> existing = loadingData.putIfAbsent(redisKey, loading);
+        if (existing != null) {
+            try {
+                return (T) existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+        try {
+            data = get(cacheName, key);
+            if (data == null) {
+                data = dataLoader.load();
+                put(cacheName, key, data, liveSeconds);
             }
+            loading.complete(data);
+            return (T) data;
+        } catch (RuntimeException | Error e) {
+            loading.completeExceptionally(e);
+            throw e;
+        } finally {
+            loadingData.remove(redisKey, loading);
         }
-        return (T) data;
     }
 
     @Override
@@ -21,23 +21,28 @@ package work.ready.core.component.proxy;
 
 import work.ready.core.log.Log;
 import work.ready.core.log.LogFactory;
+import work.ready.core.tools.HashUtil;
 
 import javax.tools.*;
-import java.io.ByteArrayOutputStream;
-import java.io.File;
-import java.io.IOException;
-import java.io.OutputStream;
+import java.io.*;
 import java.net.URI;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.*;
 import java.util.Map.Entry;
 
 public class ProxyCompiler {
 
 	private static final Log logger = LogFactory.getLog(ProxyCompiler.class);
+	// compiled classes bundled with the application at build time, same format as the disk cache
+	public static final String PREBUILT_LOCATION = "META-INF/ready/proxy/";
+	private static final String CACHE_FILE_EXT = ".bin";
 
 	protected volatile List<String> options = null;
+	protected Path cacheDirectory = null;
 
 	protected List<String> getOptions() {
 		if (options != null) {
@@ -108,6 +113,81 @@ public class ProxyCompiler {
 	}
 
 	public void compile(SourceCode proxyClass) {
+		String cacheKey = getCacheKey(proxyClass);
+		Map<String, byte[]> cached = loadCompiled(cacheKey);
+		if (cached != null) {
+			proxyClass.setByteCode(cached);
+			return;
+		}
+		doCompile(proxyClass);
+		if (cacheDirectory != null && proxyClass.getByteCode() != null && !proxyClass.getByteCode().isEmpty()) {
+			saveCompiled(cacheKey, proxyClass.getByteCode());
+		}
+	}
+
+	protected String getCacheKey(SourceCode proxyClass) {
+		return HashUtil.sha256(System.getProperty("java.specification.version") + '\n' +
+				proxyClass.getPkg() + '.' + proxyClass.getName() + '\n' + proxyClass.getSourceCode());
+	}
+
+	protected Map<String, byte[]> loadCompiled(String cacheKey) {
+		try {
+			ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+			if (classLoader == null) {
+				classLoader = ProxyCompiler.class.getClassLoader();
+			}
+			try (InputStream in = classLoader.getResourceAsStream(PREBUILT_LOCATION + cacheKey + CACHE_FILE_EXT)) {
+				if (in != null) {
+					return readByteCode(in);
+				}
+			}
+			if (cacheDirectory != null) {
+				Path file = cacheDirectory.resolve(cacheKey + CACHE_FILE_EXT);
+				if (Files.isRegularFile(file)) {
+					try (InputStream in = Files.newInputStream(file)) {
+						return readByteCode(in);
+					}
+				}
+			}
+		} catch (IOException e) {
+			logger.warn(e, "Failed to load compiled proxy class %s from cache", cacheKey);
+		}
+		return null;
+	}
+
+	protected void saveCompiled(String cacheKey, Map<String, byte[]> byteCode) {
+		try {
+			Files.createDirectories(cacheDirectory);
+			// write to a temp file first, other instances sharing the directory only ever see complete files
+			Path temp = Files.createTempFile(cacheDirectory, cacheKey, ".tmp");
+			try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+				out.writeInt(byteCode.size());
+				for (Entry<String, byte[]> e : byteCode.entrySet()) {
+					out.writeUTF(e.getKey());
+					out.writeInt(e.getValue().length);
+					out.write(e.getValue());
+				}
+			}
+			Files.move(temp, cacheDirectory.resolve(cacheKey + CACHE_FILE_EXT), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			logger.warn(e, "Failed to save compiled proxy class %s to cache directory %s", cacheKey, cacheDirectory);
+		}
+	}
+
+	protected Map<String, byte[]> readByteCode(InputStream in) throws IOException {
+		DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+		int size = data.readInt();
+		Map<String, byte[]> ret = new HashMap<>();
+		for (int i = 0; i < size; i++) {
+			String name = data.readUTF();
+			byte[] bytes = new byte[data.readInt()];
+			data.readFully(bytes);
+			ret.put(name, bytes);
+		}
+		return ret;
+	}
+
+	protected void doCompile(SourceCode proxyClass) {
 		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
 		if (compiler == null) {
 			throw new RuntimeException("Can not get javax.tools.JavaCompiler, check whether \"tools.jar\" is in the environment variable CLASSPATH");
@@ -137,6 +217,15 @@ public class ProxyCompiler {
 		}
 	}
 
+	public Path getCacheDirectory() {
+		return cacheDirectory;
+	}
+
+	public ProxyCompiler setCacheDirectory(Path cacheDirectory) {
+		this.cacheDirectory = cacheDirectory;
+		return this;
+	}
+
 	public ProxyCompiler setCompileOptions(List<String> options) {
 		Objects.requireNonNull(options, "options can not be null");
 		this.options = options;
@@ -52,6 +52,8 @@ public interface Redis {
     @SuppressWarnings("rawtypes")
     public List mget(Object... keys);
 
+    public void msetex(Map<Object, Object> keysValues, int seconds);
+
     public Long decr(Object key);
 
     public Long decrBy(Object key, long value);
@@ -108,6 +110,8 @@ public interface Redis {
 
     public Map hgetAll(Object key);
 
+    public void hupdate(Object key, Map<Object, Object> hash, Object[] removedFields, int seconds);
+
     @SuppressWarnings("rawtypes")
     public List hvals(Object key);
 
@@ -243,6 +243,27 @@ public class Jedis extends BaseRedis {
         }
     }
 
+    @Override
+    public void msetex(Map<Object, Object> keysValues, int seconds) {
+        if (keysValues.isEmpty()) {
+            return;
+        }
+        redis.clients.jedis.Jedis jedis = getJedis();
+        try {
+            Pipeline pipeline = jedis.pipelined();
+            for (Entry<Object, Object> entry : keysValues.entrySet()) {
+                if (seconds > 0) {
+                    pipeline.setex(keyToBytes(entry.getKey()), seconds, valueToBytes(entry.getValue()));
+                } else {
+                    pipeline.set(keyToBytes(entry.getKey()), valueToBytes(entry.getValue()));
+                }
+            }
+            pipeline.sync();
+        } finally {
+            returnResource(jedis);
+        }
+    }
+
     @Override
     @SuppressWarnings("rawtypes")
     public List mget(Object... keys) {
@@ -548,6 +569,32 @@ public class Jedis extends BaseRedis {
         }
     }
 
+    @Override
+    public void hupdate(Object key, Map<Object, Object> hash, Object[] removedFields, int seconds) {
+        redis.clients.jedis.Jedis jedis = getJedis();
+        try {
+            byte[] keyBytes = keyToBytes(key);
+            Pipeline pipeline = jedis.pipelined();
+            if (hash != null && !hash.isEmpty()) {
+                Map<byte[], byte[]> para = new HashMap<byte[], byte[]>();
+                for (Entry<Object, Object> e : hash.entrySet())
+                    para.put(valueToBytes(e.getKey()), valueToBytes(e.getValue()));
+                pipeline.hmset(keyBytes, para);
+            }
+            if (removedFields != null && removedFields.length > 0) {
+                pipeline.hdel(keyBytes, valuesToBytesArray(removedFields));
+            }
+            if (seconds > 0) {
+                pipeline.expire(keyBytes, seconds);
+            } else {
+                pipeline.persist(keyBytes);
+            }
+            pipeline.sync();
+        } finally {
+            returnResource(jedis);
+        }
+    }
+
     @Override
     @SuppressWarnings("rawtypes")
     public List hvals(Object key) {
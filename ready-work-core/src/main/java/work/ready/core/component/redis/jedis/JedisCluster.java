@@ -200,6 +200,18 @@ public class JedisCluster extends BaseRedis {
 
     }
 
+    @Override
+    public void msetex(Map<Object, Object> keysValues, int seconds) {
+        // keys of a batch usually hash to different slots, so they can't share one pipeline here
+        for (Entry<Object, Object> entry : keysValues.entrySet()) {
+            if (seconds > 0) {
+                jedisCluster.setex(keyToBytes(entry.getKey()), seconds, valueToBytes(entry.getValue()));
+            } else {
+                jedisCluster.set(keyToBytes(entry.getKey()), valueToBytes(entry.getValue()));
+            }
+        }
+    }
+
     @SuppressWarnings("rawtypes")
     public List mget(Object... keys) {
 
@@ -385,6 +397,26 @@ public class JedisCluster extends BaseRedis {
 
     }
 
+    @Override
+    public void hupdate(Object key, Map<Object, Object> hash, Object[] removedFields, int seconds) {
+        // one key lives in one slot, but the cluster client has no pipeline, so the commands are sent in turn
+        byte[] keyBytes = keyToBytes(key);
+        if (hash != null && !hash.isEmpty()) {
+            Map<byte[], byte[]> para = new HashMap<byte[], byte[]>();
+            for (Entry<Object, Object> e : hash.entrySet())
+                para.put(valueToBytes(e.getKey()), valueToBytes(e.getValue()));
+            jedisCluster.hmset(keyBytes, para);
+        }
+        if (removedFields != null && removedFields.length > 0) {
+            jedisCluster.hdel(keyBytes, valuesToBytesArray(removedFields));
+        }
+        if (seconds > 0) {
+            jedisCluster.expire(keyBytes, seconds);
+        } else {
+            jedisCluster.persist(keyBytes);
+        }
+    }
+
     @SuppressWarnings("rawtypes")
     public List hvals(Object key) {
 
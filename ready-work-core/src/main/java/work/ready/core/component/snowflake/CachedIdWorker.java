@@ -0,0 +1,192 @@
+/**
+ *
+ * Copyright (c) 2020 WeiHua Lyu [ready.work]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package work.ready.core.component.snowflake;
+
+import work.ready.core.log.Log;
+import work.ready.core.log.LogFactory;
+import work.ready.core.tools.ReadyThreadFactory;
+import work.ready.core.tools.validator.Assert;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * IdWorker that hands out ids from a ring buffer, refilled in the background once it drops below the padding factor.
+ * Padding may borrow as many future time units as the buffer holds, takers only move a CAS cursor.
+ * When the buffer runs dry the ids are allocated directly, from the same sequence, so they never collide.
+ */
+public class CachedIdWorker extends IdWorker {
+    private static final Log logger = LogFactory.getLog(CachedIdWorker.class);
+
+    public static final int DEFAULT_BOOST_POWER = 3;
+    public static final int DEFAULT_PADDING_FACTOR = 50;
+    private static final int MIN_BUFFER_SIZE = 1024;
+
+    private final RingBuffer ringBuffer;
+    private final int paddingThreshold;
+    private final AtomicBoolean padding = new AtomicBoolean();
+    private final ExecutorService paddingExecutor;
+
+    public CachedIdWorker(IdWorker layout) {
+        this(layout, DEFAULT_BOOST_POWER, DEFAULT_PADDING_FACTOR);
+    }
+
+    public CachedIdWorker(IdWorker layout, int boostPower, int paddingFactor) {
+        super(layout.workerId, null, layout.timeUnit, layout.timeBits, layout.workerBits, layout.seqBits);
+        this.epochDate = layout.epochDate;
+        this.epochMillis = layout.epochMillis;
+        this.epoch = layout.epoch;
+        setTolerableClockMovedBackwardsSeconds(layout.tolerableClockMovedBackwardsSeconds);
+        Assert.that(boostPower > 0 && paddingFactor > 0 && paddingFactor < 100).isTrue("boostPower must be positive and paddingFactor between 1 and 99");
+
+        long size = Math.max(MIN_BUFFER_SIZE, (maxSequence + 1) << boostPower);
+        Assert.that(size <= (1 << 24)).isTrue("ring buffer is too large, reduce boostPower or seqBits");
+        int bufferSize = Integer.highestOneBit((int) size - 1) << 1;
+        this.ringBuffer = new RingBuffer(bufferSize);
+        this.paddingThreshold = bufferSize * paddingFactor / 100;
+        setMaxBorrowTime(bufferSize / (maxSequence + 1));
+        this.paddingExecutor = Executors.newSingleThreadExecutor(new ReadyThreadFactory("IdWorkerPadding", Thread.NORM_PRIORITY, true));
+        fill();
+    }
+
+    @Override
+    protected long nextId() {
+        long id = ringBuffer.take();
+        if (ringBuffer.size() < paddingThreshold) {
+            asyncPadding();
+        }
+        return id < 0 ? super.nextId() : id;
+    }
+
+    public void asyncPadding() {
+        if (padding.compareAndSet(false, true)) {
+            try {
+                paddingExecutor.execute(() -> {
+                    try {
+                        fill();
+                    } catch (Exception e) {
+                        logger.error(e, "IdWorker padding exception");
+                    } finally {
+                        padding.set(false);
+                    }
+                });
+            } catch (RuntimeException e) {
+                padding.set(false);
+                throw e;
+            }
+        }
+    }
+
+    // single producer, only ever called from the constructor or the padding thread
+    private void fill() {
+        int free;
+        while ((free = ringBuffer.capacity() - ringBuffer.size()) > 0) {
+            long first = allocate(free, false);
+            if (first < 0) {
+                break;   // borrowed as far ahead as allowed
+            }
+            long count = Math.min(free, maxSequence - (first & maxSequence) + 1);
+            for (long i = 0; i < count; i++) {
+                long id = compose(first + i);
+                // a taker that already moved the cursor may not have released its slot yet
+                while (!ringBuffer.put(id)) {
+                    Thread.onSpinWait();
+                }
+            }
+        }
+    }
+
+    public int getBufferSize() {
+        return ringBuffer.capacity();
+    }
+
+    public int getBufferedCount() {
+        return ringBuffer.size();
+    }
+
+    public void shutdown() {
+        paddingExecutor.shutdown();
+        try {
+            paddingExecutor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Single producer, multi consumer ring of longs. Every slot carries a sequence telling whether it was filled for
+     * the round the cursor is in, so a taker never reads a slot the producer is still writing.
+     */
+    private static final class RingBuffer {
+        private final long[] slots;
+        private final AtomicLongArray sequences;
+        private final int mask;
+        private final AtomicLong cursor = new AtomicLong();
+        private volatile long tail;
+
+        RingBuffer(int capacity) {
+            this.slots = new long[capacity];
+            this.sequences = new AtomicLongArray(capacity);
+            this.mask = capacity - 1;
+            for (int i = 0; i < capacity; i++) {
+                sequences.lazySet(i, i);
+            }
+        }
+
+        boolean put(long value) {
+            long position = tail;
+            int index = (int) position & mask;
+            if (sequences.get(index) != position) {
+                return false;
+            }
+            slots[index] = value;
+            sequences.lazySet(index, position + 1);
+            tail = position + 1;
+            return true;
+        }
+
+        long take() {
+            for (;;) {
+                long position = cursor.get();
+                int index = (int) position & mask;
+                long diff = sequences.get(index) - (position + 1);
+                if (diff == 0) {
+                    if (cursor.compareAndSet(position, position + 1)) {
+                        long value = slots[index];
+                        sequences.lazySet(index, position + slots.length);
+                        return value;
+                    }
+                } else if (diff < 0) {
+                    return -1;
+                }
+            }
+        }
+
+        int size() {
+            return (int) Math.max(0, tail - cursor.get());
+        }
+
+        int capacity() {
+            return slots.length;
+        }
+    }
+}
@@ -31,29 +31,42 @@ import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.util.Date;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
 
 public class IdWorker {
     private static final Log logger = LogFactory.getLog(IdWorker.class);
 
     public static final int TOTAL_BITS = 1 << 6;
 
+    // millisecond layout: 41 bits of milliseconds last about 69 years, 16 ids per millisecond and worker
+    public static final int MILLISECOND_TIME_BITS = 41;
+    public static final int MILLISECOND_WORKER_BITS = 18;
+    public static final int MILLISECOND_SEQ_BITS = 4;
+
     protected int signBits = 1;
 
     protected String epochDate = "2020-01-01";
-    protected long epochSeconds = TimeUnit.MILLISECONDS.toSeconds(1577808000000L);
+    protected long epochMillis = 1577808000000L;
+
+    protected TimeUnit timeUnit = TimeUnit.SECONDS;
+    protected long epoch = timeUnit.convert(epochMillis, TimeUnit.MILLISECONDS);
 
     protected int tolerableClockMovedBackwardsSeconds = 2;
 
+    // how many time units ids may be handed out ahead of the clock once a time unit is exhausted
+    protected long maxBorrowTime = 0;
+
     protected int timeBits = 32;
 
     protected int workerBits = 18;
 
     protected int seqBits = 13;
 
-    protected long sequence = 0L;
-    protected long lastSecond = -1L;
+    // time delta and sequence of the last allocated id, (deltaTime << seqBits) | sequence
+    protected final AtomicLong lastAllocated = new AtomicLong();
 
-    protected long maxDeltaSeconds;
+    protected long maxDeltaTime;
     protected long maxWorkerId;
     protected long maxSequence;
 
@@ -62,17 +75,20 @@ public class IdWorker {
 
     protected long workerId;
 
-    public IdWorker(long workerId, String epochDate, int timeBits, int workerBits, int seqBits) {
+    public IdWorker(long workerId, String epochDate, TimeUnit timeUnit, int timeBits, int workerBits, int seqBits) {
         this.workerId = workerId;
 
         int allocateTotalBits = signBits + timeBits + workerBits + seqBits;
         Assert.that(allocateTotalBits == TOTAL_BITS).isTrue("allocate not enough 64 bits");
+        Assert.that(timeUnit == TimeUnit.SECONDS || timeUnit == TimeUnit.MILLISECONDS).isTrue("only SECONDS and MILLISECONDS time unit are supported");
 
-        this.maxDeltaSeconds = ~(-1L << timeBits);
+        this.maxDeltaTime = ~(-1L << timeBits);
         this.maxWorkerId = ~(-1L << workerBits);
         this.maxSequence = ~(-1L << seqBits);
         Assert.that(workerId <= maxWorkerId).isTrue(String.format("workerId exceed the max value %d", maxWorkerId));
 
+        this.timeUnit = timeUnit;
+        this.epoch = timeUnit.convert(epochMillis, TimeUnit.MILLISECONDS);
         setEpochDate(epochDate);
         setTimeBits(timeBits);
         setWorkerBits(workerBits);
@@ -82,6 +98,10 @@ public class IdWorker {
         this.workerIdShift = seqBits;
     }
 
+    public IdWorker(long workerId, String epochDate, int timeBits, int workerBits, int seqBits) {
+        this(workerId, epochDate, TimeUnit.SECONDS, timeBits, workerBits, seqBits);
+    }
+
     public IdWorker(long workerId, int timeBits, int workerBits, int seqBits) {
         this(workerId, null, timeBits, workerBits, seqBits);
     }
@@ -92,7 +112,7 @@ public class IdWorker {
         int allocateTotalBits = signBits + timeBits + workerBits + seqBits;
         Assert.that(allocateTotalBits == TOTAL_BITS).isTrue("allocate not enough 64 bits");
 
-        this.maxDeltaSeconds = ~(-1L << timeBits);
+        this.maxDeltaTime = ~(-1L << timeBits);
         this.maxWorkerId = ~(-1L << workerBits);
         this.maxSequence = ~(-1L << seqBits);
         Assert.that(workerId <= maxWorkerId).isTrue(String.format("workerId exceed the max value %d", maxWorkerId));
@@ -101,6 +121,10 @@ public class IdWorker {
         this.workerIdShift = seqBits;
     }
 
+    public static IdWorker millisecond(long workerId) {
+        return new IdWorker(workerId, null, TimeUnit.MILLISECONDS, MILLISECOND_TIME_BITS, MILLISECOND_WORKER_BITS, MILLISECOND_SEQ_BITS);
+    }
+
     public long getId() throws IdGenerateException {
         try {
             return nextId();
@@ -114,61 +138,89 @@ public class IdWorker {
         
         long sequence = (uid << (TOTAL_BITS - seqBits)) >>> (TOTAL_BITS - seqBits);
         long workerId = (uid << (timeBits + signBits)) >>> (TOTAL_BITS - workerBits);
-        long deltaSeconds = uid >>> (workerBits + seqBits);
+        long deltaTime = uid >>> (workerBits + seqBits);
 
-        Date thatTime = new Date(TimeUnit.SECONDS.toMillis(epochSeconds + deltaSeconds));
+        Date thatTime = new Date(timeUnit.toMillis(epoch + deltaTime));
         String thatTimeStr = DateUtil.format(thatTime);
 
         return String.format("{\"UID\":\"%d\",\"timestamp\":\"%s\",\"workerId\":\"%d\",\"sequence\":\"%d\"}",
                 uid, thatTimeStr, workerId, sequence);
     }
 
-    protected synchronized long nextId() {
-        long currentSecond = getCurrentSecond();
+    protected long nextId() {
+        return compose(allocate(1, true));
+    }
 
-        if (currentSecond < lastSecond) {
-            long refusedSeconds = lastSecond - currentSecond;
-            if(refusedSeconds > tolerableClockMovedBackwardsSeconds) {
-                throw new IdGenerateException("Clock moved backwards for %d seconds, exceeds the max tolerable seconds.", refusedSeconds);
-            } else {
-                logger.error("Clock moved backwards, waiting here and refusing for %s seconds", refusedSeconds);
-                getNextSecond(lastSecond);
-            }
-        }
+    protected long compose(long allocated) {
+        return ((allocated >>> seqBits) << timestampShift) | (workerId << workerIdShift) | (allocated & maxSequence);
+    }
 
-        if (currentSecond == lastSecond) {
-            sequence = (sequence + 1) & maxSequence;
-            
-            if (sequence == 0) {
-                currentSecond = getNextSecond(lastSecond);
+    /**
+     * Lock free allocation of up to count consecutive ids within one time unit.
+     * Returns the first allocated (deltaTime << seqBits) | sequence, the range ends with the time unit or after count ids.
+     * Without waiting, -1 is returned when no id can be handed out before the clock moves on.
+     */
+    protected long allocate(int count, boolean wait) {
+        for (;;) {
+            long deltaTime = getCurrentTime() - epoch;
+            long last = lastAllocated.get();
+            long first = (last >>> seqBits) < deltaTime ? deltaTime << seqBits : last + 1;
+            long ahead = (first >>> seqBits) - deltaTime;
+            if (ahead > maxBorrowTime) {
+                long refused = ahead - maxBorrowTime;
+                if (refused > 1 && refused > timeUnit.convert(tolerableClockMovedBackwardsSeconds, TimeUnit.SECONDS)) {
+                    throw new IdGenerateException("Clock moved backwards for %d %s, exceeds the max tolerable seconds.", refused, timeUnit);
+                }
+                if (!wait) {
+                    return -1;
+                }
+                if (refused > 1) {
+                    logger.error("Clock moved backwards, waiting here and refusing for %s %s", refused, timeUnit);
+                }
+                waitFor(first >>> seqBits);
+                continue;
+            }
+            if ((first >>> seqBits) > maxDeltaTime) {
+                throw new IdGenerateException("Timestamp bits is exhausted. Refusing UID generate. Now: " + (epoch + deltaTime));
             }
+            long remaining = maxSequence - (first & maxSequence) + 1;
+            long end = first + Math.min(count, remaining) - 1;
+            if (lastAllocated.compareAndSet(last, end)) {
+                return first;
+            }
+        }
+    }
 
+    private void waitFor(long deltaTime) {
+        long millis = timeUnit.toMillis(epoch + deltaTime - maxBorrowTime) - Ready.currentTimeMillis();
+        if (millis > 0) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(millis));
         } else {
-            sequence = 0L;
+            Thread.onSpinWait();
         }
+    }
 
-        lastSecond = currentSecond;
+    private long getCurrentTime() {
+        long currentTime = timeUnit.convert(Ready.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        if (currentTime - epoch > maxDeltaTime) {
+            throw new IdGenerateException("Timestamp bits is exhausted. Refusing UID generate. Now: " + currentTime);
+        }
 
-        long deltaSeconds = currentSecond - epochSeconds;
-        return (deltaSeconds << timestampShift) | (workerId << workerIdShift) | sequence;
+        return currentTime;
     }
 
-    private long getNextSecond(long lastTimestamp) {
-        long timestamp = getCurrentSecond();
-        while (timestamp <= lastTimestamp) {
-            timestamp = getCurrentSecond();
-        }
+    public TimeUnit getTimeUnit() {
+        return timeUnit;
+    }
 
-        return timestamp;
+    public long getMaxSequence() {
+        return maxSequence;
     }
 
-    private long getCurrentSecond() {
-        long currentSecond = TimeUnit.MILLISECONDS.toSeconds(Ready.currentTimeMillis());
-        if (currentSecond - epochSeconds > maxDeltaSeconds) {
-            throw new IdGenerateException("Timestamp bits is exhausted. Refusing UID generate. Now: " + currentSecond);
+    public void setMaxBorrowTime(long maxBorrowTime) {
+        if (maxBorrowTime >= 0) {
+            this.maxBorrowTime = maxBorrowTime;
         }
-
-        return currentSecond;
     }
 
     public void setTimeBits(int timeBits) {
@@ -192,7 +244,8 @@ public class IdWorker {
     public void setEpochDate(String epochDate) {
         if(!StrUtil.isBlank(epochDate)) {
             this.epochDate = epochDate;
-            this.epochSeconds = TimeUnit.MILLISECONDS.toSeconds(DateUtil.parse(epochDate).getTime());
+            this.epochMillis = DateUtil.parse(epochDate).getTime();
+            this.epoch = timeUnit.convert(epochMillis, TimeUnit.MILLISECONDS);
         }
     }
 
@@ -31,6 +31,7 @@ import java.util.Map;
 public class DatabaseConfig extends BaseConfig {
 
     private boolean sqlDebug = false;
+    private int sqlStatementCacheSize = 4096;
     private Map<String, DataSourceConfig> dataSource = new HashMap<>();
     private ModelConfig modelConfig = new ModelConfig();
     private H2serverConfig h2server = new H2serverConfig();
@@ -44,6 +45,14 @@ public class DatabaseConfig extends BaseConfig {
         this.sqlDebug = sqlDebug;
     }
 
+    public int getSqlStatementCacheSize() {
+        return sqlStatementCacheSize;
+    }
+
+    public void setSqlStatementCacheSize(int sqlStatementCacheSize) {
+        this.sqlStatementCacheSize = sqlStatementCacheSize;
+    }
+
     public Map<String, DataSourceConfig> getDataSource(){
         return dataSource;
     }
@@ -52,8 +52,8 @@ import work.ready.core.module.Initializer;
 import work.ready.core.security.data.DataSecurityInspector;
 import work.ready.core.server.Ready;
 import work.ready.core.tools.PathUtil;
-import work.ready.core.tools.ReadyThreadFactory;
 import work.ready.core.tools.StrUtil;
+import work.ready.core.tools.VirtualThreadUtil;
 import work.ready.core.tools.define.ConcurrentMultiMap;
 
 import java.io.Reader;
@@ -64,24 +64,24 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 public class DatabaseManager {
 	private static final Log logger = LogFactory.getLog(DatabaseManager.class);
 	protected final static CCJSqlParserManager sqlParserManager = new CCJSqlParserManager();
-	protected final static com.github.benmanes.caffeine.cache.Cache<String, net.sf.jsqlparser.statement.Statement>
-			sqlStatementCache = Caffeine.newBuilder().build();
+	protected final com.github.benmanes.caffeine.cache.Cache<String, net.sf.jsqlparser.statement.Statement> sqlStatementCache;
 	protected final Map<String, List<SqlExecuteHandler>> sqlExecuteHandlers = new HashMap<>();
+	private final Map<String, List<SqlExecuteHandler>> resolvedSqlExecuteHandlers = new ConcurrentHashMap<>();
 	private final CoreContext context;
 	protected final DatabaseConfig databaseConfig;
 	protected final Map<String, DatasourceAgent> datasourceAgentMap = new HashMap<>();
 	protected final TableManager tableManager;
 	protected final ConcurrentMultiMap<String, DbChangeListener> dbChangeListenerMap = new ConcurrentMultiMap<>();
 	protected List<Consumer<DbChangeEvent>> dbChangeEventFilter = new ArrayList<>();
-	protected ExecutorService pool = Executors.newCachedThreadPool(new ReadyThreadFactory("DbChangeEvent"));
+	protected final ExecutorService pool;
 	protected DataSecurityInspector dataSecurityInspector;
 	protected List<Initializer<DatabaseManager>> initializers = new ArrayList<>();
 	protected TransactionManager transactionManager;
@@ -103,6 +103,8 @@ public class DatabaseManager {
 	public DatabaseManager(CoreContext context) {
 		this.context = context;
 		databaseConfig = Ready.getMainApplicationConfig().getDatabase();
+		pool = VirtualThreadUtil.newExecutorOrCachedPool("DbChangeEvent");
+		sqlStatementCache = Caffeine.newBuilder().maximumSize(Math.max(0, databaseConfig.getSqlStatementCacheSize())).build();
 
 		db = context.getBeanManager().get(Db.class);
 		db.setManager(this);
@@ -240,25 +242,42 @@ public class DatabaseManager {
 		return databaseConfig;
 	}
 
-	public DatabaseManager addSqlExecuteHandlers(SqlExecuteHandler handler) {
+	public synchronized DatabaseManager addSqlExecuteHandlers(SqlExecuteHandler handler) {
 		sqlExecuteHandlers.computeIfAbsent("*", ds->new ArrayList<>()).add(handler);
+		resolvedSqlExecuteHandlers.clear();
 		return this;
 	}
 
-	public DatabaseManager addSqlExecuteHandlers(String datasource, SqlExecuteHandler handler) {
+	public synchronized DatabaseManager addSqlExecuteHandlers(String datasource, SqlExecuteHandler handler) {
 		sqlExecuteHandlers.computeIfAbsent(datasource, ds->new ArrayList<>()).add(handler);
+		resolvedSqlExecuteHandlers.clear();
 		return this;
 	}
 
 	public List<SqlExecuteHandler> getSqlExecuteHandlers(String datasource) {
-		List<SqlExecuteHandler> list = new ArrayList<>();
-		if(sqlExecuteHandlers.containsKey("*")) {
-			list.addAll(sqlExecuteHandlers.get("*"));
-		}
-		if(sqlExecuteHandlers.containsKey(datasource)) {
-			list.addAll(sqlExecuteHandlers.get(datasource));
+		List<SqlExecuteHandler> list = resolvedSqlExecuteHandlers.get(datasource);
+		if(list == null) {
+			synchronized (this) {
+				list = new ArrayList<>();
+				if(sqlExecuteHandlers.containsKey("*")) {
+					list.addAll(sqlExecuteHandlers.get("*"));
+				}
+				if(sqlExecuteHandlers.containsKey(datasource)) {
+					list.addAll(sqlExecuteHandlers.get(datasource));
+				}
+				list = list.isEmpty() ? Collections.emptyList() : Collections.unmodifiableList(list);
+				resolvedSqlExecuteHandlers.put(datasource, list);
+			}
 		}
-		return Collections.unmodifiableList(list);
+		return list;
+	}
+
+	public boolean hasSqlExecuteHandlers() {
+		return !sqlExecuteHandlers.isEmpty();
+	}
+
+	public boolean hasDbChangeSubscriber() {
+		return !dbChangeEventFilter.isEmpty() || !dbChangeListenerMap.isEmpty();
 	}
 
 	public DatabaseManager addJdbcEventListener(JdbcListener listener){
@@ -333,6 +352,10 @@ public class DatabaseManager {
 		}
 	}
 
+	public ExecutorService getExecutor() {
+		return pool;
+	}
+
 	public boolean destroy() {
 		if(h2webServer != null) h2webServer.stop();
 		if(h2tcpServer != null) h2tcpServer.stop();
@@ -445,15 +468,11 @@ public class DatabaseManager {
 	}
 
 	public net.sf.jsqlparser.statement.Statement sqlParser(String sql) throws JSQLParserException {
+		// statements in the cache are shared, callers have to treat them as read only
 		net.sf.jsqlparser.statement.Statement statement = sqlStatementCache.getIfPresent(sql);
 		if(statement == null) {
-			synchronized (sqlStatementCache) {
-				statement = sqlStatementCache.getIfPresent(sql);
-				if(statement == null) {
-					statement = sqlParser(sql, true);
-					sqlStatementCache.put(sql, statement);
-				}
-			}
+			statement = sqlParser(sql, true);
+			sqlStatementCache.put(sql, statement);
 		}
 		return statement;
 	}
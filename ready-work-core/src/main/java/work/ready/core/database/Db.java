@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Future;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 @SuppressWarnings("rawtypes")
 public class Db {
@@ -341,6 +342,22 @@ public class Db {
 		return MAIN.paginateByFullSql(pageNumber, pageSize, isGroupBySql, totalRowSql, findSql, params);
 	}
 
+	public Page<Record> paginateByCachedCount(int countCacheSeconds, int pageNumber, int pageSize, String select, String sqlExceptSelect, Object... params) {
+		return MAIN.paginateByCachedCount(countCacheSeconds, pageNumber, pageSize, select, sqlExceptSelect, params);
+	}
+
+	public KeysetPage<Record> paginateByKeyset(String keyColumn, String token, int pageSize, String select, String sqlExceptSelect, Object... params) {
+		return MAIN.paginateByKeyset(keyColumn, token, pageSize, select, sqlExceptSelect, params);
+	}
+
+	public KeysetPage<Record> paginateByKeyset(String keyColumn, boolean descending, String token, int pageSize, int countCacheSeconds, String select, String sqlExceptSelect, Object... params) {
+		return MAIN.paginateByKeyset(keyColumn, descending, token, pageSize, countCacheSeconds, select, sqlExceptSelect, params);
+	}
+
+	public KeysetPage<Record> paginateByKeysetFullSql(String keyColumn, boolean descending, String token, int pageSize, int countCacheSeconds, String totalRowSql, String findSql, Object... params) {
+		return MAIN.paginateByKeysetFullSql(keyColumn, descending, token, pageSize, countCacheSeconds, totalRowSql, findSql, params);
+	}
+
 	boolean save(Config config, Connection conn, String tableName, String primaryKey, Record record) throws SQLException {
 		return MAIN.save(config, conn, tableName, primaryKey, record);
 	}
@@ -504,6 +521,22 @@ public class Db {
 		MAIN.each(func, sql, params);
 	}
 
+	public RowStream<Record> cursor(int fetchSize, String sql, Object... params) {
+		return MAIN.cursor(fetchSize, sql, params);
+	}
+
+	public RowStream<Record> cursor(String sql, Object... params) {
+		return MAIN.cursor(sql, params);
+	}
+
+	public Stream<Record> stream(int fetchSize, String sql, Object... params) {
+		return MAIN.stream(fetchSize, sql, params);
+	}
+
+	public Stream<Record> stream(String sql, Object... params) {
+		return MAIN.stream(sql, params);
+	}
+
 	public DbTemplate template(String key, Map data) {
 		return MAIN.template(key, data);
 	}
@@ -24,6 +24,7 @@ import work.ready.core.log.Log;
 import work.ready.core.log.LogFactory;
 import work.ready.core.tools.DateUtil;
 import work.ready.core.tools.StrUtil;
+import work.ready.core.tools.VirtualThreadUtil;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -37,6 +38,7 @@ import java.util.Map.Entry;
 import java.util.concurrent.Future;
 import java.util.concurrent.FutureTask;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static work.ready.core.database.Db.NULL_PARAM_ARRAY;
 
@@ -44,6 +46,7 @@ import static work.ready.core.database.Db.NULL_PARAM_ARRAY;
 public class DbPro {
 
 	private static final Log logger = LogFactory.getLog(DbPro.class);
+	public static final String TOTAL_ROW_CACHE = "_ready_total_row_";
 	protected final Config config;
 	protected final DatabaseManager manager;
 
@@ -505,18 +508,15 @@ public class DbPro {
 			return config.dialect.takeOverDbPaginate(this, config, conn, pageNumber, pageSize, isGroupBySql, totalRowSql, findSql, params);
 		}
 
-		List result = query(config, conn, totalRowSql, params);
-		int size = result.size();
-		if (isGroupBySql == null) {
-			isGroupBySql = size > 1;
-		}
+		return doPaginateByFullSql(config, conn, pageNumber, pageSize, isGroupBySql, 0, totalRowSql, findSql, params);
+	}
 
-		long totalRow;
-		if (isGroupBySql) {
-			totalRow = size;
-		} else {
-			totalRow = (size > 0) ? ((Number)result.get(0)).longValue() : 0;
+	protected Page<Record> doPaginateByFullSql(Config config, Connection conn, int pageNumber, int pageSize, Boolean isGroupBySql, int countCacheSeconds, String totalRowSql, StringBuilder findSql, Object... params) throws SQLException {
+		if (pageNumber < 1 || pageSize < 1) {
+			throw new DatabaseException("pageNumber and pageSize must be greater than 0");
 		}
+
+		long totalRow = getTotalRow(config, conn, isGroupBySql, countCacheSeconds, totalRowSql, params);
 		if (totalRow == 0) {
 			return new Page<Record>(new ArrayList<Record>(0), pageNumber, pageSize, 0, 0);
 		}
@@ -535,6 +535,106 @@ public class DbPro {
 		return new Page<Record>(list, pageNumber, pageSize, totalPage, (int)totalRow);
 	}
 
+	protected long getTotalRow(Config config, Connection conn, Boolean isGroupBySql, int countCacheSeconds, String totalRowSql, Object... params) throws SQLException {
+		Cache cache = countCacheSeconds > 0 ? config.getCache() : null;
+		String cacheKey = null;
+		if (cache != null) {
+			cacheKey = config.getName() + ':' + totalRowSql + ':' + Arrays.deepToString(params) + ':' + isGroupBySql;
+			Number cached = cache.get(TOTAL_ROW_CACHE, cacheKey);
+			if (cached != null) {
+				return cached.longValue();
+			}
+		}
+
+		List result = query(config, conn, totalRowSql, params);
+		int size = result.size();
+		if (isGroupBySql == null) {
+			isGroupBySql = size > 1;
+		}
+
+		long totalRow;
+		if (isGroupBySql) {
+			totalRow = size;
+		} else {
+			totalRow = (size > 0) ? ((Number)result.get(0)).longValue() : 0;
+		}
+		if (cache != null) {
+			cache.put(TOTAL_ROW_CACHE, cacheKey, totalRow, countCacheSeconds);
+		}
+		return totalRow;
+	}
+
+	public Page<Record> paginateByCachedCount(int countCacheSeconds, int pageNumber, int pageSize, String select, String sqlExceptSelect, Object... params) {
+		return paginateByCachedCount(countCacheSeconds, pageNumber, pageSize, null, select, sqlExceptSelect, params);
+	}
+
+	public Page<Record> paginateByCachedCount(int countCacheSeconds, int pageNumber, int pageSize, Boolean isGroupBySql, String select, String sqlExceptSelect, Object... params) {
+		Connection conn = null;
+		try {
+			conn = config.getConnection();
+			String totalRowSql = config.dialect.forPaginateTotalRow(select, sqlExceptSelect, null);
+			StringBuilder findSql = new StringBuilder();
+			findSql.append(select).append(' ').append(sqlExceptSelect);
+			if (config.dialect.isTakeOverDbPaginate()) {
+				return config.dialect.takeOverDbPaginate(this, config, conn, pageNumber, pageSize, isGroupBySql, totalRowSql, findSql, params);
+			}
+			return doPaginateByFullSql(config, conn, pageNumber, pageSize, isGroupBySql, countCacheSeconds, totalRowSql, findSql, params);
+		} catch (Exception e) {
+			throw new DatabaseException(e);
+		} finally {
+			manager.close(conn);
+		}
+	}
+
+	public KeysetPage<Record> paginateByKeyset(String keyColumn, String token, int pageSize, String select, String sqlExceptSelect, Object... params) {
+		return paginateByKeyset(keyColumn, false, token, pageSize, -1, select, sqlExceptSelect, params);
+	}
+
+	public KeysetPage<Record> paginateByKeyset(String keyColumn, boolean descending, String token, int pageSize, int countCacheSeconds, String select, String sqlExceptSelect, Object... params) {
+		Connection conn = null;
+		try {
+			conn = config.getConnection();
+			String totalRowSql = countCacheSeconds < 0 ? null : config.dialect.forPaginateTotalRow(select, sqlExceptSelect, null);
+			StringBuilder findSql = new StringBuilder();
+			findSql.append(select).append(' ').append(sqlExceptSelect);
+			return doPaginateByKeyset(config, conn, keyColumn, descending, token, pageSize, countCacheSeconds, totalRowSql, findSql, params);
+		} catch (Exception e) {
+			throw new DatabaseException(e);
+		} finally {
+			manager.close(conn);
+		}
+	}
+
+	public KeysetPage<Record> paginateByKeysetFullSql(String keyColumn, boolean descending, String token, int pageSize, int countCacheSeconds, String totalRowSql, String findSql, Object... params) {
+		Connection conn = null;
+		try {
+			conn = config.getConnection();
+			StringBuilder findSqlBuf = new StringBuilder().append(findSql);
+			return doPaginateByKeyset(config, conn, keyColumn, descending, token, pageSize, countCacheSeconds, totalRowSql, findSqlBuf, params);
+		} catch (Exception e) {
+			throw new DatabaseException(e);
+		} finally {
+			manager.close(conn);
+		}
+	}
+
+	// the key column must be unique, ordered and part of the select list, a trailing ORDER BY of findSql is dropped by the dialect
+	protected KeysetPage<Record> doPaginateByKeyset(Config config, Connection conn, String keyColumn, boolean descending, String token, int pageSize, int countCacheSeconds, String totalRowSql, StringBuilder findSql, Object... params) throws SQLException {
+		if (pageSize < 1) {
+			throw new DatabaseException("pageSize must be greater than 0");
+		}
+		long totalRow = countCacheSeconds < 0 || totalRowSql == null ? -1 : getTotalRow(config, conn, null, countCacheSeconds, totalRowSql, params);
+		boolean seek = StrUtil.notBlank(token);
+		String sql = config.dialect.forKeysetPaginate(pageSize + 1, keyColumn, descending, seek, findSql);
+		List<Record> list = find(config, conn, sql, seek ? KeysetPage.seekParams(params, KeysetPage.decodeToken(token)) : params);
+		String nextToken = null;
+		if (list.size() > pageSize) {
+			list.remove(pageSize);
+			nextToken = KeysetPage.encodeToken(KeysetPage.keyValue(list.get(pageSize - 1).getColumns(), keyColumn));
+		}
+		return new KeysetPage<Record>(list, pageSize, nextToken, totalRow);
+	}
+
 	protected Page<Record> paginate(Config config, Connection conn, int pageNumber, int pageSize, String select, String sqlExceptSelect, Object... params) throws SQLException {
 		String totalRowSql = config.dialect.forPaginateTotalRow(select, sqlExceptSelect, null);
 		StringBuilder findSql = new StringBuilder();
@@ -731,6 +831,9 @@ public class DbPro {
 	}
 
 	public Future<Boolean> asyncTransaction(Atom atom) {
+		if(VirtualThreadUtil.isEnabled()) {
+			return manager.getExecutor().submit(() -> transaction(atom));
+		}
 		FutureTask<Boolean> task = new FutureTask<>(() -> transaction(atom));
 		Thread thread = new Thread(task);
 		thread.setDaemon(true);
@@ -1180,24 +1283,31 @@ public class DbPro {
 	}
 
 	public void each(Function<Record, Boolean> func, String sql, Object... params) {
-		Connection conn = null;
-		try {
-			conn = config.getConnection();
-
-			try (PreparedStatement pst = conn.prepareStatement(sql)) {
-				config.dialect.fillStatement(pst, params);
-				ResultSet rs = pst.executeQuery();
-				config.dialect.eachRecord(config, rs, func);
-				manager.close(rs);
+		try (RowStream<Record> rows = cursor(RowStream.DEFAULT_FETCH_SIZE, sql, params)) {
+			while (rows.hasNext()) {
+				if ( ! func.apply(rows.next()) ) {
+					break ;
+				}
 			}
-
-		} catch (Exception e) {
-			throw new DatabaseException(e);
-		} finally {
-			manager.close(conn);
 		}
 	}
 
+	public RowStream<Record> cursor(int fetchSize, String sql, Object... params) {
+		return RowStream.open(manager, config, sql, params, fetchSize, rs -> config.dialect.recordMapper(config, rs));
+	}
+
+	public RowStream<Record> cursor(String sql, Object... params) {
+		return cursor(RowStream.DEFAULT_FETCH_SIZE, sql, params);
+	}
+
+	public Stream<Record> stream(int fetchSize, String sql, Object... params) {
+		return cursor(fetchSize, sql, params).stream();
+	}
+
+	public Stream<Record> stream(String sql, Object... params) {
+		return stream(RowStream.DEFAULT_FETCH_SIZE, sql, params);
+	}
+
 	public DbTemplate template(String key, Map data) {
 		return new DbTemplate(this, key, data);
 	}
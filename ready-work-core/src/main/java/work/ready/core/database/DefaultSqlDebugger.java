@@ -43,6 +43,11 @@ public class DefaultSqlDebugger implements SqlDebugger {
         }
     }
 
+    @Override
+    public boolean isEnabled() {
+        return isDebug || listeners.size() > 0;
+    }
+
     @Override
     public void beforeAudit(String datasource, String sql) {
         if(isDebug) {
@@ -0,0 +1,207 @@
+/**
+ *
+ * Copyright (c) 2020 WeiHua Lyu [ready.work]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package work.ready.core.database;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Result of a keyset (seek) pagination. Instead of a page number the caller passes back the continuation token
+ * of the previous page, so every page costs an index seek on the key instead of skipping all rows before it.
+ */
+public class KeysetPage<T> implements Serializable {
+
+	private static final long serialVersionUID = 4395730812671508466L;
+
+	private List<T> list;
+	private int pageSize;
+	private String nextToken;
+	private long totalRow = -1;
+
+	public KeysetPage(List<T> list, int pageSize, String nextToken, long totalRow) {
+		this.list = list;
+		this.pageSize = pageSize;
+		this.nextToken = nextToken;
+		this.totalRow = totalRow;
+	}
+
+	public KeysetPage() {
+
+	}
+
+	public List<T> getList() {
+		return list;
+	}
+
+	public void setList(List<T> list) {
+		this.list = list;
+	}
+
+	public int getPageSize() {
+		return pageSize;
+	}
+
+	public void setPageSize(int pageSize) {
+		this.pageSize = pageSize;
+	}
+
+	public String getNextToken() {
+		return nextToken;
+	}
+
+	public void setNextToken(String nextToken) {
+		this.nextToken = nextToken;
+	}
+
+	public boolean hasNext() {
+		return nextToken != null;
+	}
+
+	public long getTotalRow() {
+		return totalRow;
+	}
+
+	public void setTotalRow(long totalRow) {
+		this.totalRow = totalRow;
+	}
+
+	// the token carries a type tag, so the seek parameter is bound with the same java type the key was read with
+	public static String encodeToken(Object keyValue) {
+		if (keyValue == null) {
+			throw new DatabaseException("keyset pagination requires a non null key value");
+		}
+		String token;
+		if (keyValue instanceof String) {
+			token = "s" + keyValue;
+		} else if (keyValue instanceof Integer) {
+			token = "i" + keyValue;
+		} else if (keyValue instanceof Long) {
+			token = "l" + keyValue;
+		} else if (keyValue instanceof Short) {
+			token = "h" + keyValue;
+		} else if (keyValue instanceof BigInteger) {
+			token = "g" + keyValue;
+		} else if (keyValue instanceof BigDecimal) {
+			token = "m" + ((BigDecimal) keyValue).toString();
+		} else if (keyValue instanceof Double) {
+			token = "d" + keyValue;
+		} else if (keyValue instanceof Float) {
+			token = "f" + keyValue;
+		} else if (keyValue instanceof Timestamp) {
+			token = "T" + ((Timestamp) keyValue).toInstant();
+		} else if (keyValue instanceof java.sql.Date) {
+			token = "D" + keyValue;
+		} else if (keyValue instanceof Time) {
+			token = "t" + keyValue;
+		} else if (keyValue instanceof java.util.Date) {
+			token = "u" + ((java.util.Date) keyValue).getTime();
+		} else if (keyValue instanceof LocalDateTime) {
+			token = "L" + keyValue;
+		} else if (keyValue instanceof LocalDate) {
+			token = "A" + keyValue;
+		} else if (keyValue instanceof OffsetDateTime) {
+			token = "O" + keyValue;
+		} else if (keyValue instanceof UUID) {
+			token = "U" + keyValue;
+		} else {
+			throw new DatabaseException("unsupported keyset pagination key type: " + keyValue.getClass().getName());
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static Object decodeToken(String token) {
+		try {
+			String text = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			if (text.isEmpty()) {
+				throw new IllegalArgumentException("empty token");
+			}
+			String value = text.substring(1);
+			switch (text.charAt(0)) {
+				case 's': return value;
+				case 'i': return Integer.valueOf(value);
+				case 'l': return Long.valueOf(value);
+				case 'h': return Short.valueOf(value);
+				case 'g': return new BigInteger(value);
+				case 'm': return new BigDecimal(value);
+				case 'd': return Double.valueOf(value);
+				case 'f': return Float.valueOf(value);
+				case 'T': return Timestamp.from(Instant.parse(value));
+				case 'D': return java.sql.Date.valueOf(value);
+				case 't': return Time.valueOf(value);
+				case 'u': return new java.util.Date(Long.parseLong(value));
+				case 'L': return LocalDateTime.parse(value);
+				case 'A': return LocalDate.parse(value);
+				case 'O': return OffsetDateTime.parse(value);
+				case 'U': return UUID.fromString(value);
+				default: throw new IllegalArgumentException("unknown key type");
+			}
+		} catch (RuntimeException e) {
+			throw new DatabaseException("invalid keyset pagination token: " + token, e);
+		}
+	}
+
+	// the key column may be qualified (t.id) or quoted, while the result only carries its label in the database's case
+	static Object keyValue(Map<String, Object> columns, String keyColumn) {
+		String label = keyLabel(keyColumn);
+		Object value = columns.get(label);
+		if (value == null) {
+			for (Map.Entry<String, Object> entry : columns.entrySet()) {
+				if (entry.getKey().equalsIgnoreCase(label)) {
+					return entry.getValue();
+				}
+			}
+		}
+		return value;
+	}
+
+	public static String keyLabel(String keyColumn) {
+		String label = keyColumn.substring(keyColumn.lastIndexOf('.') + 1).trim();
+		if (label.length() > 1 && (label.charAt(0) == '"' || label.charAt(0) == '`' || label.charAt(0) == '[')) {
+			label = label.substring(1, label.length() - 1);
+		}
+		return label;
+	}
+
+	static Object[] seekParams(Object[] params, Object keyValue) {
+		Object[] seekParams = new Object[params.length + 1];
+		System.arraycopy(params, 0, seekParams, 0, params.length);
+		seekParams[params.length] = keyValue;
+		return seekParams;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder msg = new StringBuilder();
+		msg.append("pageSize : ").append(pageSize);
+		msg.append("\nnextToken : ").append(nextToken);
+		msg.append("\ntotalRow : ").append(totalRow);
+		return msg.toString();
+	}
+}
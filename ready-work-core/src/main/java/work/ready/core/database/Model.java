@@ -40,6 +40,7 @@ import java.time.temporal.Temporal;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import static work.ready.core.database.Db.NULL_PARAM_ARRAY;
 
@@ -520,18 +521,11 @@ public abstract class Model<M extends Model> implements Serializable {
 			return config.dialect.takeOverModelPaginate(manager.db.use(), config, conn, _getUserClass(), pageNumber, pageSize, isGroupBySql, totalRowSql, findSql, params);
 		}
 
-		List result = manager.db.use().query(config, conn, totalRowSql, params);
-		int size = result.size();
-		if (isGroupBySql == null) {
-			isGroupBySql = size > 1;
-		}
+		return doPaginateByFullSql(config, conn, pageNumber, pageSize, isGroupBySql, 0, totalRowSql, findSql, params);
+	}
 
-		long totalRow;
-		if (isGroupBySql) {
-			totalRow = size;
-		} else {
-			totalRow = (size > 0) ? ((Number)result.get(0)).longValue() : 0;
-		}
+	private Page<M> doPaginateByFullSql(Config config, Connection conn, int pageNumber, int pageSize, Boolean isGroupBySql, int countCacheSeconds, String totalRowSql, StringBuilder findSql, Object... params) throws Exception {
+		long totalRow = manager.db.use().getTotalRow(config, conn, isGroupBySql, countCacheSeconds, totalRowSql, params);
 		if (totalRow == 0) {
 			return new Page<M>(new ArrayList<M>(0), pageNumber, pageSize, 0, 0);	
 		}
@@ -572,6 +566,78 @@ public abstract class Model<M extends Model> implements Serializable {
 		return doPaginateByFullSql(pageNumber, pageSize, isGroupBySql, totalRowSql, findSql, params);
 	}
 
+	public Page<M> paginateByCachedCount(int countCacheSeconds, int pageNumber, int pageSize, String select, String sqlExceptSelect, Object... params) {
+		if (pageNumber < 1 || pageSize < 1) {
+			throw new DatabaseException("pageNumber and pageSize must be greater than 0");
+		}
+		Config config = _getConfig();
+		Connection conn = null;
+		try {
+			conn = config.getConnection();
+			String totalRowSql = config.dialect.forPaginateTotalRow(select, sqlExceptSelect, this);
+			StringBuilder findSql = new StringBuilder();
+			findSql.append(select).append(' ').append(sqlExceptSelect);
+			if (config.dialect.isTakeOverModelPaginate()) {
+				return doPaginateByFullSql(config, conn, pageNumber, pageSize, null, totalRowSql, findSql, params);
+			}
+			return doPaginateByFullSql(config, conn, pageNumber, pageSize, null, countCacheSeconds, totalRowSql, findSql, params);
+		} catch (Exception e) {
+			throw new DatabaseException(e);
+		} finally {
+			manager.close(conn);
+		}
+	}
+
+	public KeysetPage<M> paginateByKeyset(String keyColumn, String token, int pageSize, String select, String sqlExceptSelect, Object... params) {
+		return paginateByKeyset(keyColumn, false, token, pageSize, -1, select, sqlExceptSelect, params);
+	}
+
+	public KeysetPage<M> paginateByKeyset(String keyColumn, boolean descending, String token, int pageSize, int countCacheSeconds, String select, String sqlExceptSelect, Object... params) {
+		Config config = _getConfig();
+		Connection conn = null;
+		try {
+			conn = config.getConnection();
+			String totalRowSql = countCacheSeconds < 0 ? null : config.dialect.forPaginateTotalRow(select, sqlExceptSelect, this);
+			StringBuilder findSql = new StringBuilder();
+			findSql.append(select).append(' ').append(sqlExceptSelect);
+			return doPaginateByKeyset(config, conn, keyColumn, descending, token, pageSize, countCacheSeconds, totalRowSql, findSql, params);
+		} catch (Exception e) {
+			throw new DatabaseException(e);
+		} finally {
+			manager.close(conn);
+		}
+	}
+
+	public KeysetPage<M> paginateByKeysetFullSql(String keyColumn, boolean descending, String token, int pageSize, int countCacheSeconds, String totalRowSql, String findSql, Object... params) {
+		Config config = _getConfig();
+		Connection conn = null;
+		try {
+			conn = config.getConnection();
+			StringBuilder findSqlBuf = new StringBuilder().append(findSql);
+			return doPaginateByKeyset(config, conn, keyColumn, descending, token, pageSize, countCacheSeconds, totalRowSql, findSqlBuf, params);
+		} catch (Exception e) {
+			throw new DatabaseException(e);
+		} finally {
+			manager.close(conn);
+		}
+	}
+
+	private KeysetPage<M> doPaginateByKeyset(Config config, Connection conn, String keyColumn, boolean descending, String token, int pageSize, int countCacheSeconds, String totalRowSql, StringBuilder findSql, Object... params) throws Exception {
+		if (pageSize < 1) {
+			throw new DatabaseException("pageSize must be greater than 0");
+		}
+		long totalRow = countCacheSeconds < 0 || totalRowSql == null ? -1 : manager.db.use().getTotalRow(config, conn, null, countCacheSeconds, totalRowSql, params);
+		boolean seek = StrUtil.notBlank(token);
+		String sql = config.dialect.forKeysetPaginate(pageSize + 1, keyColumn, descending, seek, findSql);
+		List<M> list = find(config, conn, sql, seek ? KeysetPage.seekParams(params, KeysetPage.decodeToken(token)) : params);
+		String nextToken = null;
+		if (list.size() > pageSize) {
+			list.remove(pageSize);
+			nextToken = KeysetPage.encodeToken(KeysetPage.keyValue(list.get(pageSize - 1)._getAttrs(), keyColumn));
+		}
+		return new KeysetPage<M>(list, pageSize, nextToken, totalRow);
+	}
+
 	public M audit(String className, String methodName){
 		manager.getAuditManager().audit(className, methodName);
 		return (M)this;
@@ -1087,23 +1153,31 @@ public abstract class Model<M extends Model> implements Serializable {
 	}
 
 	public void each(Function<M, Boolean> func, String sql, Object... params) {
+		try (RowStream<M> rows = cursor(RowStream.DEFAULT_FETCH_SIZE, sql, params)) {
+			while (rows.hasNext()) {
+				if ( ! func.apply(rows.next()) ) {
+					break ;
+				}
+			}
+		}
+	}
+
+	public RowStream<M> cursor(int fetchSize, String sql, Object... params) {
 		Config config = _getConfig();
-		Connection conn = null;
-		try {
-			conn = config.getConnection();
+		Class<? extends Model> modelClass = _getUserClass();
+		return RowStream.open(manager, config, sql, params, fetchSize, rs -> config.dialect.modelMapper(rs, modelClass));
+	}
 
-			try (PreparedStatement pst = conn.prepareStatement(sql)) {
-				config.dialect.fillStatement(pst, params);
-				ResultSet rs = pst.executeQuery();
-				config.dialect.eachModel(rs, _getUserClass(), func);
-				manager.close(rs);
-			}
+	public RowStream<M> cursor(String sql, Object... params) {
+		return cursor(RowStream.DEFAULT_FETCH_SIZE, sql, params);
+	}
 
-		} catch (Exception e) {
-			throw new DatabaseException(e);
-		} finally {
-			manager.close(conn);
-		}
+	public Stream<M> stream(int fetchSize, String sql, Object... params) {
+		return cursor(fetchSize, sql, params).stream();
+	}
+
+	public Stream<M> stream(String sql, Object... params) {
+		return stream(RowStream.DEFAULT_FETCH_SIZE, sql, params);
 	}
 
 	public DaoTemplate<M> template(String key, Map data) {
@@ -43,27 +43,7 @@ public class ModelBuilder {
 		int[] types = new int[columnCount + 1];
 		buildLabelNamesAndTypes(rsmd, labelNames, types);
 		while (rs.next()) {
-			Model<?> ar = modelClass.getDeclaredConstructor().newInstance();
-			Map<String, Object> attrs = ar._getAttrs();
-			for (int i=1; i<=columnCount; i++) {
-				Object value;
-				if (types[i] < Types.BLOB) {
-					value = rs.getObject(i);
-				} else {
-					if (types[i] == Types.CLOB) {
-						value = handleClob(rs.getClob(i));
-					} else if (types[i] == Types.NCLOB) {
-						value = handleClob(rs.getNClob(i));
-					} else if (types[i] == Types.BLOB) {
-						value = handleBlob(rs.getBlob(i));
-					} else {
-						value = rs.getObject(i);
-					}
-				}
-
-				attrs.put(labelNames[i], value);
-			}
-
+			Model<?> ar = buildModel(rs, modelClass, labelNames, types);
 			if (func == null) {
 				result.add((T)ar);
 			} else {
@@ -75,6 +55,32 @@ public class ModelBuilder {
 		return result;
 	}
 
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	public <T> T buildModel(ResultSet rs, Class<? extends Model> modelClass, String[] labelNames, int[] types) throws SQLException, ReflectiveOperationException {
+		Model<?> ar = modelClass.getDeclaredConstructor().newInstance();
+		Map<String, Object> attrs = ar._getAttrs();
+		for (int i=1; i<labelNames.length; i++) {
+			attrs.put(labelNames[i], getColumnValue(rs, i, types[i]));
+		}
+		return (T)ar;
+	}
+
+	protected Object getColumnValue(ResultSet rs, int i, int type) throws SQLException {
+		if (type < Types.BLOB) {
+			return rs.getObject(i);
+		} else {
+			if (type == Types.CLOB) {
+				return handleClob(rs.getClob(i));
+			} else if (type == Types.NCLOB) {
+				return handleClob(rs.getNClob(i));
+			} else if (type == Types.BLOB) {
+				return handleBlob(rs.getBlob(i));
+			} else {
+				return rs.getObject(i);
+			}
+		}
+	}
+
 	public void buildLabelNamesAndTypes(ResultSetMetaData rsmd, String[] labelNames, int[] types) throws SQLException {
 		for (int i=1; i<labelNames.length; i++) {
 			labelNames[i] = rsmd.getColumnLabel(i);
@@ -55,27 +55,7 @@ public class RecordBuilder {
 		int[] types = new int[columnCount + 1];
 		buildLabelNamesAndTypes(rsmd, labelNames, types);
 		while (rs.next()) {
-			Record record = new Record(config.containerFactory.getColumnsMap());
-			Map<String, Object> columns = record.getColumns();
-			for (int i=1; i<=columnCount; i++) {
-				Object value;
-				if (types[i] < Types.BLOB) {
-					value = rs.getObject(i);
-				} else {
-					if (types[i] == Types.CLOB) {
-						value = getModelBuilder().handleClob(rs.getClob(i));
-					} else if (types[i] == Types.NCLOB) {
-						value = getModelBuilder().handleClob(rs.getNClob(i));
-					} else if (types[i] == Types.BLOB) {
-						value = getModelBuilder().handleBlob(rs.getBlob(i));
-					} else {
-						value = rs.getObject(i);
-					}
-				}
-
-				columns.put(labelNames[i], value);
-			}
-
+			Record record = buildRecord(config, rs, labelNames, types);
 			if (func == null) {
 				result.add(record);
 			} else {
@@ -87,6 +67,31 @@ public class RecordBuilder {
 		return result;
 	}
 
+	public Record buildRecord(Config config, ResultSet rs, String[] labelNames, int[] types) throws SQLException {
+		Record record = new Record(config.containerFactory.getColumnsMap());
+		Map<String, Object> columns = record.getColumns();
+		for (int i=1; i<labelNames.length; i++) {
+			columns.put(labelNames[i], getColumnValue(rs, i, types[i]));
+		}
+		return record;
+	}
+
+	protected Object getColumnValue(ResultSet rs, int i, int type) throws SQLException {
+		if (type < Types.BLOB) {
+			return rs.getObject(i);
+		} else {
+			if (type == Types.CLOB) {
+				return getModelBuilder().handleClob(rs.getClob(i));
+			} else if (type == Types.NCLOB) {
+				return getModelBuilder().handleClob(rs.getNClob(i));
+			} else if (type == Types.BLOB) {
+				return getModelBuilder().handleBlob(rs.getBlob(i));
+			} else {
+				return rs.getObject(i);
+			}
+		}
+	}
+
 	public void buildLabelNamesAndTypes(ResultSetMetaData rsmd, String[] labelNames, int[] types) throws SQLException {
 		for (int i=1; i<labelNames.length; i++) {
 			labelNames[i] = rsmd.getColumnLabel(i);
@@ -0,0 +1,144 @@
+/**
+ *
+ * Copyright (c) 2020 WeiHua Lyu [ready.work]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package work.ready.core.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Forward only cursor over a query result. Rows are built one at a time while the caller pulls them, and the
+ * statement and connection are released when the rows are exhausted, on the first error, or on close().
+ */
+public class RowStream<T> implements Iterator<T>, AutoCloseable {
+
+	public static final int DEFAULT_FETCH_SIZE = 1000;
+
+	private final DatabaseManager manager;
+	private final Connection conn;
+	private final PreparedStatement pst;
+	private final ResultSet rs;
+	private final RowMapper<T> mapper;
+	private final boolean restoreAutoCommit;
+	private T next;
+	private boolean closed;
+
+	RowStream(DatabaseManager manager, Connection conn, PreparedStatement pst, ResultSet rs, RowMapper<T> mapper, boolean restoreAutoCommit) {
+		this.manager = manager;
+		this.conn = conn;
+		this.pst = pst;
+		this.rs = rs;
+		this.mapper = mapper;
+		this.restoreAutoCommit = restoreAutoCommit;
+	}
+
+	static <T> RowStream<T> open(DatabaseManager manager, Config config, String sql, Object[] params, int fetchSize, MapperFactory<T> factory) {
+		Connection conn = null;
+		PreparedStatement pst = null;
+		boolean restoreAutoCommit = false;
+		try {
+			conn = config.getConnection();
+			boolean exclusive = !manager.getTransactionManager().inLocalTransaction();
+			if (exclusive && config.dialect.isStreamingRequiresTransaction() && conn.getAutoCommit()) {
+				conn.setAutoCommit(false);
+				restoreAutoCommit = true;
+			}
+			pst = config.dialect.forStreamQuery(conn, sql, fetchSize, exclusive);
+			config.dialect.fillStatement(pst, params);
+			ResultSet rs = pst.executeQuery();
+			return new RowStream<>(manager, conn, pst, rs, factory.create(rs), restoreAutoCommit);
+		} catch (Exception e) {
+			release(manager, conn, pst, restoreAutoCommit);
+			throw e instanceof DatabaseException ? (DatabaseException) e : new DatabaseException(e);
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (next != null) {
+			return true;
+		}
+		if (closed) {
+			return false;
+		}
+		try {
+			if (rs.next()) {
+				next = mapper.map(rs);
+				return true;
+			}
+		} catch (Exception e) {
+			close();
+			throw e instanceof DatabaseException ? (DatabaseException) e : new DatabaseException(e);
+		}
+		close();
+		return false;
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		T row = next;
+		next = null;
+		return row;
+	}
+
+	public Stream<T> stream() {
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL), false)
+				.onClose(this::close);
+	}
+
+	@Override
+	public void close() {
+		if (!closed) {
+			closed = true;
+			next = null;
+			manager.closeQuietly(rs);
+			release(manager, conn, pst, restoreAutoCommit);
+		}
+	}
+
+	private static void release(DatabaseManager manager, Connection conn, PreparedStatement pst, boolean restoreAutoCommit) {
+		manager.closeQuietly(pst);
+		if (restoreAutoCommit) {
+			try {
+				conn.setAutoCommit(true);
+			} catch (SQLException e) {
+				manager.closeQuietly(conn);
+				throw new DatabaseException(e);
+			}
+		}
+		manager.close(conn);
+	}
+
+	public interface RowMapper<T> {
+		T map(ResultSet rs) throws SQLException, ReflectiveOperationException;
+	}
+
+	interface MapperFactory<T> {
+		RowMapper<T> create(ResultSet rs) throws SQLException;
+	}
+}
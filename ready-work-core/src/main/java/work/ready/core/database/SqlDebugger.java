@@ -30,6 +30,10 @@ public interface SqlDebugger {
         throw new RuntimeException("SqlDebugger.removeListener not implemented yet");
     }
 
+    default boolean isEnabled() {
+        return true;
+    }
+
     void beforeAudit(String datasource, String sql);
 
     void beforeExecute(String datasource, String sql);
@@ -19,68 +19,32 @@
 
 package work.ready.core.database.builder;
 
-import work.ready.core.database.*;
-import work.ready.core.database.Record;
+import work.ready.core.database.RecordBuilder;
+
 import java.sql.ResultSet;
-import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Types;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
 
 public class TimestampProcessedRecordBuilder extends RecordBuilder {
 
 	@Override
-	public List<Record> build(Config config, ResultSet rs) throws SQLException {
-		return build(config, rs, null);
-	}
-
-	@Override
-	@SuppressWarnings("unchecked")
-	public List<Record> build(Config config, ResultSet rs, Function<Record, Boolean> func) throws SQLException {
-		List<Record> result = new ArrayList<Record>();
-		ResultSetMetaData rsmd = rs.getMetaData();
-		int columnCount = rsmd.getColumnCount();
-		String[] labelNames = new String[columnCount + 1];
-		int[] types = new int[columnCount + 1];
-		buildLabelNamesAndTypes(rsmd, labelNames, types);
-		while (rs.next()) {
-			Record record = new Record(config.getContainerFactory().getColumnsMap());
-			Map<String, Object> columns = record.getColumns();
-			for (int i=1; i<=columnCount; i++) {
-				Object value;
-				if (types[i] < Types.DATE) {
-					value = rs.getObject(i);
-				} else {
-					if (types[i] == Types.TIMESTAMP) {
-						value = rs.getTimestamp(i);
-					} else if (types[i] == Types.DATE) {
-						value = rs.getDate(i);
-					} else if (types[i] == Types.CLOB) {
-						value = getModelBuilder().handleClob(rs.getClob(i));
-					} else if (types[i] == Types.NCLOB) {
-						value = getModelBuilder().handleClob(rs.getNClob(i));
-					} else if (types[i] == Types.BLOB) {
-						value = getModelBuilder().handleBlob(rs.getBlob(i));
-					} else {
-						value = rs.getObject(i);
-					}
-				}
-
-				columns.put(labelNames[i], value);
-			}
-
-			if (func == null) {
-				result.add(record);
+	protected Object getColumnValue(ResultSet rs, int i, int type) throws SQLException {
+		if (type < Types.DATE) {
+			return rs.getObject(i);
+		} else {
+			if (type == Types.TIMESTAMP) {
+				return rs.getTimestamp(i);
+			} else if (type == Types.DATE) {
+				return rs.getDate(i);
+			} else if (type == Types.CLOB) {
+				return getModelBuilder().handleClob(rs.getClob(i));
+			} else if (type == Types.NCLOB) {
+				return getModelBuilder().handleClob(rs.getNClob(i));
+			} else if (type == Types.BLOB) {
+				return getModelBuilder().handleBlob(rs.getBlob(i));
 			} else {
-				if ( ! func.apply(record) ) {
-					break ;
-				}
+				return rs.getObject(i);
 			}
 		}
-		return result;
 	}
 }
-
@@ -20,6 +20,7 @@ package work.ready.core.database.cleverorm;
 
 import work.ready.core.database.Model;
 import work.ready.core.database.ModelService;
+import work.ready.core.database.KeysetPage;
 import work.ready.core.database.Page;
 import work.ready.core.database.Record;
 import work.ready.core.database.annotation.Auto;
@@ -55,6 +56,22 @@ public class SelectSupporter implements SqlSupporter {
             }
             withPagination = true;
         }
+        if(typeList.size() > 0 && typeList.get(0).equals(KeysetPage.class)){
+            if(typeList.size() != 2 || (!Model.class.isAssignableFrom(typeList.get(1)) && !Record.class.equals(typeList.get(1))) || (Model.class.equals(typeList.get(1)) && ClassUtil.getGenericType(holder.genericReturnType) != null)){
+                throw new RuntimeException("CleverORM: Found select query with incompatible page return type, wrong generic type of keyset page: " + holder.genericReturnType + ", on " + ClassUtil.getMethodSignature(holder.method));
+            }
+            if(holder.parameters.length < 2 || !String.class.equals(holder.parameters[0].getType())
+                                            || (!int.class.equals(holder.parameters[1].getType()) && !Integer.class.equals(holder.parameters[1].getType()))){
+                throw new RuntimeException("CleverORM: Incompatible method parameters for keyset page type select query, the first two parameters should be String type of page token and int type of page size: " + Arrays.asList(holder.parameters) + ", on " + ClassUtil.getMethodSignature(holder.method));
+            }
+            if(holder.dao._getTable(true).getPrimaryKey().length != 1){
+                throw new RuntimeException("CleverORM: Keyset page type select query requires a table with single primary key, on " + ClassUtil.getMethodSignature(holder.method));
+            }
+            if(holder.orderByElements != null && holder.orderByElements.size() > 0){
+                throw new RuntimeException("CleverORM: Keyset page type select query is always ordered by primary key, ORDER BY is not allowed in the query, on " + ClassUtil.getMethodSignature(holder.method));
+            }
+            withPagination = true;
+        }
         if(typeList.size() > 0 && (typeList.get(0).equals(List.class) || typeList.get(0).equals(Set.class) || typeList.get(0).equals(Map.class))){
             if(holder.genericReturnType.toString().contains("<work.ready.core.database.Model>")){
                 throw new RuntimeException("CleverORM: Found select query with incompatible Model return type: " + holder.genericReturnType + ", on " + ClassUtil.getMethodSignature(holder.method));
@@ -110,6 +127,9 @@ public class SelectSupporter implements SqlSupporter {
         if(holder.returnType.equals(Page.class)){
             code = returnPage(holder);
         } else
+        if(holder.returnType.equals(KeysetPage.class)){
+            code = returnKeysetPage(holder);
+        } else
         if(holder.returnType.equals(Map.class)){
             code = returnMap(holder);
         } else
@@ -249,6 +269,24 @@ public class SelectSupporter implements SqlSupporter {
         }
     }
 
+    private String returnKeysetPage(AutoCodeGenerator holder) {
+        holder.addClassImport(List.class);
+        holder.addClassImport(Record.class);
+        holder.addClassImport(Model.class);
+        String keyColumn = holder.dao._getTable(true).getPrimaryKey()[0];
+
+        Map<String, String> result = sqlParameterProcess(holder);
+        List<Class<?>> typeList = new ArrayList<>();
+        ClassUtil.getGenericType(holder.genericReturnType, typeList, true);
+        if(Record.class.equals(typeList.get(1))){
+            String dbHolder = (StrUtil.notBlank(holder.dataSource)) ? "db.use(\""+holder.dataSource+"\")" : "db";
+            return result.get("code") + "\nreturnObject = " + dbHolder + result.get("audit") + ".paginateByKeysetFullSql(\"" + keyColumn + "\", false, p0, p1, -1, null, sql, paramArray);\n";
+        } else {
+            String dbHolder = (StrUtil.notBlank(holder.dataSource)) ? "use(\""+holder.dataSource+"\")" : "dao";
+            return result.get("code") + "\nreturnObject = (" + holder.genericReturnType.getTypeName() + ")" + dbHolder + result.get("audit") + ".paginateByKeysetFullSql(\"" + keyColumn + "\", false, p0, p1, -1, null, sql, paramArray);\n";
+        }
+    }
+
     private String returnBasicWrappedType(AutoCodeGenerator holder) {
         holder.addClassImport(Method.class);
         holder.addClassImport(RuntimeException.class);
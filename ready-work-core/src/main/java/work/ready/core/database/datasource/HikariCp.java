@@ -18,6 +18,8 @@
  */
 package work.ready.core.database.datasource;
 
+import work.ready.core.apm.ApmManager;
+import work.ready.core.apm.metrics.MetricsRegistry;
 import work.ready.core.database.jdbc.hikari.HikariConfig;
 import work.ready.core.database.jdbc.hikari.ReadyDataSource;
 import work.ready.core.server.Ready;
@@ -146,13 +148,19 @@ public class HikariCp implements DataSourceProvider {
 		if(config.getDataSourceProperties() != null){
 			hikariConfig.setDataSourceProperties(config.getDataSourceProperties());
 		}
-		if(config.getJdbcUrl().toLowerCase().contains(":mysql:")){
+		String jdbcUrl = config.getJdbcUrl().toLowerCase();
+		// mysql and postgresql drivers cache server side statements themselves, others get the pool level cache
+		if(config.isCachePrepStmts() && !jdbcUrl.contains(":mysql:") && !jdbcUrl.contains(":postgresql:")){
+			hikariConfig.setStatementCacheSize(config.getPrepStmtCacheSize());
+			hikariConfig.setStatementCacheSqlLimit(config.getPrepStmtCacheSqlLimit());
+		}
+		if(jdbcUrl.contains(":mysql:")){
 			hikariConfig.addDataSourceProperty("cachePrepStmts", "true");
 			hikariConfig.addDataSourceProperty("useServerPrepStmts", "true");
 			hikariConfig.addDataSourceProperty("prepStmtCacheSize", "256");
 			hikariConfig.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
 		}
-		if(config.getJdbcUrl().toLowerCase().contains(":postgresql:")){
+		if(jdbcUrl.contains(":postgresql:")){
 			if(config.isReadOnly()){
 				hikariConfig.addDataSourceProperty("readOnly", "true");
 			}
@@ -164,9 +172,21 @@ public class HikariCp implements DataSourceProvider {
 
 		ds = new ReadyDataSource(hikariConfig);
 		ds.setAttribute(ReadyDataSource.isEnabledTransaction, config.isEnabledTransaction());
+		if(ApmManager.getConfig().isEnabled() && ApmManager.getConfig().isMetrics()) {
+			registerPoolMetrics(ds);
+		}
 		return true;
 	}
 
+	// the pool is started lazily, so the gauges read NaN until the first connection is taken
+	private static void registerPoolMetrics(ReadyDataSource ds) {
+		String pool = ds.getPoolName();
+		MetricsRegistry.gauge("ready_db_pool_active_connections", () -> ds.getHikariPoolMXBean() == null ? Double.NaN : ds.getHikariPoolMXBean().getActiveConnections(), "pool", pool);
+		MetricsRegistry.gauge("ready_db_pool_idle_connections", () -> ds.getHikariPoolMXBean() == null ? Double.NaN : ds.getHikariPoolMXBean().getIdleConnections(), "pool", pool);
+		MetricsRegistry.gauge("ready_db_pool_total_connections", () -> ds.getHikariPoolMXBean() == null ? Double.NaN : ds.getHikariPoolMXBean().getTotalConnections(), "pool", pool);
+		MetricsRegistry.gauge("ready_db_pool_pending_threads", () -> ds.getHikariPoolMXBean() == null ? Double.NaN : ds.getHikariPoolMXBean().getThreadsAwaitingConnection(), "pool", pool);
+	}
+
 	@Override
 	public boolean destroy() {
 		if (ds != null) {
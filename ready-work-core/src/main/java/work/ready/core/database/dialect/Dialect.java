@@ -26,6 +26,7 @@ import java.math.BigInteger;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +36,7 @@ import java.util.regex.Pattern;
 
 public abstract class Dialect {
 
+	protected static final Pattern keyColumnPattern = Pattern.compile("([A-Za-z_][A-Za-z0-9_$]*\\.)?[A-Za-z_][A-Za-z0-9_$]*");
 	protected boolean keepByteAndShort = false;
 	protected ModelBuilder modelBuilder = null;
 	protected RecordBuilder recordBuilder = null;
@@ -115,6 +117,84 @@ public abstract class Dialect {
 		recordBuilder.build(config, rs, func);
 	}
 
+	public String forKeysetPaginate(int pageSize, String keyColumn, boolean descending, boolean seek, StringBuilder findSql) {
+		if (!keyColumnPattern.matcher(keyColumn).matches()) {
+			throw new IllegalArgumentException("invalid keyset pagination column: " + keyColumn);
+		}
+		// outside the derived table the key is only known by its unqualified label
+		String keyLabel = KeysetPage.keyLabel(keyColumn);
+		StringBuilder sql = new StringBuilder("select * from (").append(removeKeysetOrderBy(findSql)).append(") keyset_");
+		if (seek) {
+			sql.append(" where keyset_.").append(keyLabel).append(descending ? " < ?" : " > ?");
+		}
+		sql.append(" order by keyset_.").append(keyLabel).append(descending ? " desc" : " asc");
+		return forPaginate(1, pageSize, sql);
+	}
+
+	// the outer query orders by the key column, an ORDER BY left in the derived table is at best ignored and rejected by SQL Server
+	protected String removeKeysetOrderBy(StringBuilder findSql) {
+		String text = findSql.toString();
+		int depth = 0, orderBy = -1;
+		char quote = 0;
+		for (int i=0, len=text.length(); i<len; i++) {
+			char c = text.charAt(i);
+			if (quote != 0) {
+				if (c == quote) quote = 0;
+			} else if (c == '\'' || c == '"' || c == '`') {
+				quote = c;
+			} else if (c == '(') {
+				depth++;
+			} else if (c == ')') {
+				depth--;
+			} else if (depth == 0 && text.regionMatches(true, i, "order", 0, 5) && isKeywordBoundary(text, i - 1) && isKeywordBoundary(text, i + 5)) {
+				int j = i + 5;
+				while (j < len && Character.isWhitespace(text.charAt(j))) j++;
+				if (j > i + 5 && text.regionMatches(true, j, "by", 0, 2) && isKeywordBoundary(text, j + 2)) {
+					orderBy = i;
+				}
+			} else if (orderBy >= 0 && depth == 0 && isKeywordBoundary(text, i - 1) && Holder.KEYSET_TAIL_PATTERN.matcher(text).region(i, len).lookingAt()) {
+				throw new IllegalArgumentException("keyset pagination sql must not be limited or combined after ORDER BY: " + findSql);
+			}
+		}
+		return orderBy < 0 ? text : text.substring(0, orderBy);
+	}
+
+	private static boolean isKeywordBoundary(String sql, int index) {
+		return index < 0 || index >= sql.length() || !(Character.isLetterOrDigit(sql.charAt(index)) || sql.charAt(index) == '_');
+	}
+
+	public RowStream.RowMapper<Record> recordMapper(Config config, ResultSet rs) throws SQLException {
+		ResultSetMetaData rsmd = rs.getMetaData();
+		int columnCount = rsmd.getColumnCount();
+		String[] labelNames = new String[columnCount + 1];
+		int[] types = new int[columnCount + 1];
+		recordBuilder.buildLabelNamesAndTypes(rsmd, labelNames, types);
+		RecordBuilder builder = recordBuilder;
+		return resultSet -> builder.buildRecord(config, resultSet, labelNames, types);
+	}
+
+	@SuppressWarnings("rawtypes")
+	public <T> RowStream.RowMapper<T> modelMapper(ResultSet rs, Class<? extends Model> modelClass) throws SQLException {
+		ResultSetMetaData rsmd = rs.getMetaData();
+		int columnCount = rsmd.getColumnCount();
+		String[] labelNames = new String[columnCount + 1];
+		int[] types = new int[columnCount + 1];
+		modelBuilder.buildLabelNamesAndTypes(rsmd, labelNames, types);
+		ModelBuilder builder = modelBuilder;
+		return resultSet -> builder.buildModel(resultSet, modelClass, labelNames, types);
+	}
+
+	// exclusive is false when the connection is shared with a running transaction and must stay usable for other statements
+	public PreparedStatement forStreamQuery(Connection conn, String sql, int fetchSize, boolean exclusive) throws SQLException {
+		PreparedStatement pst = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+		pst.setFetchSize(fetchSize);
+		return pst;
+	}
+
+	public boolean isStreamingRequiresTransaction() {
+		return false;
+	}
+
 	public void getModelGeneratedKey(Model<?> model, PreparedStatement pst, Table table) throws SQLException {
 		String[] pKeys = table.getPrimaryKey();
 		ResultSet rs = pst.getGeneratedKeys();
@@ -219,6 +299,8 @@ public abstract class Dialect {
 		private static final Pattern ORDER_BY_PATTERN = Pattern.compile(
 			"order\\s+by\\s+[^,\\s]+(\\s+asc|\\s+desc)?(\\s*,\\s*[^,\\s]+(\\s+asc|\\s+desc)?)*",
 			Pattern.CASE_INSENSITIVE | Pattern.MULTILINE);
+
+		private static final Pattern KEYSET_TAIL_PATTERN = Pattern.compile("(limit|offset|fetch|union|intersect|except|for)\\b", Pattern.CASE_INSENSITIVE);
 	}
 
 	public String replaceOrderBy(String sql) {
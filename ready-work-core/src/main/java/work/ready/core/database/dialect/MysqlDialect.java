@@ -19,6 +19,10 @@ package work.ready.core.database.dialect;
 import work.ready.core.database.Record;
 import work.ready.core.database.Table;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -36,6 +40,14 @@ public class MysqlDialect extends Dialect {
 		return "select * from `" + tableName + "`";
 	}
 
+	@Override
+	public PreparedStatement forStreamQuery(Connection conn, String sql, int fetchSize, boolean exclusive) throws SQLException {
+		PreparedStatement pst = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+		// Connector/J only streams rows for Integer.MIN_VALUE, which locks the connection until the result set is closed
+		pst.setFetchSize(exclusive ? Integer.MIN_VALUE : fetchSize);
+		return pst;
+	}
+
 	@Override
 	public void forModelSave(Table table, Map<String, Object> attrs, StringBuilder sql, List<Object> params) {
 		sql.append("insert into `").append(table.getName()).append("`(");
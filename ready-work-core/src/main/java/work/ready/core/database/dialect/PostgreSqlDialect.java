@@ -49,6 +49,11 @@ public class PostgreSqlDialect extends Dialect {
 		return "select * from \"" + tableName + "\"";
 	}
 
+	@Override
+	public boolean isStreamingRequiresTransaction() {
+		return true;
+	}
+
 	@Override
 	public void forModelSave(Table table, Map<String, Object> attrs, StringBuilder sql, List<Object> params) {
 		sql.append("insert into \"").append(table.getName()).append("\"(");
@@ -29,12 +29,21 @@ import java.util.regex.Pattern;
 public class PreparedStatementInformation extends StatementInformation implements Loggable {
     private static final String LINE_SEPARATOR = System.getProperty("line.separator");
     private final List<Map<Integer, Value>> parameterValues = new ArrayList<>();
+    private boolean parameterCaptured = true;
 
     public PreparedStatementInformation(final ConnectionInformation connectionInformation, String query) {
         super(connectionInformation);
         setStatementQuery(query);
     }
 
+    public boolean isParameterCaptured() {
+        return parameterCaptured;
+    }
+
+    public void setParameterCaptured(boolean parameterCaptured) {
+        this.parameterCaptured = parameterCaptured;
+    }
+
     @Override
     public String getSqlWithValues() {
         final String statementQuery = getStatementQuery();
@@ -23,8 +23,10 @@ import java.sql.SQLException;
 
 public interface SqlExecuteHandler {
 
+    // sqlAuditTuple.getStatement() is shared through the sql cache, changes have to be made on getMutableStatement()
     default void beforeAudit(SqlAuditTuple sqlAuditTuple){ };
 
+    // parsed may be the shared cached statement, treat it as read only
     void beforeSqlExecute(StatementInformation statementInformation, Statement parsed, String sqlWithValues) throws SQLException;
 
     void afterSqlExecute(StatementInformation statementInformation, long timeElapsedNanos, SQLException e);
@@ -77,6 +77,20 @@ class CompoundJdbcEventListener extends JdbcEventListener {
     }
   }
 
+  @Override
+  public boolean needParameterValues() {
+    for (StatementListener eventListener : statementListeners) {
+      if (eventListener.needParameterValues()) return true;
+    }
+    for (ExecuteListener eventListener : executeListeners) {
+      if (eventListener.needParameterValues()) return true;
+    }
+    for (ExecuteBatchListener eventListener : executeBatchListeners) {
+      if (eventListener.needParameterValues()) return true;
+    }
+    return false;
+  }
+
   public <T extends JdbcListener> Collection<T> getEventListeners(Class<T> type) {
     Set<JdbcListener> list = new HashSet<>();
     if(ConnectionListener.class.isAssignableFrom(type)) {
@@ -17,4 +17,9 @@
 package work.ready.core.database.jdbc.event;
 
 public interface JdbcListener {
+
+    // bound parameter values are only captured while at least one registered listener asks for them
+    default boolean needParameterValues() {
+        return true;
+    }
 }
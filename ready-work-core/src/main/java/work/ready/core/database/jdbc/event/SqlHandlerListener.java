@@ -38,6 +38,7 @@ import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 
 public class SqlHandlerListener extends AnyExecuteListener {
@@ -53,6 +54,12 @@ public class SqlHandlerListener extends AnyExecuteListener {
         this.debugger = manager.getSqlDebugger();
     }
 
+    @Override
+    public boolean needParameterValues() {
+        // values are only read for debugging, by sql execute handlers and by the data security inspector
+        return debugger.isEnabled() || manager.hasSqlExecuteHandlers() || manager.getDataSecurityInspector() != null;
+    }
+
     @Override
     public String onBeforeAnyExecute(final StatementInformation statementInformation) throws SQLException {
         String sql = statementInformation.getSql();
@@ -60,9 +67,20 @@ public class SqlHandlerListener extends AnyExecuteListener {
             System.err.println("Sql is null");
             return sql;
         }
+        String datasource = ((ReadyDataSource)statementInformation.getConnectionInformation().getDataSource()).getPoolName();
+        List<SqlExecuteHandler> handlers = manager.getSqlExecuteHandlers(datasource);
+        boolean mutable = !handlers.isEmpty() || manager.getDataSecurityInspector() != null;
+        boolean debugging = debugger.isEnabled();
+        debugger.beforeAudit(datasource, sql);
+        if(!mutable && !manager.hasDbChangeSubscriber()) {
+            // nobody looks at the parsed statement, so it is not parsed at all
+            if(debugging) {
+                debugger.beforeExecute(datasource, statementInformation.getSqlWithValues());
+            }
+            return sql;
+        }
         List<Map<Integer, Value>> parameters = Collections.emptyList();
         Map<String, Value> namedParameters = Collections.emptyMap();
-        String datasource = ((ReadyDataSource)statementInformation.getConnectionInformation().getDataSource()).getPoolName();
         if(statementInformation instanceof CallableStatementInformation) {
             namedParameters = ((CallableStatementInformation) statementInformation).getNamedParameterValues();
         }
@@ -70,7 +88,6 @@ public class SqlHandlerListener extends AnyExecuteListener {
             parameters = ((PreparedStatementInformation) statementInformation).getParameterValues();
         }
         SqlAuditTuple tuple;
-        debugger.beforeAudit(datasource, sql);
         String sqlWithValues = null;
         String[] sqlSegments = StrUtil.split(sql, ";", true, true, true);
         if(sqlSegments.length > 1) {
@@ -82,10 +99,10 @@ public class SqlHandlerListener extends AnyExecuteListener {
             boolean isChanged = false;
             for(int i = 0; i < sqlSegments.length; i++) {
                 String eachSql = sqlSegments[i];
-                Statement statement = sqlParser(eachSql);
+                Statement statement = sqlParser(eachSql, false);
                 
-                tuple = new SqlAuditTuple(datasource, statement, parameters, namedParameters);
-                for(SqlExecuteHandler handler : manager.getSqlExecuteHandlers(datasource)) {
+                tuple = new SqlAuditTuple(datasource, statement, mutable ? copier(eachSql) : null, parameters, namedParameters);
+                for(SqlExecuteHandler handler : handlers) {
                     handler.beforeAudit(tuple);
                 }
                 auditManager.performAudit(tuple);
@@ -95,9 +112,10 @@ public class SqlHandlerListener extends AnyExecuteListener {
                     sqlSegments[i] = eachSql;
                     statementInformation.setStatementQuery(StrUtil.join(sqlSegments, ";"));
                 }
+                statement = tuple.getStatement();
                 statements.add(statement);
 
-                for (SqlExecuteHandler handler : manager.getSqlExecuteHandlers(datasource)) {
+                for (SqlExecuteHandler handler : handlers) {
                     handler.beforeSqlExecute(statementInformation, statement, eachSql);
                 }
             }
@@ -109,10 +127,10 @@ public class SqlHandlerListener extends AnyExecuteListener {
             
             sql = sqlWithValues = statementInformation.getSql();
         } else {
-            Statement statement = sqlParser(sql);
+            Statement statement = sqlParser(sql, false);
             
-            tuple = new SqlAuditTuple(datasource, statement, parameters, namedParameters);
-            for(SqlExecuteHandler handler : manager.getSqlExecuteHandlers(datasource)) {
+            tuple = new SqlAuditTuple(datasource, statement, mutable ? copier(sql) : null, parameters, namedParameters);
+            for(SqlExecuteHandler handler : handlers) {
                 handler.beforeAudit(tuple);
             }
             auditManager.performAudit(tuple);
@@ -124,13 +142,18 @@ public class SqlHandlerListener extends AnyExecuteListener {
                     doChange(statementInformation, tuple);
                 }
             }
+            statement = tuple.getStatement();
             statementInformation.setAttachment(SqlParsed_Attachment, statement);
-            sqlWithValues = statementInformation.getSqlWithValues();
-            for(SqlExecuteHandler handler : manager.getSqlExecuteHandlers(datasource)) {
+            if(!handlers.isEmpty() || debugging) {
+                sqlWithValues = statementInformation.getSqlWithValues();
+            }
+            for(SqlExecuteHandler handler : handlers) {
                 handler.beforeSqlExecute(statementInformation, statement, sqlWithValues);
             }
         }
-        debugger.beforeExecute(datasource, sqlWithValues);
+        if(debugging) {
+            debugger.beforeExecute(datasource, sqlWithValues);
+        }
         return sql;
     }
 
@@ -184,14 +207,14 @@ public class SqlHandlerListener extends AnyExecuteListener {
         }
     }
 
-    private Statement sqlParser(String sql) throws SQLException {
+    private Statement sqlParser(String sql, boolean withoutCache) throws SQLException {
         try {
-            return manager.sqlParser(sql, true);
+            return manager.sqlParser(sql, withoutCache);
         } catch (JSQLParserException e) {
             
             if(createIndexIfNotExists.matcher(sql).find()) {
                 try {
-                    return manager.sqlParser(createIndexIfNotExists.matcher(sql).replaceAll("CREATE INDEX "), true);
+                    return manager.sqlParser(createIndexIfNotExists.matcher(sql).replaceAll("CREATE INDEX "), withoutCache);
                 } catch (JSQLParserException e1) {
                     throw new SQLException("sql parser exception: " + sql, e);
                 }
@@ -201,6 +224,16 @@ public class SqlHandlerListener extends AnyExecuteListener {
         }
     }
 
+    private Supplier<Statement> copier(String sql) {
+        return () -> {
+            try {
+                return sqlParser(sql, true);
+            } catch (SQLException e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+
     private void dbChangeEventSupport(final StatementInformation statementInformation, SQLException e) {
         if(e != null) {
             return;
@@ -54,6 +54,7 @@ public class HikariConfig implements HikariConfigMXBean
    private static final long IDLE_TIMEOUT = MINUTES.toMillis(10);
    private static final long MAX_LIFETIME = MINUTES.toMillis(30);
    private static final long DEFAULT_KEEPALIVE_TIME = 0L;
+   private static final int DEFAULT_STATEMENT_CACHE_SQL_LIMIT = 2048;
    private static final int DEFAULT_POOL_SIZE = 10;
 
    private static boolean unitTest = false;
@@ -91,6 +92,8 @@ public class HikariConfig implements HikariConfigMXBean
    private ScheduledExecutorService scheduledExecutor;
 
    private long keepaliveTime;
+   private int statementCacheSize;
+   private int statementCacheSqlLimit;
 
    private volatile boolean sealed;
 
@@ -107,6 +110,7 @@ public class HikariConfig implements HikariConfigMXBean
       initializationFailTimeout = 1;
       isAutoCommit = true;
       keepaliveTime = DEFAULT_KEEPALIVE_TIME;
+      statementCacheSqlLimit = DEFAULT_STATEMENT_CACHE_SQL_LIMIT;
 
       String systemProp = System.getProperty("hikaricp.configurationFile");
       if (systemProp != null) {
@@ -433,6 +437,28 @@ public class HikariConfig implements HikariConfigMXBean
       this.keepaliveTime = keepaliveTimeMs;
    }
 
+   public int getStatementCacheSize()
+   {
+      return statementCacheSize;
+   }
+
+   public void setStatementCacheSize(int statementCacheSize)
+   {
+      checkIfSealed();
+      this.statementCacheSize = statementCacheSize;
+   }
+
+   public int getStatementCacheSqlLimit()
+   {
+      return statementCacheSqlLimit;
+   }
+
+   public void setStatementCacheSqlLimit(int statementCacheSqlLimit)
+   {
+      checkIfSealed();
+      this.statementCacheSqlLimit = statementCacheSqlLimit;
+   }
+
    public boolean isReadOnly()
    {
       return isReadOnly;
@@ -672,6 +698,10 @@ public class HikariConfig implements HikariConfigMXBean
          maxPoolSize = DEFAULT_POOL_SIZE;
       }
 
+      if (statementCacheSize < 0) {
+         statementCacheSize = 0;
+      }
+
       if (minIdle < 0 || minIdle > maxPoolSize) {
          minIdle = maxPoolSize;
       }
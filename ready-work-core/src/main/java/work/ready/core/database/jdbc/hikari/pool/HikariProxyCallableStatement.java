@@ -256,17 +256,17 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
 
     @Override
     public void setMaxFieldSize(int arg0) throws SQLException {
-        try {  ((CallableStatement) delegate).setMaxFieldSize(arg0); } catch (SQLException e) { throw checkException(e); }
+        try {  super.setMaxFieldSize(arg0); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
     public void setMaxRows(int arg0) throws SQLException {
-        try {  ((CallableStatement) delegate).setMaxRows(arg0); } catch (SQLException e) { throw checkException(e); }
+        try {  super.setMaxRows(arg0); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
     public void setEscapeProcessing(boolean arg0) throws SQLException {
-        try {  ((CallableStatement) delegate).setEscapeProcessing(arg0); } catch (SQLException e) { throw checkException(e); }
+        try {  super.setEscapeProcessing(arg0); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
@@ -276,12 +276,12 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
 
     @Override
     public void setQueryTimeout(int arg0) throws SQLException {
-        try {  ((CallableStatement) delegate).setQueryTimeout(arg0); } catch (SQLException e) { throw checkException(e); }
+        try {  super.setQueryTimeout(arg0); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
     public void setCursorName(String arg0) throws SQLException {
-        try {  ((CallableStatement) delegate).setCursorName(arg0); } catch (SQLException e) { throw checkException(e); }
+        try {  super.setCursorName(arg0); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
@@ -315,7 +315,7 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
 
     @Override
     public void setFetchDirection(int arg0) throws SQLException {
-        try {  ((CallableStatement) delegate).setFetchDirection(arg0); } catch (SQLException e) { throw checkException(e); }
+        try {  super.setFetchDirection(arg0); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
@@ -325,7 +325,7 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
 
     @Override
     public void setFetchSize(int arg0) throws SQLException {
-        try {  ((CallableStatement) delegate).setFetchSize(arg0); } catch (SQLException e) { throw checkException(e); }
+        try {  super.setFetchSize(arg0); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
@@ -404,7 +404,7 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
 
     @Override
     public void setPoolable(boolean arg0) throws SQLException {
-        try {  ((CallableStatement) delegate).setPoolable(arg0); } catch (SQLException e) { throw checkException(e); }
+        try {  super.setPoolable(arg0); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
@@ -414,7 +414,7 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
 
     @Override
     public void closeOnCompletion() throws SQLException {
-        try {  ((CallableStatement) delegate).closeOnCompletion(); } catch (SQLException e) { throw checkException(e); }
+        try {  super.closeOnCompletion(); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
@@ -429,7 +429,7 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
 
     @Override
     public void setLargeMaxRows(long arg0) throws SQLException {
-        try {  ((CallableStatement) delegate).setLargeMaxRows(arg0); } catch (SQLException e) { throw checkException(e); }
+        try {  super.setLargeMaxRows(arg0); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
@@ -496,7 +496,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -509,7 +511,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -522,7 +526,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -535,7 +541,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, null, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, null, e);
+          }
         }
     }
 
@@ -548,7 +556,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, null, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, null, e);
+          }
         }
     }
 
@@ -561,7 +571,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -574,7 +586,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -587,7 +601,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -600,7 +616,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -613,7 +631,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -626,7 +646,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -643,7 +665,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -656,7 +680,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -669,7 +695,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -682,7 +710,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -700,7 +730,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -713,7 +745,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -726,7 +760,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -739,7 +775,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -752,7 +790,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -765,7 +805,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -778,7 +820,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -791,7 +835,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -804,7 +850,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -817,7 +865,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -830,7 +880,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -843,7 +895,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -856,7 +910,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -869,7 +925,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -882,7 +940,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -900,7 +960,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -913,7 +975,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -926,7 +990,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -939,7 +1005,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -952,7 +1020,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -965,7 +1035,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -978,7 +1050,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -991,7 +1065,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1019,7 +1095,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1032,7 +1110,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1045,7 +1125,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1058,7 +1140,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1071,7 +1155,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1084,7 +1170,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1097,7 +1185,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1167,7 +1257,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1180,7 +1272,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1193,7 +1287,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1206,7 +1302,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1219,7 +1317,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1252,7 +1352,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1265,7 +1367,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1308,7 +1412,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation,  arg0, null, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation,  arg0, null, e);
+          }
         }
     }
 
@@ -1321,7 +1427,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation,  arg0, null, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation,  arg0, null, e);
+          }
         }
     }
 
@@ -1334,7 +1442,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1347,7 +1457,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1360,7 +1472,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1373,7 +1487,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1386,7 +1502,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1399,7 +1517,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1412,7 +1532,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1425,7 +1547,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1438,7 +1562,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1451,7 +1577,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1464,7 +1592,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1477,7 +1607,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1490,7 +1622,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1503,7 +1637,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1516,7 +1652,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1529,7 +1667,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1542,7 +1682,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1555,7 +1697,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1568,7 +1712,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1581,7 +1727,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1594,7 +1742,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1607,7 +1757,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1620,7 +1772,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1633,7 +1787,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1646,7 +1802,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1659,7 +1817,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1672,7 +1832,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1685,7 +1847,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1698,7 +1862,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1711,7 +1877,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1724,7 +1892,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -2011,7 +2181,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -2024,7 +2196,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -2037,7 +2211,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -2050,7 +2226,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -2063,7 +2241,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -2076,7 +2256,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -2089,7 +2271,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -2112,7 +2296,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -2145,7 +2331,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -2158,7 +2346,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -2171,7 +2361,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -2184,7 +2376,9 @@ public final class HikariProxyCallableStatement extends ProxyCallableStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterCallableStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -253,17 +253,17 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
 
     @Override
     public void setMaxFieldSize(int arg0) throws SQLException {
-        try {  ((PreparedStatement) delegate).setMaxFieldSize(arg0); } catch (SQLException e) { throw checkException(e); }
+        try {  super.setMaxFieldSize(arg0); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
     public void setMaxRows(int arg0) throws SQLException {
-        try {  ((PreparedStatement) delegate).setMaxRows(arg0); } catch (SQLException e) { throw checkException(e); }
+        try {  super.setMaxRows(arg0); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
     public void setEscapeProcessing(boolean arg0) throws SQLException {
-        try {  ((PreparedStatement) delegate).setEscapeProcessing(arg0); } catch (SQLException e) { throw checkException(e); }
+        try {  super.setEscapeProcessing(arg0); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
@@ -273,12 +273,12 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
 
     @Override
     public void setQueryTimeout(int arg0) throws SQLException {
-        try {  ((PreparedStatement) delegate).setQueryTimeout(arg0); } catch (SQLException e) { throw checkException(e); }
+        try {  super.setQueryTimeout(arg0); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
     public void setCursorName(String arg0) throws SQLException {
-        try {  ((PreparedStatement) delegate).setCursorName(arg0); } catch (SQLException e) { throw checkException(e); }
+        try {  super.setCursorName(arg0); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
@@ -312,7 +312,7 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
 
     @Override
     public void setFetchDirection(int arg0) throws SQLException {
-        try {  ((PreparedStatement) delegate).setFetchDirection(arg0); } catch (SQLException e) { throw checkException(e); }
+        try {  super.setFetchDirection(arg0); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
@@ -322,7 +322,7 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
 
     @Override
     public void setFetchSize(int arg0) throws SQLException {
-        try {  ((PreparedStatement) delegate).setFetchSize(arg0); } catch (SQLException e) { throw checkException(e); }
+        try {  super.setFetchSize(arg0); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
@@ -401,7 +401,7 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
 
     @Override
     public void setPoolable(boolean arg0) throws SQLException {
-        try {  ((PreparedStatement) delegate).setPoolable(arg0); } catch (SQLException e) { throw checkException(e); }
+        try {  super.setPoolable(arg0); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
@@ -411,7 +411,7 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
 
     @Override
     public void closeOnCompletion() throws SQLException {
-        try {  ((PreparedStatement) delegate).closeOnCompletion(); } catch (SQLException e) { throw checkException(e); }
+        try {  super.closeOnCompletion(); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
@@ -426,7 +426,7 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
 
     @Override
     public void setLargeMaxRows(long arg0) throws SQLException {
-        try {  ((PreparedStatement) delegate).setLargeMaxRows(arg0); } catch (SQLException e) { throw checkException(e); }
+        try {  super.setLargeMaxRows(arg0); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
@@ -493,7 +493,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -506,7 +508,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -519,7 +523,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -532,7 +538,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, null, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, null, e);
+          }
         }
     }
 
@@ -545,7 +553,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, null, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, null, e);
+          }
         }
     }
 
@@ -558,7 +568,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -571,7 +583,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -584,7 +598,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -597,7 +613,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -610,7 +628,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -623,7 +643,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -640,7 +662,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -653,7 +677,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -666,7 +692,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -679,7 +707,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -697,7 +727,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -710,7 +742,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -723,7 +757,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -736,7 +772,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -749,7 +787,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -762,7 +802,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -775,7 +817,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -788,7 +832,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -801,7 +847,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -814,7 +862,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -827,7 +877,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -840,7 +892,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -853,7 +907,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -866,7 +922,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -879,7 +937,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -897,7 +957,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -910,7 +972,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -923,7 +987,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -936,7 +1002,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -949,7 +1017,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -962,7 +1032,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -975,7 +1047,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -988,7 +1062,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1016,7 +1092,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1029,7 +1107,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1042,7 +1122,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1055,7 +1137,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1068,7 +1152,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1081,7 +1167,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1094,7 +1182,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1164,7 +1254,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1177,7 +1269,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1190,7 +1284,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1203,7 +1299,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 
@@ -1216,7 +1314,9 @@ public final class HikariProxyPreparedStatement extends ProxyPreparedStatement i
           e = sqle;
           throw checkException(e);
         } finally {
-          jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          if (statementInformation.isParameterCaptured()) {
+            jdbcEventListener.onAfterPreparedStatementSet(statementInformation, arg0, arg1, e);
+          }
         }
     }
 }
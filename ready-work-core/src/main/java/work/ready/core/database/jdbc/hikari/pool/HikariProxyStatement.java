@@ -232,17 +232,17 @@ public final class HikariProxyStatement extends ProxyStatement implements Wrappe
 
     @Override
     public void setMaxFieldSize(int arg0) throws SQLException {
-        try {  delegate.setMaxFieldSize(arg0); } catch (SQLException e) { throw checkException(e); }
+        try {  super.setMaxFieldSize(arg0); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
     public void setMaxRows(int arg0) throws SQLException {
-        try {  delegate.setMaxRows(arg0); } catch (SQLException e) { throw checkException(e); }
+        try {  super.setMaxRows(arg0); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
     public void setEscapeProcessing(boolean arg0) throws SQLException {
-        try {  delegate.setEscapeProcessing(arg0); } catch (SQLException e) { throw checkException(e); }
+        try {  super.setEscapeProcessing(arg0); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
@@ -252,12 +252,12 @@ public final class HikariProxyStatement extends ProxyStatement implements Wrappe
 
     @Override
     public void setQueryTimeout(int arg0) throws SQLException {
-        try {  delegate.setQueryTimeout(arg0); } catch (SQLException e) { throw checkException(e); }
+        try {  super.setQueryTimeout(arg0); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
     public void setCursorName(String arg0) throws SQLException {
-        try {  delegate.setCursorName(arg0); } catch (SQLException e) { throw checkException(e); }
+        try {  super.setCursorName(arg0); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
@@ -291,7 +291,7 @@ public final class HikariProxyStatement extends ProxyStatement implements Wrappe
 
     @Override
     public void setFetchDirection(int arg0) throws SQLException {
-        try {  delegate.setFetchDirection(arg0); } catch (SQLException e) { throw checkException(e); }
+        try {  super.setFetchDirection(arg0); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
@@ -301,7 +301,7 @@ public final class HikariProxyStatement extends ProxyStatement implements Wrappe
 
     @Override
     public void setFetchSize(int arg0) throws SQLException {
-        try {  delegate.setFetchSize(arg0); } catch (SQLException e) { throw checkException(e); }
+        try {  super.setFetchSize(arg0); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
@@ -380,7 +380,7 @@ public final class HikariProxyStatement extends ProxyStatement implements Wrappe
 
     @Override
     public void setPoolable(boolean arg0) throws SQLException {
-        try {  delegate.setPoolable(arg0); } catch (SQLException e) { throw checkException(e); }
+        try {  super.setPoolable(arg0); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
@@ -390,7 +390,7 @@ public final class HikariProxyStatement extends ProxyStatement implements Wrappe
 
     @Override
     public void closeOnCompletion() throws SQLException {
-        try {  delegate.closeOnCompletion(); } catch (SQLException e) { throw checkException(e); }
+        try {  super.closeOnCompletion(); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
@@ -405,7 +405,7 @@ public final class HikariProxyStatement extends ProxyStatement implements Wrappe
 
     @Override
     public void setLargeMaxRows(long arg0) throws SQLException {
-        try {  delegate.setLargeMaxRows(arg0); } catch (SQLException e) { throw checkException(e); }
+        try {  super.setLargeMaxRows(arg0); } catch (SQLException e) { throw checkException(e); }
     }
 
     @Override
@@ -46,6 +46,7 @@ final class PoolEntry implements IConcurrentBagEntry
 
    private final FastList<Statement> openStatements;
    private final HikariPool hikariPool;
+   final StatementCache statementCache;
 
    private final boolean isReadOnly;
    private final boolean isAutoCommit;
@@ -63,6 +64,8 @@ final class PoolEntry implements IConcurrentBagEntry
       this.isAutoCommit = isAutoCommit;
       this.lastAccessed = currentTime();
       this.openStatements = new FastList<>(Statement.class, 16);
+      this.statementCache = pool.config.getStatementCacheSize() > 0
+         ? new StatementCache(pool.config.getStatementCacheSize(), pool.config.getStatementCacheSqlLimit()) : null;
    }
 
    void recycle(final long lastAccessed)
@@ -161,6 +164,10 @@ final class PoolEntry implements IConcurrentBagEntry
          LOGGER.warn("{} - keepalive task cancellation unexpectedly returned false for connection {}", getPoolName(), connection);
       }
 
+      if (statementCache != null) {
+         statementCache.clear();
+      }
+
       Connection con = connection;
       connection = null;
       endOfLife = null;
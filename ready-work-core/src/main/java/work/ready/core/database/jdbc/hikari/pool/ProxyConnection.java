@@ -193,6 +193,42 @@ public abstract class ProxyConnection implements Connection
       leakTask.cancel();
    }
 
+   private boolean isStatementCacheUsable(final StatementCache cache, final String sql)
+   {
+      // statements prepared against a switched catalog or schema must not outlive this borrow
+      return (dirtyBits & (DIRTY_BIT_CATALOG | DIRTY_BIT_SCHEMA)) == 0 && cache.accepts(sql);
+   }
+
+   private PreparedStatement prepareCachedStatement(final StatementCache cache, final StatementCache.Key key) throws SQLException
+   {
+      PreparedStatement statement = cache.take(key);
+      if (statement == null) {
+         statement = key.autoGeneratedKeys == Statement.NO_GENERATED_KEYS
+            ? delegate.prepareStatement(key.sql)
+            : delegate.prepareStatement(key.sql, key.autoGeneratedKeys);
+      }
+      final PreparedStatement proxied = ProxyFactory.getProxyPreparedStatement(this, key.sql, trackStatement(statement));
+      ((ProxyPreparedStatement) proxied).cacheable(key, statement);
+      return proxied;
+   }
+
+   final boolean recycleStatement(final StatementCache.Key key, final PreparedStatement statement)
+   {
+      final StatementCache cache = poolEntry.statementCache;
+      if (cache == null || delegate == ClosedConnection.CLOSED_CONNECTION || (dirtyBits & (DIRTY_BIT_CATALOG | DIRTY_BIT_SCHEMA)) != 0) {
+         return false;
+      }
+      try {
+         statement.clearParameters();
+         statement.clearBatch();
+         statement.clearWarnings();
+      }
+      catch (SQLException e) {
+         return false;
+      }
+      return cache.offer(key, statement);
+   }
+
    private synchronized <T extends Statement> T trackStatement(final T statement)
    {
       openStatements.add(statement);
@@ -304,12 +340,20 @@ public abstract class ProxyConnection implements Connection
    @Override
    public PreparedStatement prepareStatement(String sql) throws SQLException
    {
+      final StatementCache cache = poolEntry.statementCache;
+      if (cache != null && isStatementCacheUsable(cache, sql)) {
+         return prepareCachedStatement(cache, new StatementCache.Key(sql, Statement.NO_GENERATED_KEYS));
+      }
       return ProxyFactory.getProxyPreparedStatement(this, sql, trackStatement(delegate.prepareStatement(sql)));
    }
 
    @Override
    public PreparedStatement prepareStatement(String sql, int autoGeneratedKeys) throws SQLException
    {
+      final StatementCache cache = poolEntry.statementCache;
+      if (cache != null && isStatementCacheUsable(cache, sql)) {
+         return prepareCachedStatement(cache, new StatementCache.Key(sql, autoGeneratedKeys));
+      }
       return ProxyFactory.getProxyPreparedStatement(this, sql, trackStatement(delegate.prepareStatement(sql, autoGeneratedKeys)));
    }
 
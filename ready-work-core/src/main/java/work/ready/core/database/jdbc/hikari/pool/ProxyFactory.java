@@ -35,6 +35,7 @@ class ProxyFactory {
             final String sql, final PreparedStatement statement) {
         HikariProxyConnection hikariConnection = (HikariProxyConnection)connection;
         var si = new PreparedStatementInformation(hikariConnection.getConnectionInformation(), sql);
+        si.setParameterCaptured(hikariConnection.getJdbcEventListener().needParameterValues());
         
         PreparedStatement proxied = new HikariProxyPreparedStatement(connection, statement).advancedFeatureSupport(si, hikariConnection.getJdbcEventListener());
         si.setStatement(proxied);
@@ -45,6 +46,7 @@ class ProxyFactory {
             final String sql, final CallableStatement statement) {
         HikariProxyConnection hikariConnection = (HikariProxyConnection)connection;
         var si = new CallableStatementInformation(hikariConnection.getConnectionInformation(), sql);
+        si.setParameterCaptured(hikariConnection.getJdbcEventListener().needParameterValues());
         
         CallableStatement proxied = new HikariProxyCallableStatement(connection, statement).advancedFeatureSupport(si, hikariConnection.getJdbcEventListener());
         si.setStatement(proxied);
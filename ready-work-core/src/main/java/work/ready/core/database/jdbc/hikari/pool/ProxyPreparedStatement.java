@@ -16,17 +16,51 @@
 
 package work.ready.core.database.jdbc.hikari.pool;
 
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 
 public abstract class ProxyPreparedStatement extends ProxyStatement implements PreparedStatement
 {
+   private StatementCache.Key cacheKey;
+   private PreparedStatement cachedStatement;
+
    ProxyPreparedStatement(ProxyConnection connection, PreparedStatement statement)
    {
       super(connection, statement);
    }
 
+   final void cacheable(StatementCache.Key key, PreparedStatement statement)
+   {
+      this.cacheKey = key;
+      this.cachedStatement = statement;
+   }
+
+   @Override
+   boolean recycle()
+   {
+      // a replaced delegate or one with changed settings is closed as usual
+      if (cacheKey == null || delegate != cachedStatement || isStateChanged()) {
+         return false;
+      }
+      try {
+         closeResultSets();
+      }
+      catch (SQLException e) {
+         return false;
+      }
+      // detach before handing the statement back, the next borrower must not be reachable through this proxy
+      delegate = ClosedStatement.CLOSED_STATEMENT;
+      if (connection.recycleStatement(cacheKey, cachedStatement)) {
+         return true;
+      }
+      delegate = cachedStatement;
+      return false;
+   }
+
    @Override
    public boolean execute() throws SQLException
    {
@@ -55,4 +89,29 @@ public abstract class ProxyPreparedStatement extends ProxyStatement implements P
       connection.markCommitStateDirty();
       return ((PreparedStatement) delegate).executeLargeUpdate();
    }
+
+   private static final class ClosedStatement
+   {
+      static final CallableStatement CLOSED_STATEMENT = getClosedStatement();
+
+      private static CallableStatement getClosedStatement()
+      {
+         InvocationHandler handler = (proxy, method, args) -> {
+            final String methodName = method.getName();
+            if ("isClosed".equals(methodName)) {
+               return Boolean.TRUE;
+            }
+            if ("close".equals(methodName)) {
+               return Void.TYPE;
+            }
+            else if ("toString".equals(methodName)) {
+               return ClosedStatement.class.getCanonicalName();
+            }
+
+            throw new SQLException("Statement is closed");
+         };
+
+         return (CallableStatement) Proxy.newProxyInstance(CallableStatement.class.getClassLoader(), new Class[] { CallableStatement.class }, handler);
+      }
+   }
 }
@@ -27,6 +27,7 @@ public abstract class ProxyStatement implements Statement
    protected Statement delegate;
 
    private boolean isClosed;
+   private boolean isStateChanged;
    private ResultSet proxyResultSet;
 
    ProxyStatement(ProxyConnection connection, Statement statement)
@@ -61,19 +62,114 @@ public abstract class ProxyStatement implements Statement
       connection.untrackStatement(delegate);
 
       try {
-         delegate.close();
+         if (!recycle()) {
+            delegate.close();
+         }
       }
       catch (SQLException e) {
          throw connection.checkException(e);
       }
    }
 
+   boolean recycle()
+   {
+      return false;
+   }
+
+   final boolean isStateChanged()
+   {
+      return isStateChanged;
+   }
+
+   // a statement that outlives close() must not keep the caller's cursor open
+   final void closeResultSets() throws SQLException
+   {
+      if (proxyResultSet != null) {
+         proxyResultSet.close();
+         proxyResultSet = null;
+      }
+      final ResultSet resultSet = delegate.getResultSet();
+      if (resultSet != null) {
+         resultSet.close();
+      }
+   }
+
    @Override
    public Connection getConnection() throws SQLException
    {
       return connection;
    }
 
+   @Override
+   public void setMaxFieldSize(int max) throws SQLException
+   {
+      isStateChanged = true;
+      delegate.setMaxFieldSize(max);
+   }
+
+   @Override
+   public void setMaxRows(int max) throws SQLException
+   {
+      isStateChanged = true;
+      delegate.setMaxRows(max);
+   }
+
+   @Override
+   public void setLargeMaxRows(long max) throws SQLException
+   {
+      isStateChanged = true;
+      delegate.setLargeMaxRows(max);
+   }
+
+   @Override
+   public void setEscapeProcessing(boolean enable) throws SQLException
+   {
+      isStateChanged = true;
+      delegate.setEscapeProcessing(enable);
+   }
+
+   @Override
+   public void setQueryTimeout(int seconds) throws SQLException
+   {
+      isStateChanged = true;
+      delegate.setQueryTimeout(seconds);
+   }
+
+   @Override
+   public void setCursorName(String name) throws SQLException
+   {
+      isStateChanged = true;
+      delegate.setCursorName(name);
+   }
+
+   @Override
+   public void setFetchDirection(int direction) throws SQLException
+   {
+      isStateChanged = true;
+      delegate.setFetchDirection(direction);
+   }
+
+   @Override
+   public void setFetchSize(int rows) throws SQLException
+   {
+      isStateChanged = true;
+      delegate.setFetchSize(rows);
+   }
+
+   @Override
+   public void setPoolable(boolean poolable) throws SQLException
+   {
+      isStateChanged = true;
+      delegate.setPoolable(poolable);
+   }
+
+   @Override
+   public void closeOnCompletion() throws SQLException
+   {
+      isStateChanged = true;
+      delegate.closeOnCompletion();
+   }
+
    @Override
    public boolean execute(String sql) throws SQLException
    {
@@ -208,6 +304,8 @@ public abstract class ProxyStatement implements Statement
    @SuppressWarnings("unchecked")
    public final <T> T unwrap(Class<T> iface) throws SQLException
    {
+      // the caller now holds the driver statement, so it can never be handed out again
+      isStateChanged = true;
       if (iface.isInstance(delegate)) {
          return (T) delegate;
       }
@@ -0,0 +1,113 @@
+/**
+ *
+ * Copyright (c) 2020 WeiHua Lyu [ready.work]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package work.ready.core.database.jdbc.hikari.pool;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * LRU cache of idle prepared statements of one physical connection, keyed by sql text.
+ * A statement is taken out while it is in use, so it is never shared by two callers.
+ */
+final class StatementCache
+{
+   private final int maxSize;
+   private final int sqlLimit;
+   private final LinkedHashMap<Key, PreparedStatement> statements;
+
+   StatementCache(int maxSize, int sqlLimit)
+   {
+      this.maxSize = maxSize;
+      this.sqlLimit = sqlLimit;
+      this.statements = new LinkedHashMap<>(Math.min(maxSize, 64), 0.75f, true);
+   }
+
+   boolean accepts(String sql)
+   {
+      return sqlLimit <= 0 || sql.length() <= sqlLimit;
+   }
+
+   synchronized PreparedStatement take(Key key)
+   {
+      return statements.remove(key);
+   }
+
+   boolean offer(Key key, PreparedStatement statement)
+   {
+      PreparedStatement evicted = null;
+      synchronized (this) {
+         if (statements.containsKey(key)) {
+            return false;
+         }
+         statements.put(key, statement);
+         if (statements.size() > maxSize) {
+            Iterator<PreparedStatement> eldest = statements.values().iterator();
+            evicted = eldest.next();
+            eldest.remove();
+         }
+      }
+      if (evicted != null) {
+         try {
+            evicted.close();
+         }
+         catch (SQLException e) {
+            // the connection is already broken, the pool will evict it on its own
+         }
+      }
+      return true;
+   }
+
+   // the statements die with the physical connection, they only need to be forgotten here
+   synchronized void clear()
+   {
+      statements.clear();
+   }
+
+   static final class Key
+   {
+      final String sql;
+      final int autoGeneratedKeys;
+
+      Key(String sql, int autoGeneratedKeys)
+      {
+         this.sql = sql;
+         this.autoGeneratedKeys = autoGeneratedKeys;
+      }
+
+      @Override
+      public boolean equals(Object other)
+      {
+         if (this == other) {
+            return true;
+         }
+         if (!(other instanceof Key)) {
+            return false;
+         }
+         Key key = (Key) other;
+         return autoGeneratedKeys == key.autoGeneratedKeys && sql.equals(key.sql);
+      }
+
+      @Override
+      public int hashCode()
+      {
+         return sql.hashCode() * 31 + autoGeneratedKeys;
+      }
+   }
+}
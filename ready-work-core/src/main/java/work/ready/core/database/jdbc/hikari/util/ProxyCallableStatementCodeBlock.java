@@ -32,7 +32,9 @@ class ProxyCallableStatementCodeBlock {
                 "  e = sqle;\n" +
                 "  throw checkException(e);\n" +
                 "} finally {\n" +
-                "  jdbcEventListener.onAfterCallableStatementSet(statementInformation,  $2N, null, e);\n" +
+                "  if (statementInformation.isParameterCaptured()) {\n" +
+                "    jdbcEventListener.onAfterCallableStatementSet(statementInformation,  $2N, null, e);\n" +
+                "  }\n" +
                 "}\n";
         CodeBlock.put("setNull(String, int)", code);
         CodeBlock.put("setNull(String, int, String)", code);
@@ -44,7 +46,9 @@ class ProxyCallableStatementCodeBlock {
                 "  e = sqle;\n" +
                 "  throw checkException(e);\n" +
                 "} finally {\n" +
-                "  jdbcEventListener.onAfterCallableStatementSet(statementInformation, $2N, $3N, e);\n" +
+                "  if (statementInformation.isParameterCaptured()) {\n" +
+                "    jdbcEventListener.onAfterCallableStatementSet(statementInformation, $2N, $3N, e);\n" +
+                "  }\n" +
                 "}\n";
         CodeBlock.put("setBoolean(String, boolean)", code);
         CodeBlock.put("setByte(String, byte)", code);
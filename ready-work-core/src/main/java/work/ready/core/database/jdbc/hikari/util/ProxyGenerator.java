@@ -102,6 +102,7 @@ public final class ProxyGenerator
                methodBuilder.addCode(
                        "HikariProxyConnection hikariConnection = (HikariProxyConnection)connection;\n" +
                        "var si = new $T(hikariConnection.getConnectionInformation(), sql);\n" +
+                       "si.setParameterCaptured(hikariConnection.getJdbcEventListener().needParameterValues());\n" +
                        "//si.setStatement(statement);\n", PreparedStatementInformation.class
                );
                
@@ -118,6 +119,7 @@ public final class ProxyGenerator
                methodBuilder.addCode(
                        "HikariProxyConnection hikariConnection = (HikariProxyConnection)connection;\n" +
                        "var si = new $T(hikariConnection.getConnectionInformation(), sql);\n" +
+                       "si.setParameterCaptured(hikariConnection.getJdbcEventListener().needParameterValues());\n" +
                        "//si.setStatement(statement);\n", CallableStatementInformation.class
                );
                
@@ -94,7 +94,9 @@ class ProxyPreparedStatementCodeBlock {
                 "  e = sqle;\n" +
                 "  throw checkException(e);\n" +
                 "} finally {\n" +
-                "  jdbcEventListener.onAfterPreparedStatementSet(statementInformation, $2N, null, e);\n" +
+                "  if (statementInformation.isParameterCaptured()) {\n" +
+                "    jdbcEventListener.onAfterPreparedStatementSet(statementInformation, $2N, null, e);\n" +
+                "  }\n" +
                 "}\n";
         CodeBlock.put("setNull(int, int)", code);
         CodeBlock.put("setNull(int, int, String)", code);
@@ -106,7 +108,9 @@ class ProxyPreparedStatementCodeBlock {
                 "  e = sqle;\n" +
                 "  throw checkException(e);\n" +
                 "} finally {\n" +
-                "  jdbcEventListener.onAfterPreparedStatementSet(statementInformation, $2N, $3N, e);\n" +
+                "  if (statementInformation.isParameterCaptured()) {\n" +
+                "    jdbcEventListener.onAfterPreparedStatementSet(statementInformation, $2N, $3N, e);\n" +
+                "  }\n" +
                 "}\n";
         CodeBlock.put("setBoolean(int, boolean)", code);
         CodeBlock.put("setByte(int, byte)", code);
@@ -22,6 +22,7 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import work.ready.core.database.Model;
+import work.ready.core.server.Ready;
 
 import java.io.IOException;
 import java.util.Map;
@@ -30,8 +31,12 @@ public class ModelSerializer<T> extends JsonSerializer<T> {
     @Override
     public void serialize(T model, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
         if(model != null) {
-            Map<String, Object> map = ((Model<?>)model).getData(true);
-            jsonGenerator.writeObject(map);
+            if(Ready.dbManager().getDataSecurityInspector() == null) {
+                RecordSerializer.writeCamelCase(((Model<?>)model)._getAttrsEntrySet(), jsonGenerator, serializerProvider);
+            } else {
+                Map<String, Object> map = ((Model<?>)model).getData(true);
+                jsonGenerator.writeObject(map);
+            }
         }
     }
 }
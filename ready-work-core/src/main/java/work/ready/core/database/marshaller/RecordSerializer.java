@@ -18,21 +18,109 @@
 
 package work.ready.core.database.marshaller;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import work.ready.core.database.Record;
+import work.ready.core.server.Ready;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static work.ready.core.tools.StrUtil.toCamelCase;
 
 public class RecordSerializer extends JsonSerializer<Record> {
+
+    private static final int MAX_CACHED_NAMES = 4096;
+    private static final Map<String, String> camelCaseNames = new ConcurrentHashMap<>();
+
     @Override
     public void serialize(Record record, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
         if(record != null) {
-            Map<String, Object> map = record.getData(true);
-            jsonGenerator.writeObject(map);
+            if(Ready.dbManager().getDataSecurityInspector() == null) {
+                writeCamelCase(record.getColumns().entrySet(), jsonGenerator, serializerProvider);
+            } else {
+                Map<String, Object> map = record.getData(true);
+                jsonGenerator.writeObject(map);
+            }
+        }
+    }
+
+    // writes the attributes straight into the generator instead of copying them into a camel case map first
+    static void writeCamelCase(Collection<Map.Entry<String, Object>> data, JsonGenerator jsonGenerator, SerializerProvider serializerProvider) throws IOException {
+        String[] names = new String[data.size()];
+        int i = 0;
+        boolean renamed = false;
+        for (Map.Entry<String, Object> entry : data) {
+            names[i] = camelCaseName(entry.getKey());
+            renamed |= !names[i].equals(entry.getKey());
+            i++;
+        }
+        // column names are unique, so only a renamed column can collide with another one
+        if(renamed && hasDuplicate(names)) {
+            // two columns share a camel case name, keep the map semantics: first position, last value
+            Map<String, Object> camelCaseMap = new LinkedHashMap<>();
+            i = 0;
+            for (Map.Entry<String, Object> entry : data) {
+                camelCaseMap.put(names[i++], entry.getValue());
+            }
+            data = camelCaseMap.entrySet();
+            names = camelCaseMap.keySet().toArray(new String[0]);
+        }
+        boolean skipNull = isNullSkipped(serializerProvider);
+        jsonGenerator.writeStartObject();
+        i = 0;
+        for (Map.Entry<String, Object> entry : data) {
+            String name = names[i++];
+            Object value = entry.getValue();
+            if(value == null) {
+                if(!skipNull) {
+                    jsonGenerator.writeFieldName(name);
+                    serializerProvider.defaultSerializeNull(jsonGenerator);
+                }
+            } else {
+                jsonGenerator.writeFieldName(name);
+                serializerProvider.findTypedValueSerializer(value.getClass(), true, null).serialize(value, jsonGenerator, serializerProvider);
+            }
+        }
+        jsonGenerator.writeEndObject();
+    }
+
+    private static boolean hasDuplicate(String[] names) {
+        Set<String> seen = new HashSet<>(names.length * 2);
+        for (String name : names) {
+            if(!seen.add(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // the copying path wrote a map, so the mapper's inclusion for map content applies
+    private static boolean isNullSkipped(SerializerProvider serializerProvider) {
+        JsonInclude.Value inclusion = serializerProvider.getConfig().getDefaultPropertyInclusion(Map.class);
+        return isNullSkipped(inclusion.getValueInclusion()) || isNullSkipped(inclusion.getContentInclusion());
+    }
+
+    private static boolean isNullSkipped(JsonInclude.Include include) {
+        return include != null && include != JsonInclude.Include.ALWAYS && include != JsonInclude.Include.USE_DEFAULTS && include != JsonInclude.Include.CUSTOM;
+    }
+
+    private static String camelCaseName(String name) {
+        String camelCase = camelCaseNames.get(name);
+        if(camelCase == null) {
+            camelCase = toCamelCase(name);
+            if(camelCaseNames.size() < MAX_CACHED_NAMES) {
+                camelCaseNames.put(name, camelCase);
+            }
         }
+        return camelCase;
     }
 
 }
@@ -23,7 +23,7 @@ import work.ready.core.log.LogFactory;
 import work.ready.core.module.Initializer;
 import work.ready.core.module.ShutdownHook;
 import work.ready.core.server.Ready;
-import work.ready.core.tools.ReadyThreadFactory;
+import work.ready.core.tools.VirtualThreadUtil;
 import work.ready.core.tools.define.CheckedConsumer;
 import work.ready.core.tools.define.ConcurrentMultiMap;
 
@@ -31,7 +31,6 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.*;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -85,7 +84,8 @@ public class EventManager {
 
     public EventManager async() {
         if (pool == null) {
-            pool = Executors.newSingleThreadExecutor(new ReadyThreadFactory("Event"));
+            // async events are delivered in the order they are posted
+            pool = VirtualThreadUtil.newSingleThreadExecutor("Event");
             Ready.shutdownHook.add(ShutdownHook.STAGE_9, (inMs)->pool.shutdown());
         }
         return this;
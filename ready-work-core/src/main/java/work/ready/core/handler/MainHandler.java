@@ -25,6 +25,8 @@ import io.undertow.server.handlers.form.FormParserFactory;
 import io.undertow.util.HttpString;
 import io.undertow.util.Methods;
 import org.xnio.channels.StreamSourceChannel;
+import work.ready.core.apm.ApmManager;
+import work.ready.core.apm.metrics.MetricsServerModule;
 import work.ready.core.handler.request.DefaultUploadPathProvider;
 import work.ready.core.handler.request.MultiPartParserDefinition;
 import work.ready.core.handler.request.RequestBodyReader;
@@ -38,6 +40,7 @@ import work.ready.core.tools.StrUtil;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.Executor;
 
 public class MainHandler extends BaseHandler {
     private static final Log logger = LogFactory.getLog(MainHandler.class);
@@ -45,6 +48,7 @@ public class MainHandler extends BaseHandler {
     private final FormParserFactory formParserFactory;
     private final RequestHandler handler;
     private final GracefulShutdownHandler shutdownHandler;
+    private final Executor workerExecutor;
     private final boolean isHealthCheck;
     private final String healthCheckPath;
 
@@ -52,6 +56,7 @@ public class MainHandler extends BaseHandler {
         this.context = context;
         this.handler = context.webServer.getRequestHandler();
         this.shutdownHandler = context.webServer.getShutdownHandler();
+        this.workerExecutor = context.webServer.getWorkerExecutor();
         setManager(context.handlerManager);
         manager.mainHandler = this;
         setApplicationConfig(Ready.getApplicationConfig(context.application.getName()));
@@ -84,6 +89,9 @@ public class MainHandler extends BaseHandler {
                throw new RuntimeException("DirectlySaveUploadFile has been set to True in application config, but uploadPath cannot be used, path: " + uploadPath.toString());
             }
         }
+        if(ApmManager.getConfig().isMetrics() && StrUtil.notBlank(ApmManager.getConfig().getMetricsPath())) {
+            manager.addHandler(ApmManager.getConfig().getMetricsPath(), RequestMethod.GET, new MetricsServerModule());
+        }
         builder.addParsers(new FormEncodedDataDefinition(), multiPartParser);
         builder.setDefaultCharset(Constant.DEFAULT_ENCODING);
         formParserFactory = builder.build();
@@ -91,6 +99,9 @@ public class MainHandler extends BaseHandler {
 
     @Override
     public void handleRequest(HttpServerExchange exchange) throws Exception {
+        if (workerExecutor != null) {
+            exchange.setDispatchExecutor(workerExecutor);
+        }
         if (isHealthCheck && healthCheckPath.equals(exchange.getRequestPath())) {      
             exchange.getResponseSender().send(Constant.DEFAULT_HEALTH_RESPONSE);
             exchange.endExchange(); 
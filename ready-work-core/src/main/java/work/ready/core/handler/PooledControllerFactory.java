@@ -0,0 +1,104 @@
+/**
+ *
+ * Copyright (c) 2020 WeiHua Lyu [ready.work]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package work.ready.core.handler;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// recycle() only resets the base Controller state, pooled controller subclasses must not keep fields of their own
+public class PooledControllerFactory extends ControllerFactory {
+
+	private static final int MAX_PROBES = 8;
+
+	private final int poolSize;
+	private final Map<Class<? extends Controller>, Pool> pools = new ConcurrentHashMap<>();
+
+	public PooledControllerFactory(int poolSize) {
+		if (poolSize < 1) {
+			throw new IllegalArgumentException("controller pool size must be greater than 0");
+		}
+		this.poolSize = poolSize;
+	}
+
+	public int getPoolSize() {
+		return poolSize;
+	}
+
+	@Override
+	public Controller getController(Class<? extends Controller> controllerClass) throws ReflectiveOperationException {
+		Pool pool = pools.get(controllerClass);
+		if (pool == null) {
+			pool = pools.computeIfAbsent(controllerClass, k -> new Pool(poolSize));
+		}
+		Controller ret = pool.poll();
+		return ret != null ? ret : super.getController(controllerClass);
+	}
+
+	@Override
+	public void recycle(Controller controller) {
+		if (controller != null) {
+			controller._clear_();
+			Pool pool = pools.get(controller.getClass());
+			if (pool != null) {
+				pool.offer(controller);
+			}
+		}
+	}
+
+	private static final class Pool {
+		private final AtomicReferenceArray<Controller> slots;
+		private final int mask;
+		private final int probes;
+
+		Pool(int capacity) {
+			int size = capacity <= 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+			slots = new AtomicReferenceArray<>(size);
+			mask = size - 1;
+			probes = Math.min(size, MAX_PROBES);
+		}
+
+		Controller poll() {
+			int start = start();
+			for (int i = 0; i < probes; i++) {
+				int index = (start + i) & mask;
+				Controller controller = slots.get(index);
+				if (controller != null && slots.compareAndSet(index, controller, null)) {
+					return controller;
+				}
+			}
+			return null;
+		}
+
+		boolean offer(Controller controller) {
+			int start = start();
+			for (int i = 0; i < probes; i++) {
+				int index = (start + i) & mask;
+				if (slots.get(index) == null && slots.compareAndSet(index, null, controller)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private int start() {
+			long id = Thread.currentThread().getId();
+			return (int) (id ^ (id >>> 32)) * 0x9E3779B9 >>> 16;
+		}
+	}
+}
@@ -22,6 +22,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import io.undertow.server.HttpServerExchange;
 import io.undertow.util.AttachmentKey;
 import io.undertow.util.HeaderMap;
+import io.undertow.util.SameThreadExecutor;
 import io.undertow.util.StatusCodes;
 import work.ready.core.aop.Invocation;
 import work.ready.core.event.Event;
@@ -55,7 +56,10 @@ import work.ready.core.tools.ClassUtil;
 import work.ready.core.tools.StrUtil;
 
 import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 
 public class RequestHandler extends BaseHandler {
     private static final Log logger = LogFactory.getLog(RequestHandler.class);
@@ -63,6 +67,8 @@ public class RequestHandler extends BaseHandler {
     private static final String INVALID_REQUEST_PATH = "ERROR10007";
 
     public static final AttachmentKey<CurrentUser<? extends UserIdentity>> currentUser = AttachmentKey.create(CurrentUser.class);
+    private static final AttachmentKey<HttpRequest> parsedRequest = AttachmentKey.create(HttpRequest.class);
+    private static final AttachmentKey<Action> resolvedAction = AttachmentKey.create(Action.class);
     public final RequestParser requestParser = new RequestParser();
 
     protected final ApplicationContext context;
@@ -72,6 +78,7 @@ public class RequestHandler extends BaseHandler {
     protected final RenderManager renderManager;
     protected final boolean devMode;
     protected final boolean singletonController;
+    protected final Executor workerExecutor;
 
     protected WebSocketHandler webSocketHandler;
     protected List<RequestInterceptor> interceptors;
@@ -98,8 +105,11 @@ public class RequestHandler extends BaseHandler {
             sessionConfig();
         }
         singletonController = applicationConfig.getServer().isSingletonController();
+        requestParser.setLazy(applicationConfig.getServer().isLazyRequestParsing());
+        workerExecutor = context.webServer.getWorkerExecutor();
 
-        this.controllerFactory = new ControllerFactory();
+        int controllerPoolSize = applicationConfig.getServer().getControllerPoolSize();
+        this.controllerFactory = controllerPoolSize > 0 ? new PooledControllerFactory(controllerPoolSize) : new ControllerFactory();
         this.controllerFactory.setInjectDependency(true);
         renderManager = context.renderManager;
         devMode = Ready.getBootstrapConfig().isDevMode();
@@ -108,7 +118,13 @@ public class RequestHandler extends BaseHandler {
     @Override
     public void handleRequest(HttpServerExchange exchange) {
         if (exchange.isInIoThread()) {
-            exchange.dispatch(this);
+            if (!context.routeManager.hasNonBlockingAction() || !handleInIoThread(exchange)) {
+                if (workerExecutor != null) {
+                    exchange.dispatch(workerExecutor, this);
+                } else {
+                    exchange.dispatch(this);
+                }
+            }
             return;
         }
 
@@ -119,10 +135,53 @@ public class RequestHandler extends BaseHandler {
         handle(exchange);
     }
 
-    private void handle(HttpServerExchange exchange) {
+    private boolean handleInIoThread(HttpServerExchange exchange) {
         HttpRequest request = new HttpRequest(exchange, context);
+        Action action;
         try {
             requestParser.parse(request, exchange);
+            if (webSocketHandler != null && webSocketHandler.checkWebSocket(request.getMethod(), exchange.getRequestHeaders())) {
+                exchange.putAttachment(parsedRequest, request);
+                return false;
+            }
+            action = context.routeManager.getAction(request, request.getRequestURI());
+        } catch (Throwable e) {
+            return false;
+        }
+        exchange.putAttachment(parsedRequest, request);
+        if (action == null || !action.isNonBlocking()) {
+            exchange.putAttachment(resolvedAction, action);
+            return false;
+        }
+
+        if(interceptors != null) {
+            interceptors.forEach(i->i.intercept(exchange));
+        }
+        try {
+            CurrentUser<? extends UserIdentity> user = exchange.getAttachment(currentUser);
+            if(user != null) {
+                Ready.beanManager().setCurrentUser(user);
+            }
+            handleAction(exchange, request, new HttpResponse(exchange), action, user);
+        } catch (Throwable e) {
+            if (logger.isErrorEnabled()) {
+                logger.error(e, request.toString());
+            }
+            throw new RuntimeException("Unexpected runtime exception", e);
+        }
+        return true;
+    }
+
+    private void handle(HttpServerExchange exchange) {
+        HttpRequest request = exchange.removeAttachment(parsedRequest);
+        boolean parsed = request != null;
+        if(!parsed) {
+            request = new HttpRequest(exchange, context);
+        }
+        try {
+            if(!parsed) {
+                requestParser.parse(request, exchange);
+            }
 
             CurrentUser<? extends UserIdentity> user = exchange.getAttachment(currentUser);
             if(user != null) {
@@ -143,91 +202,151 @@ public class RequestHandler extends BaseHandler {
             }
 
             HttpResponse response = new HttpResponse(exchange);
-            String target = request.getRequestURI();
-            Action action = context.routeManager.getAction(request, target);
-            if (action == null) {
-                if (logger.isWarnEnabled()) {
-                    String qs = request.getQueryString();
-                    logger.warn("404 Action Not Found: " + (qs == null ? target : target + "?" + qs));
-                }
-                renderManager.getRenderFactory().getErrorRender(new Status(INVALID_REQUEST_PATH, target)).setContext(request, response).render();
-                return;
+            Action action = parsed ? exchange.removeAttachment(resolvedAction) : context.routeManager.getAction(request, request.getRequestURI());
+            handleAction(exchange, request, response, action, user);
+        } catch (Throwable e) {
+            if (logger.isErrorEnabled()) {
+                logger.error(e, request.toString());
+            }
+            throw new RuntimeException("Unexpected runtime exception", e);
+        }
+    }
+
+    private void handleAction(HttpServerExchange exchange, HttpRequest request, HttpResponse response, Action action, CurrentUser<? extends UserIdentity> user) throws Throwable {
+        String target = request.getRequestURI();
+        if (action == null) {
+            if (logger.isWarnEnabled()) {
+                String qs = request.getQueryString();
+                logger.warn("404 Action Not Found: " + (qs == null ? target : target + "?" + qs));
+            }
+            renderManager.getRenderFactory().getErrorRender(new Status(INVALID_REQUEST_PATH, target)).setContext(request, response).render();
+            return;
+        }
+
+        Controller controller = null;
+        boolean pending = false;
+        Res i18nRes = exchange.getAttachment(I18nServerModule.i18n);
+        try {
+            if(singletonController) {
+                controller = Ready.beanManager().get(action.getControllerClass());
+            } else {
+                controller = controllerFactory.getController(action.getControllerClass());
             }
+            controller._init_(action, request, response);
+            controller.setRenderManager(renderManager);
 
-            Controller controller = null;
-            Res i18nRes = exchange.getAttachment(I18nServerModule.i18n);
-            try {
-                if(singletonController) {
-                    controller = Ready.beanManager().get(action.getControllerClass());
+            if(user != null) {
+                controller.setAttrs(user.getAttributes());
+            }
+            controller.setAttr(I18n.localeParamName, i18nRes);
+
+            Object returnValue = null;
+            if (devMode) {
+                if (ActionReporter.isReportAfterInvocation(request)) {
+                    returnValue = new Invocation(action, controller).invoke();
+                    ActionReporter.report(target, controller, action);
                 } else {
-                    controller = controllerFactory.getController(action.getControllerClass());
+                    ActionReporter.report(target, controller, action);
+                    returnValue = new Invocation(action, controller).invoke();
                 }
-                controller._init_(action, request, response);
-                controller.setRenderManager(renderManager);
+            }
+            else {
+                returnValue = new Invocation(action, controller).invoke();
+            }
 
-                if(user != null) {
-                    controller.setAttrs(user.getAttributes());
-                }
-                controller.setAttr(I18n.localeParamName, i18nRes);
-
-                Result result = null;
-                if (devMode) {
-                    if (ActionReporter.isReportAfterInvocation(request)) {
-                        result = (Result) new Invocation(action, controller).invoke();
-                        ActionReporter.report(target, controller, action);
-                    } else {
-                        ActionReporter.report(target, controller, action);
-                        result = (Result) new Invocation(action, controller).invoke();
-                    }
-                }
-                else {
-                    result = (Result) new Invocation(action, controller).invoke();
-                }
+            if(returnValue instanceof CompletionStage) {
+                final Controller asyncController = controller;
+                final CompletionStage<?> stage = (CompletionStage<?>) returnValue;
+                exchange.dispatch(SameThreadExecutor.INSTANCE, () -> stage.whenComplete((value, throwable) ->
+                        completeAsync(target, request, response, action, asyncController, i18nRes, (Result) value, throwable)));
+                pending = true;
+                return;
+            }
+            render(request, response, action, controller, i18nRes, (Result) returnValue);
+        }
+        catch (RenderException e) {
+            if (logger.isErrorEnabled()) {
+                String qs = request.getQueryString();
+                logger.error(e, qs == null ? target : target + "?" + qs);
+            }
+        }
+        catch (Exception e) {
+            handleException(target, request, response, action, i18nRes, e);
+        } finally {
+            if(!pending && !singletonController) {
+                controllerFactory.recycle(controller);
+            }
+        }
+    }
 
-                if(applicationConfig.isEnableSession()){
-                    if(sessionManager.getSessionRepository().getSessionFlushMode().equals(SessionFlushMode.ON_SAVE)){
-                        sessionManager.getSessionRepository().save(request.getSession());
-                    }
+    private void completeAsync(String target, HttpRequest request, HttpResponse response, Action action, Controller controller, Res i18nRes, Result result, Throwable throwable) {
+        try {
+            if (throwable != null) {
+                if (throwable instanceof CompletionException && throwable.getCause() != null) {
+                    throwable = throwable.getCause();
                 }
+                handleException(target, request, response, action, i18nRes, throwable instanceof Exception ? (Exception) throwable : new RuntimeException(throwable));
+            } else {
+                render(request, response, action, controller, i18nRes, result);
+            }
+        } catch (RenderException e) {
+            if (logger.isErrorEnabled()) {
+                String qs = request.getQueryString();
+                logger.error(e, qs == null ? target : target + "?" + qs);
+            }
+        } catch (Exception e) {
+            if (logger.isErrorEnabled()) {
+                logger.error(e, request.toString());
+            }
+            request.getExchange().endExchange();
+        } finally {
+            if(!singletonController) {
+                controllerFactory.recycle(controller);
+            }
+        }
+    }
 
-                Render render = controller.getRender();
-                if (render == null) {
-                    if(result.isSuccess()) {
-                        if(result.getResult() instanceof Status) {
-                            ((Status) result.getResult()).setI18n(i18nRes);
-                        }
-                    } else {
-                        if(result.getError() != null) {
-                            result.getError().setI18n(i18nRes);
+    private void render(HttpRequest request, HttpResponse response, Action action, Controller controller, Res i18nRes, Result result) {
+        if(applicationConfig.isEnableSession() && (request.session != null || !action.isNonBlocking())){
+            if(sessionManager.getSessionRepository().getSessionFlushMode().equals(SessionFlushMode.ON_SAVE)){
+                HttpServerExchange exchange = request.getExchange();
+                if(exchange.isInIoThread()) {
+                    // the session repository may be remote, its round trip must not stall the IO thread
+                    HttpSession session = request.session;
+                    Executor executor = workerExecutor != null ? workerExecutor : exchange.getConnection().getWorker();
+                    executor.execute(() -> {
+                        try {
+                            sessionManager.getSessionRepository().save(session);
+                        } catch (Exception e) {
+                            logger.error(e, "failed to save session of non-blocking action " + action.getActionKey());
                         }
-                    }
-                    if(RequestMapping.Produces.Json.equals(action.getProduces())) {
-                        render = renderManager.getRenderFactory().getJsonRender(result);
-                    } else if(RequestMapping.Produces.Xml.equals(action.getProduces())) {
-                        render = renderManager.getRenderFactory().getXmlRender(result);
-                    } else { 
-                        render = renderManager.getRenderFactory().getDefaultRender(action.getViewPath() + action.getMethodName());
-                    }
+                    });
+                } else {
+                    sessionManager.getSessionRepository().save(request.getSession());
                 }
-                render.setContext(request, response, action.getViewPath()).render();
             }
-            catch (RenderException e) {
-                if (logger.isErrorEnabled()) {
-                    String qs = request.getQueryString();
-                    logger.error(e, qs == null ? target : target + "?" + qs);
+        }
+
+        Render render = controller.getRender();
+        if (render == null) {
+            if(result.isSuccess()) {
+                if(result.getResult() instanceof Status) {
+                    ((Status) result.getResult()).setI18n(i18nRes);
+                }
+            } else {
+                if(result.getError() != null) {
+                    result.getError().setI18n(i18nRes);
                 }
             }
-            catch (Exception e) {
-                handleException(target, request, response, action, i18nRes, e);
-            } finally {
-                controllerFactory.recycle(controller);
-            }
-        } catch (Throwable e) {
-            if (logger.isErrorEnabled()) {
-                logger.error(e, request.toString());
+            if(RequestMapping.Produces.Json.equals(action.getProduces())) {
+                render = renderManager.getRenderFactory().getJsonRender(result);
+            } else if(RequestMapping.Produces.Xml.equals(action.getProduces())) {
+                render = renderManager.getRenderFactory().getXmlRender(result);
+            } else { 
+                render = renderManager.getRenderFactory().getDefaultRender(action.getViewPath() + action.getMethodName());
             }
-            throw new RuntimeException("Unexpected runtime exception", e);
         }
+        render.setContext(request, response, action.getViewPath()).render();
     }
 
     private void handleException(String target, HttpRequest request, HttpResponse response, Action action, Res i18nRes, Exception e) throws JsonProcessingException {
@@ -289,6 +408,8 @@ public class RequestHandler extends BaseHandler {
         if(this.sessionManager == null) {
             CacheSessionRepository sessionRepository = new CacheSessionRepository(Ready.cacheManager().getCache());
             sessionRepository.setDefaultMaxInactiveInterval(applicationConfig.getSessionMaxInactiveInterval());
+            sessionRepository.setTouchInterval(applicationConfig.getSessionTouchInterval());
+            sessionRepository.setDeltaPersistence(applicationConfig.isSessionDeltaPersistence());
             this.sessionManager = new CacheSessionManager(
                     Ready.beanManager().get(SessionCookieConfig.class),
                     sessionRepository);
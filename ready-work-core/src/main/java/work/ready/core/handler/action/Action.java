@@ -23,6 +23,7 @@ import work.ready.core.handler.action.paramgetter.ParamProcessorBuilder;
 import work.ready.core.handler.route.RequestMapping;
 
 import java.lang.reflect.Method;
+import java.util.concurrent.CompletionStage;
 
 public class Action {
 
@@ -33,11 +34,19 @@ public class Action {
 	private final String methodName;
 	private final Interceptor[] interceptors;
 	RequestMapping.Produces produces;
+	private final RequestMapping.Execution execution;
 	private final String viewPath;
+	private final boolean async;
+	private final boolean nonBlocking;
 
 	private final ParamProcessor parameterGetter;
+	private final ActionInvoker invoker;
 
 	public Action(String controllerKey, String actionKey, Class<? extends Controller> controllerClass, Method method, String methodName, Interceptor[] interceptors, RequestMapping.Produces produces, String viewPath) {
+		this(controllerKey, actionKey, controllerClass, method, methodName, interceptors, produces, RequestMapping.Execution.Auto, viewPath);
+	}
+
+	public Action(String controllerKey, String actionKey, Class<? extends Controller> controllerClass, Method method, String methodName, Interceptor[] interceptors, RequestMapping.Produces produces, RequestMapping.Execution execution, String viewPath) {
 		this.controllerKey = controllerKey;
 		this.actionKey = actionKey;
 		this.controllerClass = controllerClass;
@@ -45,9 +54,15 @@ public class Action {
 		this.methodName = methodName;
 		this.interceptors = interceptors;
 		this.produces = produces;
+		this.execution = execution == null ? RequestMapping.Execution.Auto : execution;
 		this.viewPath = viewPath;
+		this.async = CompletionStage.class.isAssignableFrom(method.getReturnType());
+		// template, file and captcha renders write through the blocking output stream, so they never stay on the IO thread
+		this.nonBlocking = !RequestMapping.Produces.General.equals(produces) &&
+				(RequestMapping.Execution.NonBlocking.equals(this.execution) || (RequestMapping.Execution.Auto.equals(this.execution) && async));
 
 		this.parameterGetter = ParamProcessorBuilder.getInstance().build(controllerClass, method);
+		this.invoker = ActionInvoker.of(method);
 	}
 
 	public Class<? extends Controller> getControllerClass() {
@@ -74,6 +89,18 @@ public class Action {
 		return produces;
 	}
 
+	public RequestMapping.Execution getExecution() {
+		return execution;
+	}
+
+	public boolean isAsync() {
+		return async;
+	}
+
+	public boolean isNonBlocking() {
+		return nonBlocking;
+	}
+
 	public String getViewPath() {
 		return viewPath;
 	}
@@ -85,5 +112,9 @@ public class Action {
 	public ParamProcessor getParameterGetter() {
 		return parameterGetter;
 	}
+
+	public ActionInvoker getInvoker() {
+		return invoker;
+	}
 }
 
@@ -0,0 +1,69 @@
+/**
+ *
+ * Copyright (c) 2020 WeiHua Lyu [ready.work]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package work.ready.core.handler.action;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * Invokes an action method through a method handle adapted to (Object, Object[])Object once at mapping time,
+ * so the request path does not pay for reflective access checks and argument boxing on every call.
+ */
+public final class ActionInvoker {
+
+	private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+	private final Method method;
+	private final MethodHandle handle;
+
+	private ActionInvoker(Method method, MethodHandle handle) {
+		this.method = method;
+		this.handle = handle;
+	}
+
+	public static ActionInvoker of(Method method) {
+		Module module = method.getDeclaringClass().getModule();
+		if (!ActionInvoker.class.getModule().canRead(module)) {
+			ActionInvoker.class.getModule().addReads(module);
+		}
+		try {
+			MethodHandle handle = MethodHandles.lookup().unreflect(method);
+			if (Modifier.isStatic(method.getModifiers())) {
+				handle = MethodHandles.dropArguments(handle, 0, Object.class);
+			}
+			handle = handle.asSpreader(Object[].class, method.getParameterCount()).asType(INVOKER_TYPE);
+			return new ActionInvoker(method, handle);
+		} catch (IllegalAccessException e) {
+			return new ActionInvoker(method, null);
+		}
+	}
+
+	public Object invoke(Object target, Object[] args) throws Throwable {
+		if (handle != null) {
+			return (Object) handle.invokeExact(target, args);
+		}
+		return method.invoke(target, args);
+	}
+
+	public Method getMethod() {
+		return method;
+	}
+}
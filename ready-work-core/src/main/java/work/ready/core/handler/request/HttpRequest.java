@@ -43,7 +43,7 @@ import static work.ready.core.tools.StrUtil.format;
 
 public final class HttpRequest implements Request {
 
-    final Map<String, String[]> queryParameters = new HashMap<>();
+    Map<String, String[]> queryParameters;
     final Map<String, String[]> formParameters = new HashMap<>();
     final Map<String, UploadFile> files = new HashMap<>();
     private Map<String, Object> attributes = new HashMap<>();
@@ -55,6 +55,7 @@ public final class HttpRequest implements Request {
     private final boolean enableSession;
     public HttpSession session;
 
+    RequestParser parser;
     RequestMethod method;
     String clientIP;
     String scheme;
@@ -62,6 +63,7 @@ public final class HttpRequest implements Request {
     int port;
     String requestURL;
     ContentType contentType;
+    boolean contentTypeParsed;
     byte[] body;
     Map<String, String> cookies;
 
@@ -137,6 +139,9 @@ public final class HttpRequest implements Request {
 
     @Override
     public String getClientIP() {
+        if (clientIP == null && parser != null) {
+            parser.parseClientIP(this, exchange);
+        }
         return clientIP;
     }
 
@@ -147,6 +152,9 @@ public final class HttpRequest implements Request {
 
     @Override
     public ContentType getContentType() {
+        if (!contentTypeParsed && parser != null) {
+            parser.parseContentType(this, exchange);
+        }
         return contentType;
     }
 
@@ -169,6 +177,7 @@ public final class HttpRequest implements Request {
     }
 
     public boolean isJsonRequest(){
+        ContentType contentType = getContentType();
         return contentType != null && "application/json".equals(contentType.getMediaType().toLowerCase());
     }
 
@@ -195,6 +204,9 @@ public final class HttpRequest implements Request {
 
     @Override
     public String getCookie(String name) {
+        if (cookies == null && parser != null) {
+            parser.parseCookies(this, exchange);
+        }
         return cookies == null ? null : cookies.get(name);
     }
 
@@ -326,6 +338,13 @@ public final class HttpRequest implements Request {
 
     @Override
     public Map<String, String[]> getQueryParameters() {
+        if (queryParameters == null) {
+            if (parser == null) {
+                queryParameters = new HashMap<>();
+            } else {
+                parser.parseQueryParams(this, exchange);
+            }
+        }
         return queryParameters;
     }
 
@@ -336,7 +355,7 @@ public final class HttpRequest implements Request {
 
     @Override
     public String getParameter(String name) {
-        String[] value = queryParameters.get(name);
+        String[] value = getQueryParameters().get(name);
         if(value == null) {
             value = formParameters.get(name);
         }
@@ -405,7 +424,7 @@ public final class HttpRequest implements Request {
 
     @Override
     public String[] getParameterValues(String name){
-        String[] queryParams = queryParameters.get(name) != null ? queryParameters.get(name) : new String[]{};
+        String[] queryParams = getQueryParameters().get(name) != null ? queryParameters.get(name) : new String[]{};
         String[] formParams = formParameters.get(name) != null ? formParameters.get(name) : new String[]{};
         String[] result = new String[queryParams.length + formParams.length];
         System.arraycopy(queryParams, 0, result, 0, queryParams.length);
@@ -415,7 +434,7 @@ public final class HttpRequest implements Request {
 
     @Override
     public Enumeration<String> getParameterNames(){
-        Set<String> parameterNames = new HashSet<>(queryParameters.keySet());
+        Set<String> parameterNames = new HashSet<>(getQueryParameters().keySet());
         if(RequestMethod.hasBody(method)) {
             parameterNames.addAll(formParameters.keySet());
         }
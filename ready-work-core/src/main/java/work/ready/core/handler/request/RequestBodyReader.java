@@ -22,6 +22,7 @@ package work.ready.core.handler.request;
 import io.undertow.connector.PooledByteBuffer;
 import io.undertow.server.HttpServerExchange;
 import io.undertow.util.AttachmentKey;
+import io.undertow.util.SameThreadExecutor;
 import org.xnio.ChannelListener;
 import org.xnio.IoUtils;
 import org.xnio.channels.StreamSourceChannel;
@@ -52,7 +53,7 @@ public final class RequestBodyReader implements ChannelListener<StreamSourceChan
     public void handleEvent(StreamSourceChannel channel) {
         read(channel);
         if (complete) {
-            exchange.dispatch(handler);
+            exchange.dispatch(SameThreadExecutor.INSTANCE, handler);
         }
     }
 
@@ -49,8 +49,19 @@ public final class RequestParser {
     private static final int MAX_URL_LENGTH = 1000;
     public static final ClientIPParser clientIPParser = new ClientIPParser();
 
+    private boolean lazy = false;
+
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    public void setLazy(boolean lazy) {
+        this.lazy = lazy;
+    }
+
     public void parse(HttpRequest request, HttpServerExchange exchange) throws Throwable {
         HeaderMap headers = exchange.getRequestHeaders();
+        request.parser = this;
 
         request.scheme = scheme(exchange.getRequestScheme(), headers.getFirst(Headers.X_FORWARDED_PROTO));
         request.hostName = hostName(exchange.getHostName(), headers.getFirst(Headers.X_FORWARDED_HOST));
@@ -61,25 +72,32 @@ public final class RequestParser {
 
         request.requestURL = requestURL(request, exchange);
 
-        logHeaders(headers);
-
-        parseClientIP(request, exchange, headers.getFirst(Headers.X_FORWARDED_FOR)); 
-
-        parseCookies(request, exchange);
-
-        String userAgent = headers.getFirst(Headers.USER_AGENT);
+        if (logger.isDebugEnabled()) {
+            logHeaders(headers);
+        }
 
         request.method = httpMethod(method);    
 
-        parseQueryParams(request, exchange.getQueryParameters());
+        if (!lazy) {
+            parseClientIP(request, exchange);
+            parseCookies(request, exchange);
+            parseQueryParams(request, exchange);
+            parseContentType(request, exchange);
+        }
 
         if (RequestMethod.hasBody(request.method)) {
-            String contentType = headers.getFirst(Headers.CONTENT_TYPE);
-            request.contentType = contentType == null ? null : ContentType.parse(contentType);
             parseBody(request, exchange);
         }
     }
 
+    void parseContentType(HttpRequest request, HttpServerExchange exchange) {
+        request.contentTypeParsed = true;
+        if (RequestMethod.hasBody(request.method)) {
+            String contentType = exchange.getRequestHeaders().getFirst(Headers.CONTENT_TYPE);
+            request.contentType = contentType == null ? null : ContentType.parse(contentType);
+        }
+    }
+
     String hostName(String hostName, String xForwardedHost) {
         if (StrUtil.isBlank(xForwardedHost)) return hostName;
         return xForwardedHost;
@@ -87,7 +105,9 @@ public final class RequestParser {
 
     void parseCookies(HttpRequest request, HttpServerExchange exchange) {
         HeaderValues cookieHeaders = exchange.getRequestHeaders().get(Headers.COOKIE);
-        if (cookieHeaders != null) {
+        if (cookieHeaders == null) {
+            request.cookies = Collections.emptyMap();
+        } else {
             try {
                 request.cookies = decodeCookies(exchange.requestCookies());
             } catch (IllegalArgumentException e) {
@@ -98,10 +118,10 @@ public final class RequestParser {
         }
     }
 
-    private void parseClientIP(HttpRequest request, HttpServerExchange exchange, String xForwardedFor) {
+    void parseClientIP(HttpRequest request, HttpServerExchange exchange) {
         String remoteAddress = exchange.getSourceAddress().getAddress().getHostAddress();
         logger.debug("[request] remoteAddress=%s", remoteAddress);
-        request.clientIP = clientIPParser.parse(remoteAddress, xForwardedFor);
+        request.clientIP = clientIPParser.parse(remoteAddress, exchange.getRequestHeaders().getFirst(Headers.X_FORWARDED_FOR));
     }
 
     String scheme(String requestScheme, String xForwardedProto) {       
@@ -136,24 +156,30 @@ public final class RequestParser {
         return cookieValues;
     }
 
-    void parseQueryParams(HttpRequest request, Map<String, Deque<String>> params) {
+    void parseQueryParams(HttpRequest request, HttpServerExchange exchange) {
+        Map<String, Deque<String>> params = exchange.getQueryParameters();
+        Map<String, String[]> queryParameters = new HashMap<>(Math.max(4, params.size() * 2));
         for (Map.Entry<String, Deque<String>> entry : params.entrySet()) {
             String key = entry.getKey();
-
-            ArrayList<String> valueList = new ArrayList<>(entry.getValue());
-            for(int i = 0; i < valueList.size(); i++){
-                valueList.set(i, decode(valueList.get(i), UTF_8));
-            }
+            Deque<String> values = entry.getValue();
 
             try {
+                String[] decoded = new String[values.size()];
+                int i = 0;
+                for (String value : values) {
+                    decoded[i++] = decode(value, UTF_8);
+                }
                 String paramName = decode(key, UTF_8);
                 
-                logger.debug("[request:query] %s=%s", paramName, valueList);
-                request.queryParameters.put(paramName, valueList.toArray(new String[0]));
+                if (logger.isDebugEnabled()) {
+                    logger.debug("[request:query] %s=%s", paramName, Arrays.toString(decoded));
+                }
+                queryParameters.put(paramName, decoded);
             } catch (IllegalArgumentException e) {
-                throw new BadRequestException(format("failed to parse query param, name=%s, value=%s", key, valueList), "INVALID_HTTP_REQUEST", e);
+                throw new BadRequestException(format("failed to parse query param, name=%s, value=%s", key, values), "INVALID_HTTP_REQUEST", e);
             }
         }
+        request.queryParameters = queryParameters;
     }
 
     RequestMethod httpMethod(String method) {
@@ -0,0 +1,102 @@
+/**
+ *
+ * Copyright (c) 2020 WeiHua Lyu [ready.work]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package work.ready.core.handler.response;
+
+import io.undertow.connector.ByteBufferPool;
+import io.undertow.connector.PooledByteBuffer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects written bytes in buffers borrowed from the connection's pool, so a response body can be
+ * produced without an intermediate String or byte array and then handed to the async sender as is.
+ * The buffers go back to the pool on close(), which must only happen once the sender is done with them.
+ */
+public class PooledBufferOutputStream extends OutputStream {
+
+    private final ByteBufferPool pool;
+    private final List<PooledByteBuffer> pooled = new ArrayList<>();
+    private ByteBuffer current;
+    private long size;
+    private boolean closed;
+
+    public PooledBufferOutputStream(ByteBufferPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureWritable().put((byte) b);
+        size++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            ByteBuffer buffer = ensureWritable();
+            int count = Math.min(len, buffer.remaining());
+            buffer.put(b, off, count);
+            off += count;
+            len -= count;
+            size += count;
+        }
+    }
+
+    private ByteBuffer ensureWritable() throws IOException {
+        if (closed) {
+            throw new IOException("Stream is closed");
+        }
+        if (current == null || !current.hasRemaining()) {
+            PooledByteBuffer buffer = pool.allocate();
+            pooled.add(buffer);
+            current = buffer.getBuffer();
+            current.clear();
+        }
+        return current;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    public ByteBuffer[] getBuffers() {
+        ByteBuffer[] buffers = new ByteBuffer[pooled.size()];
+        for (int i = 0; i < buffers.length; i++) {
+            ByteBuffer buffer = pooled.get(i).getBuffer().duplicate();
+            buffer.flip();
+            buffers[i] = buffer;
+        }
+        return buffers;
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            current = null;
+            for (PooledByteBuffer buffer : pooled) {
+                buffer.close();
+            }
+            pooled.clear();
+        }
+    }
+}
@@ -0,0 +1,349 @@
+/**
+ *
+ * Copyright (c) 2020 WeiHua Lyu [ready.work]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package work.ready.core.handler.route;
+
+import java.util.*;
+
+/**
+ * Immutable segment trie for url path templates like /user/{id}, /file/{name}.json or /static/*.
+ * Static segments are preferred over parameter segments, parameter segments over wildcards.
+ * Once compiled, matching is lock free and does not allocate except for the captured values.
+ */
+public final class PathTrie<T> {
+
+    public static final String WILDCARD = "*";
+
+    private final Node<T> root;
+    private final int maxParams;
+
+    private PathTrie(Node<T> root, int maxParams) {
+        this.root = root;
+        this.maxParams = maxParams;
+    }
+
+    public static <T> PathTrie<T> compile(Map<String, T> templates) {
+        MutableNode<T> root = new MutableNode<>();
+        int maxParams = 0;
+        for (Map.Entry<String, T> entry : templates.entrySet()) {
+            maxParams = Math.max(maxParams, root.add(entry.getKey(), entry.getValue()));
+        }
+        return new PathTrie<>(root.freeze(), maxParams);
+    }
+
+    // the form a template takes inside the trie, two different templates of the same shape conflict
+    public static String shape(String template) {
+        StringBuilder shape = new StringBuilder();
+        String[] segments = MutableNode.split(template);
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.endsWith(WILDCARD)) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("wildcard is only allowed at the end of path template: " + template);
+                }
+                if (segment.indexOf('{') >= 0) {
+                    throw new IllegalArgumentException("invalid path template: " + template);
+                }
+                shape.append('/').append(segment);
+                break;
+            }
+            int open = segment.indexOf('{');
+            if (open < 0) {
+                shape.append('/').append(segment);
+            } else {
+                int close = segment.indexOf('}', open);
+                if (close < 0 || segment.indexOf('{', open + 1) >= 0 || close - open < 2) {
+                    throw new IllegalArgumentException("invalid path template: " + template);
+                }
+                shape.append('/').append(segment, 0, open).append("{}").append(segment, close + 1, segment.length());
+            }
+        }
+        return shape.toString();
+    }
+
+    public Match<T> match(String path) {
+        String[] values = maxParams == 0 ? Match.EMPTY : new String[maxParams];
+        return match(root, path, 0, values, 0);
+    }
+
+    private Match<T> match(Node<T> node, String path, int start, String[] values, int captured) {
+        int length = path.length();
+        while (start < length && path.charAt(start) == '/') start++;
+        if (start >= length) {
+            if (node.value != null) {
+                return new Match<>(node.value, node.template, node.names, values, captured);
+            }
+            if (node.wildcards.length > 0 && node.wildcards[node.wildcards.length - 1].prefix.isEmpty()) {
+                Wildcard<T> wildcard = node.wildcards[node.wildcards.length - 1];
+                values[captured] = "";
+                return new Match<>(wildcard.value, wildcard.template, wildcard.names, values, captured + 1);
+            }
+            return null;
+        }
+        int end = path.indexOf('/', start);
+        if (end < 0) end = length;
+
+        Node<T> child = node.findStatic(path, start, end);
+        if (child != null) {
+            Match<T> match = match(child, path, end, values, captured);
+            if (match != null) return match;
+        }
+        for (Param<T> param : node.params) {
+            int valueStart = start + param.prefix.length();
+            int valueEnd = end - param.suffix.length();
+            if (valueEnd > valueStart
+                    && path.startsWith(param.prefix, start)
+                    && path.startsWith(param.suffix, valueEnd)) {
+                values[captured] = path.substring(valueStart, valueEnd);
+                Match<T> match = match(param.node, path, end, values, captured + 1);
+                if (match != null) return match;
+            }
+        }
+        for (Wildcard<T> wildcard : node.wildcards) {
+            if (path.startsWith(wildcard.prefix, start)) {
+                values[captured] = path.substring(start + wildcard.prefix.length());
+                return new Match<>(wildcard.value, wildcard.template, wildcard.names, values, captured + 1);
+            }
+        }
+        return null;
+    }
+
+    public static final class Match<T> {
+        private static final String[] EMPTY = new String[0];
+
+        private final T value;
+        private final String template;
+        private final String[] names;
+        private final String[] values;
+        private final int size;
+
+        Match(T value, String template, String[] names, String[] values, int size) {
+            this.value = value;
+            this.template = template;
+            this.names = names;
+            this.values = values;
+            this.size = size;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public String getTemplate() {
+            return template;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public String getName(int index) {
+            return names[index];
+        }
+
+        public String getParameter(int index) {
+            return values[index];
+        }
+    }
+
+    private static final class Node<T> {
+        private final String[] staticKeys;
+        private final Node<T>[] staticNodes;
+        private final Param<T>[] params;
+        private final Wildcard<T>[] wildcards;
+        private final T value;
+        private final String template;
+        private final String[] names;
+
+        Node(String[] staticKeys, Node<T>[] staticNodes, Param<T>[] params, Wildcard<T>[] wildcards, T value, String template, String[] names) {
+            this.staticKeys = staticKeys;
+            this.staticNodes = staticNodes;
+            this.params = params;
+            this.wildcards = wildcards;
+            this.value = value;
+            this.template = template;
+            this.names = names;
+        }
+
+        Node<T> findStatic(String path, int start, int end) {
+            int low = 0;
+            int high = staticKeys.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int cmp = compare(staticKeys[mid], path, start, end);
+                if (cmp < 0) {
+                    low = mid + 1;
+                } else if (cmp > 0) {
+                    high = mid - 1;
+                } else {
+                    return staticNodes[mid];
+                }
+            }
+            return null;
+        }
+
+        private static int compare(String key, String path, int start, int end) {
+            int keyLength = key.length();
+            int segmentLength = end - start;
+            int min = Math.min(keyLength, segmentLength);
+            for (int i = 0; i < min; i++) {
+                char a = key.charAt(i);
+                char b = path.charAt(start + i);
+                if (a != b) return a - b;
+            }
+            return keyLength - segmentLength;
+        }
+    }
+
+    private static final class Param<T> {
+        private final String prefix;
+        private final String suffix;
+        private final Node<T> node;
+
+        Param(String prefix, String suffix, Node<T> node) {
+            this.prefix = prefix;
+            this.suffix = suffix;
+            this.node = node;
+        }
+    }
+
+    private static final class Wildcard<T> {
+        private final String prefix;
+        private final T value;
+        private final String template;
+        private final String[] names;
+
+        Wildcard(String prefix, T value, String template, String[] names) {
+            this.prefix = prefix;
+            this.value = value;
+            this.template = template;
+            this.names = names;
+        }
+    }
+
+    private static final class MutableNode<T> {
+        private final TreeMap<String, MutableNode<T>> statics = new TreeMap<>();
+        private final Map<String, MutableParam<T>> params = new LinkedHashMap<>();
+        private final Map<String, MutableWildcard<T>> wildcards = new LinkedHashMap<>();
+        private T value;
+        private String template;
+        private String[] names;
+
+        int add(String template, T value) {
+            List<String> names = new ArrayList<>();
+            MutableNode<T> node = this;
+            String[] segments = split(template);
+            for (int i = 0; i < segments.length; i++) {
+                String segment = segments[i];
+                if (segment.endsWith(WILDCARD)) {
+                    if (i != segments.length - 1) {
+                        throw new IllegalArgumentException("wildcard is only allowed at the end of path template: " + template);
+                    }
+                    String prefix = segment.substring(0, segment.length() - 1);
+                    if (prefix.indexOf('{') >= 0) {
+                        throw new IllegalArgumentException("invalid path template: " + template);
+                    }
+                    names.add(WILDCARD);
+                    MutableWildcard<T> previous = node.wildcards.put(prefix, new MutableWildcard<>(prefix, value, template, names.toArray(new String[0])));
+                    checkConflict(previous == null ? null : previous.template, template);
+                    return names.size();
+                }
+                int open = segment.indexOf('{');
+                if (open < 0) {
+                    node = node.statics.computeIfAbsent(segment, k -> new MutableNode<>());
+                } else {
+                    int close = segment.indexOf('}', open);
+                    if (close < 0 || segment.indexOf('{', open + 1) >= 0 || close - open < 2) {
+                        throw new IllegalArgumentException("invalid path template: " + template);
+                    }
+                    String prefix = segment.substring(0, open);
+                    String suffix = segment.substring(close + 1);
+                    names.add(segment.substring(open + 1, close));
+                    node = node.params.computeIfAbsent(prefix + "{}" + suffix, k -> new MutableParam<>(prefix, suffix)).node;
+                }
+            }
+            checkConflict(node.template, template);
+            node.value = value;
+            node.template = template;
+            node.names = names.toArray(new String[0]);
+            return names.size();
+        }
+
+        private static void checkConflict(String existing, String template) {
+            if (existing != null && !existing.equals(template)) {
+                throw new IllegalArgumentException("path template " + template + " conflicts with an equivalent template " + existing);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        Node<T> freeze() {
+            String[] staticKeys = statics.keySet().toArray(new String[0]);
+            Node<T>[] staticNodes = new Node[staticKeys.length];
+            for (int i = 0; i < staticKeys.length; i++) {
+                staticNodes[i] = statics.get(staticKeys[i]).freeze();
+            }
+            List<MutableParam<T>> paramList = new ArrayList<>(params.values());
+            paramList.sort((a, b) -> (b.prefix.length() + b.suffix.length()) - (a.prefix.length() + a.suffix.length()));
+            Param<T>[] paramArray = new Param[paramList.size()];
+            for (int i = 0; i < paramArray.length; i++) {
+                MutableParam<T> param = paramList.get(i);
+                paramArray[i] = new Param<>(param.prefix, param.suffix, param.node.freeze());
+            }
+            List<MutableWildcard<T>> wildcardList = new ArrayList<>(wildcards.values());
+            wildcardList.sort((a, b) -> b.prefix.length() - a.prefix.length());
+            Wildcard<T>[] wildcardArray = new Wildcard[wildcardList.size()];
+            for (int i = 0; i < wildcardArray.length; i++) {
+                MutableWildcard<T> wildcard = wildcardList.get(i);
+                wildcardArray[i] = new Wildcard<>(wildcard.prefix, wildcard.value, wildcard.template, wildcard.names);
+            }
+            return new Node<>(staticKeys, staticNodes, paramArray, wildcardArray, value, template, names);
+        }
+
+        private static String[] split(String template) {
+            List<String> segments = new ArrayList<>();
+            for (String segment : template.split("/")) {
+                if (!segment.isEmpty()) segments.add(segment);
+            }
+            return segments.toArray(new String[0]);
+        }
+    }
+
+    private static final class MutableParam<T> {
+        private final String prefix;
+        private final String suffix;
+        private final MutableNode<T> node = new MutableNode<>();
+
+        MutableParam(String prefix, String suffix) {
+            this.prefix = prefix;
+            this.suffix = suffix;
+        }
+    }
+
+    private static final class MutableWildcard<T> {
+        private final String prefix;
+        private final T value;
+        private final String template;
+        private final String[] names;
+
+        MutableWildcard(String prefix, T value, String template, String[] names) {
+            this.prefix = prefix;
+            this.value = value;
+            this.template = template;
+            this.names = names;
+        }
+    }
+}
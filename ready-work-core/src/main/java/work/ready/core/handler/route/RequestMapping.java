@@ -45,7 +45,18 @@ public @interface RequestMapping {
 
     String viewPath() default ""; 
 
+    Execution execution() default Execution.Auto;
+
     public enum Produces {
         Json, Xml, General
     }
+
+    /**
+     * Blocking actions are always dispatched to the worker pool.
+     * NonBlocking actions run directly on the IO thread and must not do any blocking IO, the session is not preloaded for them,
+     * Auto treats actions returning CompletionStage&lt;Result&gt; as NonBlocking and everything else as Blocking.
+     */
+    public enum Execution {
+        Auto, Blocking, NonBlocking
+    }
 }
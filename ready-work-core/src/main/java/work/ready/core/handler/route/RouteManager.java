@@ -19,9 +19,10 @@
 
 package work.ready.core.handler.route;
 
-import io.undertow.util.PathTemplateMatcher;
 import work.ready.core.aop.Interceptor;
 import work.ready.core.aop.InterceptorManager;
+import work.ready.core.apm.ApmManager;
+import work.ready.core.apm.metrics.MetricsRegistry;
 import work.ready.core.config.ConfigInjector;
 import work.ready.core.event.Event;
 import work.ready.core.event.GeneralEvent;
@@ -37,13 +38,11 @@ import work.ready.core.server.Ready;
 import work.ready.core.service.result.Result;
 import work.ready.core.tools.ClassUtil;
 import work.ready.core.tools.StrUtil;
-import work.ready.core.tools.define.SyncWriteMap;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.*;
-
-import static io.undertow.util.PathTemplateMatch.ATTACHMENT_KEY;
+import java.util.concurrent.CompletionStage;
 
 public class RouteManager {
     private static final Log logger = LogFactory.getLog(RouteManager.class);
@@ -52,7 +51,12 @@ public class RouteManager {
     protected List<Initializer<RouteManager>> initializers = new ArrayList<>();
     protected RouteConfig routes = new RouteConfig();;
     protected RouteConfig routeConfig;
-    protected Map<String, Map<String, Map<RequestMethod, PathTemplateMatcher<Action>>>> matcherMap = new SyncWriteMap<>(2048,0.5F);
+    protected final Map<String, Map<String, Map<RequestMethod, Map<String, Action>>>> routeMap = new HashMap<>();
+    private volatile RouteTable routeTable = RouteTable.EMPTY;
+    // host, subHost, method and template shape to the template holding it, so conflicts are caught before routeMap changes
+    private final Map<String, String> templateShapes = new HashMap<>();
+    private boolean deferPublish = false;
+    protected volatile boolean hasNonBlockingAction = false;
 
     public RouteManager(ApplicationContext context) {
         this.context = context;
@@ -75,6 +79,10 @@ public class RouteManager {
     }
 
     public void startInit() {
+        // routes registered during startup are compiled into the route table once, at endInit
+        synchronized (this) {
+            deferPublish = true;
+        }
         try {
             for (Initializer<RouteManager> i : initializers) {
                 i.startInit(this);
@@ -91,6 +99,11 @@ public class RouteManager {
             }
         } catch (Exception e) {
             throw new RuntimeException(e);
+        } finally {
+            synchronized (this) {
+                deferPublish = false;
+                publish();
+            }
         }
     }
 
@@ -111,19 +124,21 @@ public class RouteManager {
     }
 
     public synchronized RouteManager remove(String urlPath, RequestMethod method, String Host, String subHost){
-        for (String thisHost : matcherMap.keySet()) {
+        for (String thisHost : routeMap.keySet()) {
             if(StrUtil.notBlank(Host) && !thisHost.equals(Host)) continue;
-            var subHostMap = matcherMap.get(thisHost);
+            var subHostMap = routeMap.get(thisHost);
             for (String thisSubHost : subHostMap.keySet()) {
                 if(StrUtil.notBlank(subHost) && !thisSubHost.equals(subHost)) continue;
                 var methodMap = subHostMap.get(thisSubHost);
                 for (RequestMethod thisMethod : methodMap.keySet()) {
                     if(method != null && !thisMethod.equals(method)) continue;
-                    PathTemplateMatcher<Action> pathTemplateMatcher = methodMap.get(thisMethod);
-                    pathTemplateMatcher.remove(urlPath);
+                    if(methodMap.get(thisMethod).remove(urlPath) != null) {
+                        templateShapes.remove(templateShapeKey(thisHost, thisSubHost, thisMethod, urlPath));
+                    }
                 }
             }
         }
+        publish();
         return this;
     }
 
@@ -176,8 +191,8 @@ public class RouteManager {
                     if (dc == Controller.class || dc == Object.class)
                         continue;
                 }
-                if(!void.class.equals(method.getReturnType()) && !Result.class.equals(method.getReturnType())){
-                    throw new RuntimeException("Return type of methods for controller can only be void or Result type: " + method.getReturnType().getCanonicalName() + " " + ClassUtil.getMethodSignature(method));
+                if(!void.class.equals(method.getReturnType()) && !Result.class.equals(method.getReturnType()) && !CompletionStage.class.isAssignableFrom(method.getReturnType())){
+                    throw new RuntimeException("Return type of methods for controller can only be void, Result or CompletionStage<Result> type: " + method.getReturnType().getCanonicalName() + " " + ClassUtil.getMethodSignature(method));
                 }
 
                 if(route.getControllerKey() == null && StrUtil.notBlank(route.getUrlPath())){
@@ -188,6 +203,26 @@ public class RouteManager {
                 }
             }
         }
+        publish();
+    }
+
+    private void publish() {
+        if (!deferPublish) {
+            routeTable = RouteTable.compile(routeMap);
+        }
+    }
+
+    private static String templateShapeKey(String host, String subHost, RequestMethod method, String actionKey) {
+        return host + ' ' + subHost + ' ' + method + ' ' + PathTrie.shape(actionKey);
+    }
+
+    private void claimTemplate(String host, String subHost, RequestMethod method, String actionKey) {
+        String key = templateShapeKey(host, subHost, method, actionKey);
+        String existing = templateShapes.get(key);
+        if (existing != null && !existing.equals(actionKey)) {
+            throw new IllegalArgumentException("path template " + actionKey + " conflicts with an equivalent template " + existing);
+        }
+        templateShapes.put(key, actionKey);
     }
 
     private void mappingWithoutAnnotation(Class<? extends Controller> controllerClass, Method method, RouteConfig routes, RouteConfig.Route route){
@@ -219,14 +254,14 @@ public class RouteManager {
 
         for (String host : hostList) {
             host = host.trim().toLowerCase(); verifyHost(host);
-            Map<String, Map<RequestMethod, PathTemplateMatcher<Action>>> subHostMap = matcherMap.containsKey(host) ? matcherMap.get(host) : new HashMap<>();
+            Map<String, Map<RequestMethod, Map<String, Action>>> subHostMap = routeMap.containsKey(host) ? routeMap.get(host) : new HashMap<>();
             for (String subHost : subHostList) {
                 subHost = subHost.trim().toLowerCase(); verifySubHost(subHost);
-                Map<RequestMethod, PathTemplateMatcher<Action>> methodMap = subHostMap.containsKey(subHost) ? subHostMap.get(subHost) : new HashMap<>();
+                Map<RequestMethod, Map<String, Action>> methodMap = subHostMap.containsKey(subHost) ? subHostMap.get(subHost) : new EnumMap<>(RequestMethod.class);
                 for (RequestMethod requestMethod : requestMethods) {
-                    PathTemplateMatcher<Action> pathTemplateMatcher = methodMap.containsKey(requestMethod)
+                    Map<String, Action> actionMap = methodMap.containsKey(requestMethod)
                             ? methodMap.get(requestMethod)
-                            : new PathTemplateMatcher<>();
+                            : new LinkedHashMap<>();
 
                     String actionKey;
                     if(StrUtil.notBlank(route.getControllerMethod())){
@@ -242,23 +277,25 @@ public class RouteManager {
                     checkReservedPath(actionKey);
                     Action action = new Action(controllerKey, actionKey, controllerClass, method, methodName, actionInterceptors, produces, viewPath);
 
-                    Action mapped = pathTemplateMatcher.get(actionKey);
+                    claimTemplate(host, subHost, requestMethod, actionKey);
+                    Action mapped = actionMap.get(actionKey);
                     if (mapped != null) {
-                        pathTemplateMatcher.remove(actionKey);
+                        actionMap.remove(actionKey);
                         if(logger.isWarnEnabled())
                             logger.warn("The url path %s is already mapped to %s.%s by annotation, this is going to override it, mapping to %s.%s",
                                     actionKey, mapped.getControllerClass().getName(), mapped.getMethodName(),
                                                 controllerClass.getName(), method.getName());
                     }
-                    pathTemplateMatcher.add(actionKey, action);
+                    actionMap.put(actionKey, action);
+                    if(action.isNonBlocking()) hasNonBlockingAction = true;
 
-                    methodMap.put(requestMethod, pathTemplateMatcher);
+                    methodMap.put(requestMethod, actionMap);
                     if(logger.isInfoEnabled())
                         logger.info("The url path %s%s:%s is mapped to %s.%s", !host.equals("*") ? subHost + "." + host + ":" : "", requestMethod, actionKey, controllerClass.getName(), method.getName());
                 }
                 subHostMap.put(subHost, methodMap);
             }
-            matcherMap.put(host, subHostMap);
+            routeMap.put(host, subHostMap);
         }
     }
 
@@ -291,6 +328,7 @@ public class RouteManager {
         RequestMethod[] requestMethods = requestMapping.method();
         String[] actionKeys = ConfigInjector.getStringValue(requestMapping.value());
         RequestMapping.Produces produces = requestMapping.produces();
+        RequestMapping.Execution execution = requestMapping.execution();
 
         String baseViewPath = StrUtil.notBlank(routes.getBaseViewPath()) ? routes.getBaseViewPath() : this.routeConfig.getBaseViewPath();
         String viewPath = ConfigInjector.getStringValue(requestMapping.viewPath());
@@ -299,14 +337,14 @@ public class RouteManager {
 
         for (String host : hostList) {
             host = host.trim().toLowerCase(); verifyHost(host);
-            Map<String, Map<RequestMethod, PathTemplateMatcher<Action>>> subHostMap = matcherMap.containsKey(host) ? matcherMap.get(host) : new HashMap<>();
+            Map<String, Map<RequestMethod, Map<String, Action>>> subHostMap = routeMap.containsKey(host) ? routeMap.get(host) : new HashMap<>();
             for (String subHost : subHostList) {
                 subHost = subHost.trim().toLowerCase(); verifySubHost(subHost);
-                Map<RequestMethod, PathTemplateMatcher<Action>> methodMap = subHostMap.containsKey(subHost) ? subHostMap.get(subHost) : new HashMap<>();
+                Map<RequestMethod, Map<String, Action>> methodMap = subHostMap.containsKey(subHost) ? subHostMap.get(subHost) : new EnumMap<>(RequestMethod.class);
                 for (RequestMethod requestMethod : requestMethods) {
-                    PathTemplateMatcher<Action> pathTemplateMatcher = methodMap.containsKey(requestMethod)
+                    Map<String, Action> actionMap = methodMap.containsKey(requestMethod)
                             ? methodMap.get(requestMethod)
-                            : new PathTemplateMatcher<>();
+                            : new LinkedHashMap<>();
 
                     if (actionKeys.length > 0) {
                         for (String actionKey : actionKeys) {
@@ -321,9 +359,11 @@ public class RouteManager {
                             actionKey = actionKey.replaceAll(SLASH + "+", SLASH);
                             checkReservedPath(actionKey);
 
-                            Action action = new Action(controllerKey, actionKey, controllerClass, method, methodName, actionInterceptors, produces, viewPath);
-                            if (pathTemplateMatcher.get(actionKey) == null) {
-                                pathTemplateMatcher.add(actionKey, action);
+                            Action action = new Action(controllerKey, actionKey, controllerClass, method, methodName, actionInterceptors, produces, execution, viewPath);
+                            if (actionMap.get(actionKey) == null) {
+                                claimTemplate(host, subHost, requestMethod, actionKey);
+                                actionMap.put(actionKey, action);
+                                if(action.isNonBlocking()) hasNonBlockingAction = true;
                                 if(logger.isInfoEnabled())
                                     logger.info("The url path %s%s:%s is mapped to %s.%s", !host.equals("*") ? subHost + "." + host + ":" : "", requestMethod, actionKey, controllerClass.getName(), method.getName());
                             } else {
@@ -340,20 +380,22 @@ public class RouteManager {
                         actionKey = actionKey.replaceAll(SLASH + "+", SLASH);
                         checkReservedPath(actionKey);
 
-                        Action action = new Action(controllerKey, actionKey, controllerClass, method, methodName, actionInterceptors, produces, viewPath);
-                        if (pathTemplateMatcher.get(actionKey) == null) {
-                            pathTemplateMatcher.add(actionKey, action);
+                        Action action = new Action(controllerKey, actionKey, controllerClass, method, methodName, actionInterceptors, produces, execution, viewPath);
+                        if (actionMap.get(actionKey) == null) {
+                            claimTemplate(host, subHost, requestMethod, actionKey);
+                            actionMap.put(actionKey, action);
+                            if(action.isNonBlocking()) hasNonBlockingAction = true;
                             if(logger.isInfoEnabled())
                                 logger.info("The url path %s%s:%s is mapped to %s.%s", !host.equals("*") ? subHost + "." + host + ":" : "", requestMethod, actionKey, controllerClass.getName(), method.getName());
                         } else {
                             throw new RuntimeException(buildMsg(actionKey, controllerClass, method));
                         }
                     }
-                    methodMap.put(requestMethod, pathTemplateMatcher);
+                    methodMap.put(requestMethod, actionMap);
                 }
                 subHostMap.put(subHost, methodMap);
             }
-            matcherMap.put(host, subHostMap);
+            routeMap.put(host, subHostMap);
         }
 
     }
@@ -383,58 +425,19 @@ public class RouteManager {
         return ret;
     }
 
+    public boolean hasNonBlockingAction() {
+        return hasNonBlockingAction;
+    }
+
     public Action getAction(HttpRequest request, String requestPath) {
-        Action action = null;
-        String hostName = request.getHostName().toLowerCase();
-
-        for (String host : matcherMap.keySet()) {
-            if (host.equals("*") || hostName.endsWith(host)) {
-                var subHostMap = matcherMap.get(host);
-                for (String subHost : subHostMap.keySet()) {
-                    boolean matched = false;
-                    if (!host.equals("*") && !subHost.equals("*") && !hostName.equals(host)) {
-                        String subDomain = hostName.substring(0, hostName.length() - host.length());
-                        if (subDomain.length() > 0 && subDomain.endsWith(".")) {
-                            subDomain = subDomain.substring(0, subDomain.length() - 1); 
-                            if (subHost.contains("*")) {
-                                if (subHost.startsWith("*")) {
-                                    String forCheck = subHost.substring(1);
-                                    if (subDomain.endsWith(forCheck)) matched = true;
-                                } else if (subHost.endsWith("*")) {
-                                    String forCheck = subHost.substring(0, subHost.length() - 1);
-                                    if (subDomain.startsWith(forCheck)) matched = true;
-                                } else if (subHost.startsWith("*") && subHost.endsWith("*")) {
-                                    String forCheck = subHost.substring(1, subHost.length() - 2);
-                                    if (subDomain.contains(forCheck)) matched = true;
-                                }
-                            } else {
-                                if (subDomain.equals(subHost)) matched = true;
-                            }
-                        }
-                    } else {
-                        matched = true;
-                    }
-                    if (matched) {
-                        var methodMap = subHostMap.get(subHost);
-                        PathTemplateMatcher<Action> pathTemplateMatcher = methodMap.get(request.getMethod());
-                        if (pathTemplateMatcher != null) {
-                            PathTemplateMatcher.PathMatchResult<Action> result = pathTemplateMatcher
-                                    .match(requestPath);
-                            if (result != null) {
-                                request.getExchange().putAttachment(ATTACHMENT_KEY,
-                                        new io.undertow.util.PathTemplateMatch(result.getMatchedTemplate(), result.getParameters()));
-                                for (Map.Entry<String, String> entry : result.getParameters().entrySet()) {
-                                    request.getExchange().addPathParam(entry.getKey(), entry.getValue());
-                                }
-                                action = result.getValue();
-                                return action;
-                            }
-                        }
-                    }
-                }
-            }
+        PathTrie.Match<Action> match = routeTable.match(request.getHostName().toLowerCase(), request.getMethod(), requestPath);
+        if (match == null) {
+            return null;
+        }
+        for (int i = 0; i < match.size(); i++) {
+            request.getExchange().addPathParam(match.getName(i), match.getParameter(i));
         }
-        return action;
+        return match.getValue();
     }
 
     protected String buildMsg(String actionKey, Class<? extends Controller> controllerClass, Method method) {
@@ -452,7 +455,7 @@ public class RouteManager {
         
         var reserved = List.of(context.application.applicationConfig().getServer().getHealthCheckPath()); 
         
-        if(reserved.contains(path)) {
+        if(reserved.contains(path) || MetricsRegistry.isEnabled() && ApmManager.getConfig().getMetricsPath().equals(path)) {
             throw new Error(path + " is a reserved path");
         }
     }
@@ -0,0 +1,158 @@
+/**
+ *
+ * Copyright (c) 2020 WeiHua Lyu [ready.work]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package work.ready.core.handler.route;
+
+import work.ready.core.handler.RequestMethod;
+import work.ready.core.handler.action.Action;
+
+import java.util.*;
+
+final class RouteTable {
+
+    static final RouteTable EMPTY = new RouteTable(Collections.emptyMap(), null);
+
+    private final Map<String, HostRoutes> hosts;
+    private final HostRoutes anyHost;
+
+    private RouteTable(Map<String, HostRoutes> hosts, HostRoutes anyHost) {
+        this.hosts = hosts;
+        this.anyHost = anyHost;
+    }
+
+    static RouteTable compile(Map<String, Map<String, Map<RequestMethod, Map<String, Action>>>> routeMap) {
+        Map<String, HostRoutes> hosts = new HashMap<>();
+        HostRoutes anyHost = null;
+        for (Map.Entry<String, Map<String, Map<RequestMethod, Map<String, Action>>>> entry : routeMap.entrySet()) {
+            HostRoutes hostRoutes = new HostRoutes(entry.getValue());
+            if (PathTrie.WILDCARD.equals(entry.getKey())) {
+                anyHost = hostRoutes;
+            } else {
+                hosts.put(entry.getKey(), hostRoutes);
+            }
+        }
+        return new RouteTable(hosts, anyHost);
+    }
+
+    PathTrie.Match<Action> match(String hostName, RequestMethod method, String path) {
+        if (!hosts.isEmpty()) {
+            String candidate = hostName;
+            int index = 0;
+            while (true) {
+                HostRoutes hostRoutes = hosts.get(candidate);
+                if (hostRoutes != null) {
+                    PathTrie.Match<Action> match = index == 0
+                            ? hostRoutes.matchAll(method, path)
+                            : hostRoutes.match(hostName.substring(0, index - 1), method, path);
+                    if (match != null) return match;
+                }
+                int dot = hostName.indexOf('.', index);
+                if (dot < 0) break;
+                index = dot + 1;
+                candidate = hostName.substring(index);
+            }
+        }
+        return anyHost == null ? null : anyHost.matchAll(method, path);
+    }
+
+    private static final class HostRoutes {
+        private final MethodRoutes anySubHost;
+        private final Map<String, MethodRoutes> subHosts = new HashMap<>();
+        private final List<SubHostPattern> patterns = new ArrayList<>();
+        private final List<MethodRoutes> all = new ArrayList<>();
+
+        HostRoutes(Map<String, Map<RequestMethod, Map<String, Action>>> subHostMap) {
+            MethodRoutes any = null;
+            for (Map.Entry<String, Map<RequestMethod, Map<String, Action>>> entry : subHostMap.entrySet()) {
+                String subHost = entry.getKey();
+                MethodRoutes routes = new MethodRoutes(entry.getValue());
+                if (PathTrie.WILDCARD.equals(subHost)) {
+                    any = routes;
+                } else if (subHost.contains(PathTrie.WILDCARD)) {
+                    patterns.add(new SubHostPattern(subHost, routes));
+                } else {
+                    subHosts.put(subHost, routes);
+                }
+            }
+            anySubHost = any;
+            if (any != null) all.add(any);
+            all.addAll(subHosts.values());
+            patterns.forEach(pattern -> all.add(pattern.routes));
+        }
+
+        PathTrie.Match<Action> matchAll(RequestMethod method, String path) {
+            for (MethodRoutes routes : all) {
+                PathTrie.Match<Action> match = routes.match(method, path);
+                if (match != null) return match;
+            }
+            return null;
+        }
+
+        PathTrie.Match<Action> match(String subDomain, RequestMethod method, String path) {
+            MethodRoutes routes = subHosts.get(subDomain);
+            if (routes != null) {
+                PathTrie.Match<Action> match = routes.match(method, path);
+                if (match != null) return match;
+            }
+            for (SubHostPattern pattern : patterns) {
+                if (pattern.matches(subDomain)) {
+                    PathTrie.Match<Action> match = pattern.routes.match(method, path);
+                    if (match != null) return match;
+                }
+            }
+            return anySubHost == null ? null : anySubHost.match(method, path);
+        }
+    }
+
+    private static final class SubHostPattern {
+        private final boolean leading;
+        private final boolean trailing;
+        private final String text;
+        private final MethodRoutes routes;
+
+        SubHostPattern(String subHost, MethodRoutes routes) {
+            this.leading = subHost.startsWith(PathTrie.WILDCARD);
+            this.trailing = subHost.endsWith(PathTrie.WILDCARD);
+            this.text = subHost.substring(leading ? 1 : 0, trailing ? subHost.length() - 1 : subHost.length());
+            this.routes = routes;
+        }
+
+        boolean matches(String subDomain) {
+            if (leading && trailing) return subDomain.contains(text);
+            if (leading) return subDomain.endsWith(text);
+            if (trailing) return subDomain.startsWith(text);
+            return subDomain.equals(text);
+        }
+    }
+
+    private static final class MethodRoutes {
+        private final EnumMap<RequestMethod, PathTrie<Action>> tries = new EnumMap<>(RequestMethod.class);
+
+        MethodRoutes(Map<RequestMethod, Map<String, Action>> methodMap) {
+            for (Map.Entry<RequestMethod, Map<String, Action>> entry : methodMap.entrySet()) {
+                if (!entry.getValue().isEmpty()) {
+                    tries.put(entry.getKey(), PathTrie.compile(entry.getValue()));
+                }
+            }
+        }
+
+        PathTrie.Match<Action> match(RequestMethod method, String path) {
+            PathTrie<Action> trie = tries.get(method);
+            return trie == null ? null : trie.match(path);
+        }
+    }
+}
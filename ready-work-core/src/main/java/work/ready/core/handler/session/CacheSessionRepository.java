@@ -19,19 +19,32 @@
 package work.ready.core.handler.session;
 
 import work.ready.core.component.cache.Cache;
+import work.ready.core.component.cache.near.NearCache;
+import work.ready.core.component.cache.redis.RedisCache;
+import work.ready.core.component.redis.Redis;
+import work.ready.core.log.Log;
+import work.ready.core.log.LogFactory;
 
-import java.util.List;
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
 
 public class CacheSessionRepository implements SessionRepository<CacheSessionRepository.CacheSession> {
+    private static final Log logger = LogFactory.getLog(CacheSessionRepository.class);
+
+    private static final String ATTRIBUTE_PREFIX = "attr:";
+    private static final String CREATION_TIME = "meta:creationTime";
+    private static final String LAST_ACCESSED_TIME = "meta:lastAccessedTime";
+    private static final String MAX_INACTIVE_INTERVAL = "meta:maxInactiveInterval";
 
     private SessionFlushMode sessionFlushMode = SessionFlushMode.IMMEDIATE;
 
     private int defaultMaxInactiveInterval;
 
+    private long touchInterval;
+
     private Cache cache;
 
+    private Redis redis;
+
     public CacheSessionRepository(Cache cache) {
         this.cache = cache;
     }
@@ -40,6 +53,23 @@ public class CacheSessionRepository implements SessionRepository<CacheSessionRep
         this.defaultMaxInactiveInterval = defaultMaxInactiveInterval;
     }
 
+    public void setTouchInterval(int seconds) {
+        this.touchInterval = seconds * 1000L;
+    }
+
+    // sessions are kept as redis hashes, so only changed attributes are written back
+    public void setDeltaPersistence(boolean deltaPersistence) {
+        Cache backing = cache instanceof NearCache ? ((NearCache) cache).getRemote() : cache;
+        if (deltaPersistence && backing instanceof RedisCache) {
+            this.redis = ((RedisCache) backing).getRedis();
+        } else {
+            if (deltaPersistence) {
+                logger.warn("Session delta persistence requires a redis cache, %s stores whole sessions.", backing.getClass().getSimpleName());
+            }
+            this.redis = null;
+        }
+    }
+
     @Override
     public void setSessionFlushMode(SessionFlushMode sessionFlushMode) {
         this.sessionFlushMode = sessionFlushMode;
@@ -59,6 +89,10 @@ public class CacheSessionRepository implements SessionRepository<CacheSessionRep
 
     @Override
     public void save(CacheSession session) {
+        if (redis != null) {
+            saveDelta(session);
+            return;
+        }
         if (!session.getId().equals(session.originalId)) {
             this.cache.remove(CacheSessionManager.DEPLOY_NAME, session.originalId);
             session.originalId = session.getId();
@@ -70,9 +104,79 @@ public class CacheSessionRepository implements SessionRepository<CacheSessionRep
         }
     }
 
+    private void saveDelta(CacheSession session) {
+        if (!session.getId().equals(session.originalId)) {
+            redis.del(hashKey(session.originalId));
+            session.originalId = session.getId();
+            session.persisted = false;
+        }
+        if (!session.isChanged()) {
+            return;
+        }
+        MapSession delegate = session.getDelegate();
+        Map<Object, Object> fields = new HashMap<>();
+        List<Object> removed = new ArrayList<>();
+        if (!session.persisted) {
+            fields.put(CREATION_TIME, delegate.getCreationTime());
+            fields.put(LAST_ACCESSED_TIME, delegate.getLastAccessedTime());
+            fields.put(MAX_INACTIVE_INTERVAL, delegate.getMaxInactiveInterval());
+            for (String name : delegate.getAttributeNames()) {
+                fields.put(ATTRIBUTE_PREFIX + name, delegate.getAttribute(name));
+            }
+        } else {
+            if (session.touched) {
+                fields.put(LAST_ACCESSED_TIME, delegate.getLastAccessedTime());
+            }
+            if (session.intervalChanged) {
+                fields.put(MAX_INACTIVE_INTERVAL, delegate.getMaxInactiveInterval());
+            }
+            for (String name : session.changedAttributes) {
+                Object value = delegate.getAttribute(name);
+                if (value == null) {
+                    removed.add(ATTRIBUTE_PREFIX + name);
+                } else {
+                    fields.put(ATTRIBUTE_PREFIX + name, value);
+                }
+            }
+        }
+        redis.hupdate(hashKey(session.getId()), fields, removed.toArray(), delegate.getMaxInactiveInterval());
+        session.persisted = true;
+        session.markUnchanged();
+    }
+
+    private MapSession loadDelta(String id) {
+        Map<Object, Object> fields = redis.hgetAll(hashKey(id));
+        if (fields == null || fields.isEmpty()) {
+            return null;
+        }
+        if (!fields.containsKey(CREATION_TIME) || !fields.containsKey(LAST_ACCESSED_TIME)) {
+            // a delta written after the hash had expired, there is no complete session behind it
+            redis.del(hashKey(id));
+            return null;
+        }
+        MapSession saved = new MapSession(id);
+        for (Map.Entry<Object, Object> entry : fields.entrySet()) {
+            String field = entry.getKey().toString();
+            if (field.startsWith(ATTRIBUTE_PREFIX)) {
+                saved.setAttribute(field.substring(ATTRIBUTE_PREFIX.length()), entry.getValue());
+            } else if (CREATION_TIME.equals(field)) {
+                saved.setCreationTime(((Number) entry.getValue()).longValue());
+            } else if (LAST_ACCESSED_TIME.equals(field)) {
+                saved.setLastAccessedTime(((Number) entry.getValue()).longValue());
+            } else if (MAX_INACTIVE_INTERVAL.equals(field)) {
+                saved.setMaxInactiveInterval(((Number) entry.getValue()).intValue());
+            }
+        }
+        return saved;
+    }
+
+    private String hashKey(String id) {
+        return CacheSessionManager.DEPLOY_NAME + ":H:" + id;
+    }
+
     @Override
     public CacheSession findById(String id) {
-        MapSession saved = this.cache.get(CacheSessionManager.DEPLOY_NAME, id);
+        MapSession saved = redis != null ? loadDelta(id) : this.cache.get(CacheSessionManager.DEPLOY_NAME, id);
         if (saved == null) {
             return null;
         }
@@ -85,6 +189,10 @@ public class CacheSessionRepository implements SessionRepository<CacheSessionRep
 
     @Override
     public void deleteById(String id) {
+        if (redis != null) {
+            redis.del(hashKey(id));
+            return;
+        }
         this.cache.remove(CacheSessionManager.DEPLOY_NAME, id);
     }
 
@@ -98,10 +206,16 @@ public class CacheSessionRepository implements SessionRepository<CacheSessionRep
         private boolean changed;
         private String originalId;
         private boolean isNew;
+        private boolean persisted;
+        private boolean touched;
+        private boolean intervalChanged;
+        private long touchedTime;
+        private final Set<String> changedAttributes = new HashSet<>();
 
         CacheSession() {
             this(new MapSession());
             this.isNew = true;
+            this.persisted = false;
             flushImmediateIfNecessary();
         }
 
@@ -109,6 +223,8 @@ public class CacheSessionRepository implements SessionRepository<CacheSessionRep
             Objects.requireNonNull(cached);
             this.delegate = cached;
             this.originalId = cached.getId();
+            this.persisted = true;
+            this.touchedTime = cached.getLastAccessedTime();
         }
 
         public boolean isNew() {
@@ -122,8 +238,13 @@ public class CacheSessionRepository implements SessionRepository<CacheSessionRep
         @Override
         public void setLastAccessedTime(long lastAccessedTime) {
             this.delegate.setLastAccessedTime(lastAccessedTime);
-            this.changed = true;
-            flushImmediateIfNecessary();
+            // the stored access time may lag behind by up to touchInterval, which saves a write on most requests
+            if (lastAccessedTime - this.touchedTime >= CacheSessionRepository.this.touchInterval) {
+                this.touchedTime = lastAccessedTime;
+                this.touched = true;
+                this.changed = true;
+                flushImmediateIfNecessary();
+            }
         }
 
         @Override
@@ -156,6 +277,7 @@ public class CacheSessionRepository implements SessionRepository<CacheSessionRep
         @Override
         public void setMaxInactiveInterval(int interval) {
             this.delegate.setMaxInactiveInterval(interval);
+            this.intervalChanged = true;
             this.changed = true;
             flushImmediateIfNecessary();
         }
@@ -178,6 +300,7 @@ public class CacheSessionRepository implements SessionRepository<CacheSessionRep
         @Override
         public Object setAttribute(String attributeName, Object attributeValue) {
             Object object = this.delegate.setAttribute(attributeName, attributeValue);
+            this.changedAttributes.add(attributeName);
             this.changed = true;
             flushImmediateIfNecessary();
             return object;
@@ -186,6 +309,7 @@ public class CacheSessionRepository implements SessionRepository<CacheSessionRep
         @Override
         public Object removeAttribute(String attributeName) {
             Object object = this.delegate.removeAttribute(attributeName);
+            this.changedAttributes.add(attributeName);
             this.changed = true;
             flushImmediateIfNecessary();
             return object;
@@ -197,6 +321,9 @@ public class CacheSessionRepository implements SessionRepository<CacheSessionRep
 
         void markUnchanged() {
             this.changed = false;
+            this.touched = false;
+            this.intervalChanged = false;
+            this.changedAttributes.clear();
         }
 
         MapSession getDelegate() {
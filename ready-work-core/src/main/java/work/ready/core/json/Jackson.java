@@ -20,12 +20,17 @@
 package work.ready.core.json;
 
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import work.ready.core.config.Config;
 import work.ready.core.server.Ready;
 import work.ready.core.tools.DateUtil;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 public class Jackson extends Json {
 
 	private static boolean defaultGenerateNullValue = true;
@@ -64,26 +69,37 @@ public class Jackson extends Json {
 		return new Jackson();
 	}
 
+	protected void prepare() {
+		String dp = datePattern != null ? datePattern : getDefaultDatePattern();
+		if (dp != null) {
+			objectMapper.setDateFormat(DateUtil.getSimpleDateFormat(dp));
+		}
+
+		Boolean pnv = generateNullValue != null ? generateNullValue : defaultGenerateNullValue;
+		if (pnv == false) {
+			objectMapper.setSerializationInclusion(Include.NON_NULL);
+		}
+	}
+
 	@Override
 	public String toJson(Object object) {
 		try {
-
-			String dp = datePattern != null ? datePattern : getDefaultDatePattern();
-			if (dp != null) {
-				objectMapper.setDateFormat(DateUtil.getSimpleDateFormat(dp));
-			}
-
-			Boolean pnv = generateNullValue != null ? generateNullValue : defaultGenerateNullValue;
-			if (pnv == false) {
-				objectMapper.setSerializationInclusion(Include.NON_NULL);
-			}
-
+			prepare();
 			return objectMapper.writeValueAsString(object);
 		} catch (Exception e) {
 			throw e instanceof RuntimeException ? (RuntimeException)e : new RuntimeException(e);
 		}
 	}
 
+	@Override
+	public void writeJson(Object object, OutputStream out) throws IOException {
+		prepare();
+		try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+			generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+			objectMapper.writeValue(generator, object);
+		}
+	}
+
 	@Override
 	public <T> T parse(String jsonString, Class<T> type) {
 		try {
@@ -20,6 +20,10 @@ package work.ready.core.json;
 
 import work.ready.core.tools.StrUtil;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
 public abstract class Json {
 	private static Json defaultJson = null;
 
@@ -68,6 +72,10 @@ public abstract class Json {
 
 	public abstract String toJson(Object object);
 
+	public void writeJson(Object object, OutputStream out) throws IOException {
+		out.write(toJson(object).getBytes(StandardCharsets.UTF_8));
+	}
+
 	public abstract <T> T parse(String jsonString, Class<T> type);
 }
 
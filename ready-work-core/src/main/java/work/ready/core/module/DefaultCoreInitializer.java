@@ -161,6 +161,9 @@ public class DefaultCoreInitializer implements CoreContextInitializer {
     public void initProxy() {
         context.proxyManager.startInit();
         context.proxyManager.getProxyGenerator().setPrintGeneratedClassToLogger(Ready.getBootstrapConfig().isPrintGeneratedClassToLogger());
+        if(Ready.getBootstrapConfig().isProxyClassCache()) {
+            context.proxyManager.getProxyCompiler().setCacheDirectory(Ready.path(Ready.getBootstrapConfig().getProxyClassCachePath()));
+        }
         context.proxyManager.endInit();
         Ready.post(new GeneralEvent(Event.PROXY_MANAGER_AFTER_INIT, this, context.proxyManager));
     }
@@ -71,6 +71,7 @@ public class JsonRender extends Render {
 	}
 
 	protected String jsonText;
+	protected Object data;
 	protected String[] attrs;
 
 	public JsonRender() {
@@ -82,7 +83,7 @@ public class JsonRender extends Render {
 		if (key == null) {
 			throw new IllegalArgumentException("The parameter key can not be null.");
 		}
-		this.jsonText = Json.getJson().toJson(new HashMap<String, Object>(){{put(key, value);}});
+		this.data = new HashMap<String, Object>(){{put(key, value);}};
 	}
 
 	public JsonRender(String[] attrs) {
@@ -112,28 +113,46 @@ public class JsonRender extends Render {
 		if(object instanceof Status){
 			this.statusCode = ((Status) object).getHttpCode();
 			this.jsonText = ((Status) object).toString();
+		} else if(object == null) {
+			this.jsonText = "null";
+		} else if(object instanceof String) {
+			this.jsonText = (String)object;
 		} else {
-			this.jsonText = object instanceof String ? (String)object : Json.getJson().toJson(object);
+			this.data = object;
 		}
 	}
 
 	public void render() {
-		if (jsonText == null) {
-			buildJsonText();
+		if (jsonText == null && data == null) {
+			data = buildData();
 		}
 
 		try {
-			response.setContentType(forIE ? contentTypeForIE : contentType);
-			response.setStatus(statusCode);
-			logger.info("response: %s", jsonText);
-			response.send(jsonText);
+			if (jsonText != null) {
+				response.setContentType(forIE ? contentTypeForIE : contentType);
+				response.setStatus(statusCode);
+				logger.info("response: %s", jsonText);
+				response.send(jsonText);
+			} else {
+				if (logger.isDebugEnabled()) {
+					logger.debug("response: streaming %s", data.getClass().getName());
+				}
+				stream(out -> Json.getJson().writeJson(data, out), () -> {
+					response.setContentType(forIE ? contentTypeForIE : contentType);
+					response.setStatus(statusCode);
+				});
+			}
 		} catch (Exception e) {
 			throw new RenderException(e);
 		}
 	}
 
-	@SuppressWarnings({"rawtypes", "unchecked"})
 	protected void buildJsonText() {
+		this.jsonText = Json.getJson().toJson(buildData());
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	protected Map buildData() {
 
 		Map map = new HashMap();
 		if (attrs != null) {
@@ -153,7 +172,7 @@ public class JsonRender extends Render {
 			}
 		}
 
-		this.jsonText = Json.getJson().toJson(map);
+		return map;
 	}
 
 	public void setStatusCode(int statusCode){
@@ -169,6 +188,9 @@ public class JsonRender extends Render {
 	}
 
 	public String getJsonText() {
+		if (jsonText == null && data != null) {
+			jsonText = Json.getJson().toJson(data);
+		}
 		return jsonText;
 	}
 
@@ -18,9 +18,19 @@
  */
 package work.ready.core.render;
 
+import io.undertow.connector.ByteBufferPool;
+import io.undertow.io.IoCallback;
+import io.undertow.io.Sender;
+import io.undertow.server.HttpServerExchange;
 import work.ready.core.handler.request.HttpRequest;
 import work.ready.core.handler.response.HttpResponse;
+import work.ready.core.handler.response.PooledBufferOutputStream;
 import work.ready.core.server.Ready;
+import work.ready.core.server.ServerConfig;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 
 public abstract class Render {
 
@@ -62,4 +72,102 @@ public abstract class Render {
 	}
 
 	public abstract void render();
+
+	protected void stream(BodyWriter writer, Runnable beforeSend) throws IOException {
+		HttpServerExchange exchange = response.getExchange();
+		ServerConfig serverConfig = renderManager != null ? renderManager.getServerConfig() : Ready.getMainApplicationConfig().getServer();
+		// small bodies are collected in pooled buffers before anything is committed, so a serialization failure still
+		// reaches the exception handler with an untouched response. larger ones commit status and headers on overflow and
+		// go out chunked, except on the IO thread, which can not block and rejects bodies beyond its cap instead
+		boolean inIoThread = exchange.isInIoThread();
+		DeferredCommitOutputStream out = new DeferredCommitOutputStream(exchange.getConnection().getByteBufferPool(),
+				inIoThread ? serverConfig.getNonBlockingRenderLimit() : serverConfig.getRenderBufferSize(), !inIoThread, beforeSend);
+		try {
+			writer.write(out);
+		} catch (IOException | RuntimeException e) {
+			out.buffer.close();
+			throw e;
+		}
+		if (out.target != null) {
+			out.target.close();
+			return;
+		}
+		beforeSend.run();
+		response.send(out.buffer.getBuffers(), new IoCallback() {
+			@Override
+			public void onComplete(HttpServerExchange exchange, Sender sender) {
+				out.buffer.close();
+				IoCallback.END_EXCHANGE.onComplete(exchange, sender);
+			}
+
+			@Override
+			public void onException(HttpServerExchange exchange, Sender sender, IOException exception) {
+				out.buffer.close();
+				IoCallback.END_EXCHANGE.onException(exchange, sender, exception);
+			}
+		});
+	}
+
+	private final class DeferredCommitOutputStream extends OutputStream {
+		private final PooledBufferOutputStream buffer;
+		private final long limit;
+		private final boolean canBlock;
+		private final Runnable beforeSend;
+		private OutputStream target;
+
+		private DeferredCommitOutputStream(ByteBufferPool pool, long limit, boolean canBlock, Runnable beforeSend) {
+			this.buffer = new PooledBufferOutputStream(pool);
+			this.limit = limit;
+			this.canBlock = canBlock;
+			this.beforeSend = beforeSend;
+		}
+
+		private OutputStream next(int len) throws IOException {
+			if (target == null && buffer.size() + len > limit) {
+				if (!canBlock) {
+					throw new IOException("response body of a non-blocking action exceeds " + limit + " bytes");
+				}
+				beforeSend.run();
+				response.startBlocking();
+				OutputStream stream = response.getOutputStream();
+				byte[] bytes = new byte[8192];
+				for (ByteBuffer buffered : buffer.getBuffers()) {
+					while (buffered.hasRemaining()) {
+						int count = Math.min(bytes.length, buffered.remaining());
+						buffered.get(bytes, 0, count);
+						stream.write(bytes, 0, count);
+					}
+				}
+				buffer.close();
+				target = stream;
+			}
+			return target != null ? target : buffer;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			next(1).write(b);
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			next(len).write(b, off, len);
+		}
+
+		@Override
+		public void flush() throws IOException {
+			// buffered bytes are sent by stream() once the writer is done, only an already committed response is flushed
+			if (target != null) {
+				target.flush();
+			}
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
+	protected interface BodyWriter {
+		void write(OutputStream out) throws IOException;
+	}
 }
@@ -24,6 +24,7 @@ import work.ready.core.module.ApplicationContext;
 import work.ready.core.module.Initializer;
 import work.ready.core.server.ApplicationConfig;
 import work.ready.core.server.Ready;
+import work.ready.core.server.ServerConfig;
 import work.ready.core.template.Engine;
 import work.ready.core.tools.PathUtil;
 import work.ready.core.tools.StrUtil;
@@ -79,6 +80,10 @@ public class RenderManager {
 		}
 	}
 
+	public ServerConfig getServerConfig() {
+		return config.getServer();
+	}
+
 	public RenderFactory getRenderFactory() {
 		return renderFactory;
 	}
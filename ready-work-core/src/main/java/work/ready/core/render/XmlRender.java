@@ -18,6 +18,7 @@
  */
 package work.ready.core.render;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import io.undertow.util.StatusCodes;
 import work.ready.core.component.i18n.I18n;
@@ -63,6 +64,7 @@ public class XmlRender extends Render {
 	}
 
 	protected String xmlText;
+	protected Object data;
 	protected String[] attrs;
 
 	public XmlRender() {
@@ -74,11 +76,7 @@ public class XmlRender extends Render {
 		if (key == null) {
 			throw new IllegalArgumentException("The parameter key can not be null.");
 		}
-		try {
-			this.xmlText = Ready.config().getXmlMapper().writeValueAsString(new HashMap<String, Object>(){{put(key, value);}});
-		} catch (JsonProcessingException e){
-			throw new RenderException(e);
-		}
+		this.data = new HashMap<String, Object>(){{put(key, value);}};
 	}
 
 	public XmlRender(String[] attrs) {
@@ -98,42 +96,64 @@ public class XmlRender extends Render {
 	}
 
 	public XmlRender(Object object) {
-		try {
-			if(object instanceof Result) {
-				if (((Result<?>) object).isSuccess()) {
-					object = ((Result<?>) object).getResult();
-				} else {
-					object = ((Result<?>) object).getError();
-				}
-			}
-			if (object instanceof Status) {
-				this.statusCode = ((Status) object).getHttpCode();
-				this.xmlText = ((Status) object).toXml();
+		if(object instanceof Result) {
+			if (((Result<?>) object).isSuccess()) {
+				object = ((Result<?>) object).getResult();
 			} else {
-				this.xmlText = object instanceof String ? (String)object : Ready.config().getXmlMapper().writeValueAsString(object);
+				object = ((Result<?>) object).getError();
 			}
-		} catch (JsonProcessingException e) {
-			throw new RenderException(e);
+		}
+		if (object instanceof Status) {
+			this.statusCode = ((Status) object).getHttpCode();
+			this.xmlText = ((Status) object).toXml();
+		} else if (object instanceof String) {
+			this.xmlText = (String)object;
+		} else if (object == null) {
+			this.xmlText = toXml(null);
+		} else {
+			this.data = object;
 		}
 	}
 
 	public void render() {
-		if (xmlText == null) {
-			buildXmlText();
+		if (xmlText == null && data == null) {
+			data = buildData();
 		}
 
 		try {
-			response.setContentType(ContentType.TEXT_XML);
-			response.setStatus(statusCode);
-			logger.info("response: %s", xmlText);
-			response.send(xmlText);
+			if (xmlText != null) {
+				response.setContentType(ContentType.TEXT_XML);
+				response.setStatus(statusCode);
+				logger.info("response: %s", xmlText);
+				response.send(xmlText);
+			} else {
+				if (logger.isDebugEnabled()) {
+					logger.debug("response: streaming %s", data.getClass().getName());
+				}
+				stream(out -> Ready.config().getXmlMapper().writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(out, data), () -> {
+					response.setContentType(ContentType.TEXT_XML);
+					response.setStatus(statusCode);
+				});
+			}
 		} catch (Exception e) {
 			throw new RenderException(e);
 		}
 	}
 
-	@SuppressWarnings({"rawtypes", "unchecked"})
 	protected void buildXmlText() {
+		this.xmlText = toXml(buildData());
+	}
+
+	private static String toXml(Object object) {
+		try {
+			return Ready.config().getXmlMapper().writeValueAsString(object);
+		} catch (JsonProcessingException e){
+			throw new RenderException(e);
+		}
+	}
+
+	@SuppressWarnings({"rawtypes", "unchecked"})
+	protected Map buildData() {
 		Map map = new HashMap();
 		if (attrs != null) {
 			for (String key : attrs) {
@@ -151,11 +171,7 @@ public class XmlRender extends Render {
 				map.put(key, value);
 			}
 		}
-		try {
-			this.xmlText = Ready.config().getXmlMapper().writeValueAsString(map);
-		} catch (JsonProcessingException e){
-			throw new RenderException(e);
-		}
+		return map;
 	}
 
 	public void setStatusCode(int statusCode){
@@ -171,6 +187,9 @@ public class XmlRender extends Render {
 	}
 
 	public String getXmlText() {
+		if (xmlText == null && data != null) {
+			xmlText = toXml(data);
+		}
 		return xmlText;
 	}
 
@@ -68,6 +68,9 @@ public class LimiterConfig extends BaseConfig {
     private int limitCapacityForUser = 2; 
     private int durationOfLimitForUser = 1; 
 
+    private int distributedLeaseSize = 0; 
+    private double distributedLeaseRatio = 0.05; 
+
     private List<String> skipFrequencyLimiterUrl;  
     private List<String> needFrequencyLimiterUrl;
 
@@ -415,6 +418,26 @@ public class LimiterConfig extends BaseConfig {
         return this;
     }
 
+    public int getDistributedLeaseSize() {
+        return distributedLeaseSize;
+    }
+
+    public LimiterConfig setDistributedLeaseSize(int distributedLeaseSize) {
+        this.distributedLeaseSize = distributedLeaseSize;
+        configChanged();
+        return this;
+    }
+
+    public double getDistributedLeaseRatio() {
+        return distributedLeaseRatio;
+    }
+
+    public LimiterConfig setDistributedLeaseRatio(double distributedLeaseRatio) {
+        this.distributedLeaseRatio = distributedLeaseRatio;
+        configChanged();
+        return this;
+    }
+
     public boolean isEnableConcurrentRequestLimiter() {
         return enableConcurrentRequestLimiter;
     }
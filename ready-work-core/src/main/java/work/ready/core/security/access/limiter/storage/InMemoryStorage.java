@@ -32,23 +32,41 @@ import java.time.Instant;
 import java.util.*;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+/**
+ * Expired buckets are dropped through a hashed timing wheel with one second ticks. Each key is scheduled once,
+ * when it is created, and the wheel is advanced by the callers, so a request only pays for the keys that
+ * actually expired since the previous tick instead of scanning the whole map.
+ */
 public class InMemoryStorage implements LimitUsageStorage {
 
+  private static final int WHEEL_SIZE = 1024;
+
   Map<LimitKey, Capacity> map = new ConcurrentHashMap<>();
   private Clock clock = Clock.systemDefaultZone();
+  private final Queue<LimitKey>[] wheel = newWheel();
+  private final AtomicLong currentTick = new AtomicLong(Instant.now(clock).getEpochSecond());
 
   @Override
   public Map<LimitKey, Integer> addAndGet(Collection<AddAndGetRequest> requests) {
+    if (requests.size() == 1) {
+      AddAndGetRequest request = requests.iterator().next();
+      LimitKey limitKey = LimitKey.fromRequest(request);
+      Integer value = getOrCreate(limitKey).addAndGet(request.getCost());
+      removeExpiredEntries();
+      return Collections.singletonMap(limitKey, value);
+    }
     Map<LimitKey, Integer> updatedEntries = new HashMap<>();
 
     for (AddAndGetRequest request : requests) {
       LimitKey limitKey = LimitKey.fromRequest(request);
 
-      Capacity counter = map.computeIfAbsent(limitKey, (key) -> new Capacity());
+      Capacity counter = getOrCreate(limitKey);
       updatedEntries.put(limitKey, counter.addAndGet(request.getCost()));
     }
     removeExpiredEntries();
@@ -58,14 +76,20 @@ public class InMemoryStorage implements LimitUsageStorage {
 
   @Override
   public Map<LimitKey, Integer> addAndGetWithLimit(Collection<AddAndGetRequest> requests) {
+    if (requests.size() == 1) {
+      AddAndGetRequest request = requests.iterator().next();
+      LimitKey limitKey = LimitKey.fromRequest(request);
+      Integer value = getOrCreate(limitKey).addAndGetWithLimit(request.getCost(), request.getLimit());
+      removeExpiredEntries();
+      return Collections.singletonMap(limitKey, value);
+    }
     Map<LimitKey, Integer> updatedEntries = new HashMap<>();
-    requests.forEach(
-        request -> {
-          LimitKey limitKey = LimitKey.fromRequest(request);
-          Capacity counter = map.computeIfAbsent(limitKey, (key) -> new Capacity());
-          updatedEntries.put(
-              limitKey, counter.addAndGetWithLimit(request.getCost(), request.getLimit()));
-        });
+    for (AddAndGetRequest request : requests) {
+      LimitKey limitKey = LimitKey.fromRequest(request);
+      Capacity counter = getOrCreate(limitKey);
+      updatedEntries.put(
+          limitKey, counter.addAndGetWithLimit(request.getCost(), request.getLimit()));
+    }
     removeExpiredEntries();
     return updatedEntries;
   }
@@ -75,7 +99,9 @@ public class InMemoryStorage implements LimitUsageStorage {
 
   public void overrideKeys(List<OverrideKeyRequest> overrides) {
     for (OverrideKeyRequest override : overrides) {
-      map.put(override.getLimitKey(), new Capacity(override.getNewValue()));
+      if (map.put(override.getLimitKey(), new Capacity(override.getNewValue())) == null) {
+        schedule(override.getLimitKey());
+      }
     }
     removeExpiredEntries();
   }
@@ -88,9 +114,7 @@ public class InMemoryStorage implements LimitUsageStorage {
   @Override
   public Map<LimitKey, Integer> getCurrentLimitCounters() {
     removeExpiredEntries();
-    return map.entrySet()
-        .stream()
-        .collect(Collectors.toMap(Entry::getKey, kvp -> kvp.getValue().get()));
+    return filterLimitCountersBy();
   }
 
   @Override
@@ -119,22 +143,75 @@ public class InMemoryStorage implements LimitUsageStorage {
 
   private Map<LimitKey, Integer> filterLimitCountersBy(
       Predicate<Entry<LimitKey, Capacity>>... predicates) {
+    // the wheel works in whole seconds, so entries that expired within the current tick are filtered here
+    Instant now = Instant.now(clock);
     return Collections.unmodifiableMap(
         map.entrySet()
             .stream()
+            .filter(e -> !isExpired(e.getKey(), now))
             .filter(Arrays.stream(predicates).reduce(Predicate::and).orElse(x -> true))
             .collect(Collectors.toMap(Entry::getKey, kvp -> kvp.getValue().get())));
   }
 
-  private void removeExpiredEntries() {
-    Instant now = Instant.now(clock);
+  private Capacity getOrCreate(LimitKey limitKey) {
+    Capacity counter = map.get(limitKey);
+    if (counter == null) {
+      Capacity created = new Capacity();
+      counter = map.putIfAbsent(limitKey, created);
+      if (counter == null) {
+        counter = created;
+        schedule(limitKey);
+      }
+    }
+    return counter;
+  }
 
-    Set<LimitKey> expiredLimitKeys =
-        map.keySet()
-            .stream()
-            .filter(limitKey -> limitKey.getBucket().plus(limitKey.getExpiration()).isBefore(now))
-            .collect(Collectors.toSet());
+  private void schedule(LimitKey limitKey) {
+    long expireTick = expireTick(limitKey);
+    if (expireTick <= currentTick.get()) {
+      map.remove(limitKey);
+    } else {
+      wheel[(int) (expireTick & (WHEEL_SIZE - 1))].offer(limitKey);
+    }
+  }
+
+  private static long expireTick(LimitKey limitKey) {
+    return limitKey.getBucket().plus(limitKey.getExpiration()).getEpochSecond() + 1;
+  }
+
+  private static boolean isExpired(LimitKey limitKey, Instant now) {
+    return limitKey.getBucket().plus(limitKey.getExpiration()).isBefore(now);
+  }
 
-    map.keySet().removeAll(expiredLimitKeys);
+  private void removeExpiredEntries() {
+    long nowTick = Instant.now(clock).getEpochSecond();
+    long lastTick = currentTick.get();
+    if (nowTick <= lastTick || !currentTick.compareAndSet(lastTick, nowTick)) {
+      return;
+    }
+    // only the thread that moved the wheel forward sweeps the slots it passed
+    for (long tick = Math.max(lastTick + 1, nowTick - WHEEL_SIZE + 1); tick <= nowTick; tick++) {
+      Queue<LimitKey> slot = wheel[(int) (tick & (WHEEL_SIZE - 1))];
+      for (int i = slot.size(); i > 0; i--) {
+        LimitKey limitKey = slot.poll();
+        if (limitKey == null) {
+          break;
+        }
+        if (expireTick(limitKey) <= nowTick) {
+          map.remove(limitKey);
+        } else {
+          slot.offer(limitKey);
+        }
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Queue<LimitKey>[] newWheel() {
+    Queue<LimitKey>[] wheel = new Queue[WHEEL_SIZE];
+    for (int i = 0; i < WHEEL_SIZE; i++) {
+      wheel[i] = new ConcurrentLinkedQueue<>();
+    }
+    return wheel;
   }
 }
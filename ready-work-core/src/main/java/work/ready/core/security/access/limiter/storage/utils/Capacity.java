@@ -41,8 +41,11 @@ public class Capacity {
   }
 
   public Integer addAndGetWithLimit(int cost, int limit) {
-    return delta.accumulateAndGet(cost, (left, right) -> left > limit ? left : left + right)
-        + total.get();
+    int current;
+    do {
+      current = delta.get();
+    } while (current <= limit && !delta.compareAndSet(current, current + cost));
+    return (current > limit ? current : current + cost) + total.get();
   }
 
   public Integer addAndGet(int cost) {
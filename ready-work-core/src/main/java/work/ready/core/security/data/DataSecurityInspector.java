@@ -44,6 +44,7 @@ public interface DataSecurityInspector {
     Map<String, Object> inputExamine(String className, String methodName, String datasource, String table, Map<String, Object> inputMap);
     void inputAudit(String className, String methodName, String datasource, String table, Map<String, Object> inputMap);
 
+    // the parsed statement is shared through the sql cache, changes have to be made on tuple.getMutableStatement() and flagged with tuple.setChanged(true)
     void sqlExamine(String className, String methodName, SqlAuditTuple tuple);
     void sqlAudit(String className, String methodName, SqlAuditTuple tuple);
 }
@@ -23,18 +23,25 @@ import work.ready.core.database.jdbc.common.Value;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 public class SqlAuditTuple {
 
     private final String dataSource;
-    private final Statement statement;
+    private Statement statement;
+    private Supplier<Statement> copier;
     private final List<Map<Integer, Value>> parameters;
     private final Map<String, Value> namedParameters;
     private boolean changed = false;
 
     public SqlAuditTuple(String dataSource, Statement statement, List<Map<Integer, Value>> parameters, Map<String, Value> namedParameters){
+        this(dataSource, statement, null, parameters, namedParameters);
+    }
+
+    public SqlAuditTuple(String dataSource, Statement statement, Supplier<Statement> copier, List<Map<Integer, Value>> parameters, Map<String, Value> namedParameters){
         this.dataSource = dataSource;
         this.statement = statement;
+        this.copier = copier;
         this.parameters = parameters;
         this.namedParameters = namedParameters;
     }
@@ -43,10 +50,19 @@ public class SqlAuditTuple {
         return dataSource;
     }
 
+    // may be shared with other executions of the same sql, use getMutableStatement() to change it
     public Statement getStatement() {
         return statement;
     }
 
+    public Statement getMutableStatement() {
+        if (copier != null) {
+            statement = copier.get();
+            copier = null;
+        }
+        return statement;
+    }
+
     public List<Map<Integer, Value>> getParameters() {
         return parameters;
     }
@@ -64,6 +64,8 @@ public class ApplicationConfig extends BaseConfig {
 
     private LogConfig log = new LogConfig();
     private boolean printGeneratedClassToLogger = false;
+    private boolean proxyClassCache = false;
+    private String proxyClassCachePath = "/proxy-cache";
 
     private boolean enableBanner = true;
     private String bannerFile = "banner.txt";
@@ -72,6 +74,8 @@ public class ApplicationConfig extends BaseConfig {
     private List<String> fallbackNtpHost = Arrays.asList(new String[]{"cn.ntp.org.cn","ntp2.aliyun.com", "time2.cloud.tencent.com", "sgp.ntp.org.cn", "jp.ntp.org.cn"});
 
     private String uuidWorkerId = "MAC"; 
+    private boolean uuidMillisecond = false;
+    private boolean uuidCached = false;
 
     private String scanJarPrefix;
     private String skipJarPrefix;
@@ -93,6 +97,8 @@ public class ApplicationConfig extends BaseConfig {
 
     private boolean enableSession = true;
     private int sessionMaxInactiveInterval = 1800;
+    private boolean sessionDeltaPersistence = false;
+    private int sessionTouchInterval = 0;
 
     private StaticResourceConfig staticResource = new StaticResourceConfig();
 
@@ -249,6 +255,22 @@ public class ApplicationConfig extends BaseConfig {
         this.uuidWorkerId = uuidWorkerId;
     }
 
+    public boolean isUuidMillisecond() {
+        return uuidMillisecond;
+    }
+
+    public void setUuidMillisecond(boolean uuidMillisecond) {
+        this.uuidMillisecond = uuidMillisecond;
+    }
+
+    public boolean isUuidCached() {
+        return uuidCached;
+    }
+
+    public void setUuidCached(boolean uuidCached) {
+        this.uuidCached = uuidCached;
+    }
+
     public String getScanJarPrefix() {
         return scanJarPrefix;
     }
@@ -317,6 +339,24 @@ public class ApplicationConfig extends BaseConfig {
         return this;
     }
 
+    public boolean isProxyClassCache() {
+        return proxyClassCache;
+    }
+
+    public ApplicationConfig setProxyClassCache(boolean proxyClassCache) {
+        this.proxyClassCache = proxyClassCache;
+        return this;
+    }
+
+    public String getProxyClassCachePath() {
+        return proxyClassCachePath;
+    }
+
+    public ApplicationConfig setProxyClassCachePath(String proxyClassCachePath) {
+        this.proxyClassCachePath = proxyClassCachePath;
+        return this;
+    }
+
     public LogConfig getLog() {
         return log;
     }
@@ -425,6 +465,24 @@ public class ApplicationConfig extends BaseConfig {
         return this;
     }
 
+    public boolean isSessionDeltaPersistence() {
+        return sessionDeltaPersistence;
+    }
+
+    public ApplicationConfig setSessionDeltaPersistence(boolean sessionDeltaPersistence) {
+        this.sessionDeltaPersistence = sessionDeltaPersistence;
+        return this;
+    }
+
+    public int getSessionTouchInterval() {
+        return sessionTouchInterval;
+    }
+
+    public ApplicationConfig setSessionTouchInterval(int sessionTouchInterval) {
+        this.sessionTouchInterval = sessionTouchInterval;
+        return this;
+    }
+
     public CacheConfig getCache() {
         return cache;
     }
@@ -23,6 +23,7 @@ import work.ready.core.apm.ApmManager;
 import work.ready.core.component.cache.CacheManager;
 import work.ready.core.component.plugin.BaseCorePlugin;
 import work.ready.core.component.proxy.ProxyManager;
+import work.ready.core.component.snowflake.CachedIdWorker;
 import work.ready.core.component.snowflake.IdWorker;
 import work.ready.core.component.time.TimeSupplier;
 import work.ready.core.component.time.TimeWorker;
@@ -242,16 +243,18 @@ public class Ready {
 
     private static void idWorkerInit() {
         String workerId = getBootstrapConfig().getUuidWorkerId();
+        long id;
         if(StrUtil.isNumbers(workerId)) {
-            int id = Integer.parseInt(workerId);
-            idWorker = new IdWorker(id);
+            id = Integer.parseInt(workerId);
         } else if("MAC".equals(workerId)) {
-            idWorker = new IdWorker(IdWorker.getWorkerIdByMacAddress(18));
+            id = IdWorker.getWorkerIdByMacAddress(18);
         } else if("IP".equals(workerId)) {
-            idWorker = new IdWorker(IdWorker.getWorkerIdByIPV4(18));
+            id = IdWorker.getWorkerIdByIPV4(18);
         } else {
             throw new RuntimeException("invalid uuidWorkerId in bootstrap.yml, options are 'MAC', 'IP', or a positive number that is less than 262144.");
         }
+        IdWorker worker = getBootstrapConfig().isUuidMillisecond() ? IdWorker.millisecond(id) : new IdWorker(id);
+        idWorker = getBootstrapConfig().isUuidCached() ? new CachedIdWorker(worker) : worker;
     }
 
     private static boolean clockInit() {
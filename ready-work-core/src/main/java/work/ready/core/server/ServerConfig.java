@@ -40,11 +40,17 @@ public class ServerConfig extends BaseConfig {
     private Integer bufferSize = 1024 * 16;
     private Integer ioThreads = Runtime.getRuntime().availableProcessors() * 2;
     private Integer workerThreads = 200;
+    private boolean virtualThreadWorker = false;
+    private String virtualThreadPinningTrace = null;
     private Integer backlog = 10000;
     private Boolean alwaysSetDate = false; 
     private Boolean allowUnescapedCharactersInUrl = false;
     private Long maxEntitySize = Constant.DEFAULT_MAX_ENTITY_SIZE;
     private boolean singletonController = true;
+    private int controllerPoolSize = 0;
+    private boolean lazyRequestParsing = false;
+    private int renderBufferSize = 1024 * 64;
+    private int nonBlockingRenderLimit = 1024 * 1024 * 8;
     private String serverString = "ReadyWork";
     private boolean healthCheck = true;
     private String healthCheckPath = "/health-check";
@@ -199,6 +205,24 @@ public class ServerConfig extends BaseConfig {
 		return this;
 	}
 
+    public boolean isVirtualThreadWorker() {
+        return virtualThreadWorker;
+    }
+
+    public ServerConfig setVirtualThreadWorker(boolean virtualThreadWorker) {
+        this.virtualThreadWorker = virtualThreadWorker;
+        return this;
+    }
+
+    public String getVirtualThreadPinningTrace() {
+        return virtualThreadPinningTrace;
+    }
+
+    public ServerConfig setVirtualThreadPinningTrace(String virtualThreadPinningTrace) {
+        this.virtualThreadPinningTrace = virtualThreadPinningTrace;
+        return this;
+    }
+
     public Integer getBacklog() {
         return backlog;
     }
@@ -253,6 +277,46 @@ public class ServerConfig extends BaseConfig {
         return this;
     }
 
+    public int getControllerPoolSize() {
+        return controllerPoolSize;
+    }
+
+    // opt-in, a pooled controller only gets the base Controller fields reset between requests,
+    // so subclasses must be stateless, any field they set is seen by the next request, possibly of another user
+    public ServerConfig setControllerPoolSize(int controllerPoolSize) {
+        this.controllerPoolSize = controllerPoolSize;
+        return this;
+    }
+
+    public boolean isLazyRequestParsing() {
+        return lazyRequestParsing;
+    }
+
+    public ServerConfig setLazyRequestParsing(boolean lazyRequestParsing) {
+        this.lazyRequestParsing = lazyRequestParsing;
+        return this;
+    }
+
+    public int getRenderBufferSize() {
+        return renderBufferSize;
+    }
+
+    // json and xml bodies up to this size are buffered before the response is committed, larger ones are sent chunked
+    public ServerConfig setRenderBufferSize(int renderBufferSize) {
+        this.renderBufferSize = renderBufferSize;
+        return this;
+    }
+
+    public int getNonBlockingRenderLimit() {
+        return nonBlockingRenderLimit;
+    }
+
+    // non-blocking actions render on the IO thread and can only buffer, so their json and xml bodies are capped
+    public ServerConfig setNonBlockingRenderLimit(int nonBlockingRenderLimit) {
+        this.nonBlockingRenderLimit = nonBlockingRenderLimit;
+        return this;
+    }
+
     public boolean isHealthCheck() {
         return healthCheck;
     }
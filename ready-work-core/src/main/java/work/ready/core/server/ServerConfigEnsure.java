@@ -56,6 +56,10 @@ public class ServerConfigEnsure {
             serverConfig.setAllowUnescapedCharactersInUrl(false);
             logger.warn(warnMessage, "allowUnescapedCharactersInUrl");
         }
+        if (serverConfig.getVirtualThreadPinningTrace() != null && !"short".equals(serverConfig.getVirtualThreadPinningTrace()) && !"full".equals(serverConfig.getVirtualThreadPinningTrace())) {
+            serverConfig.setVirtualThreadPinningTrace(null);
+            logger.warn(warnMessage, "virtualThreadPinningTrace");
+        }
     }
 
 }
@@ -43,6 +43,7 @@ import work.ready.core.module.Initializer;
 import work.ready.core.security.SecurityConfig;
 import work.ready.core.tools.NetUtil;
 import work.ready.core.tools.StopWatch;
+import work.ready.core.tools.VirtualThreadUtil;
 
 import javax.net.ssl.*;
 import java.security.KeyStore;
@@ -50,6 +51,7 @@ import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.UnrecoverableKeyException;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadLocalRandom;
 
 public class WebServer {
@@ -67,6 +69,7 @@ public class WebServer {
     private Set<Integer> usedPorts;
 
     private Undertow server;
+    private ExecutorService workerExecutor;
     private final ApplicationContext context;
 
     private ServerConfig serverConfig;
@@ -109,6 +112,14 @@ public class WebServer {
         serverConfig = applicationConfig.getServer();
         securityConfig = applicationConfig.getSecurity();
         shutdownHandler = new GracefulShutdownHandler();
+        if (serverConfig.isVirtualThreadWorker()) {
+            if (VirtualThreadUtil.isEnabled(serverConfig)) {
+                VirtualThreadUtil.enablePinningTrace(serverConfig);
+                workerExecutor = VirtualThreadUtil.newExecutor("ReadyWorker");
+            } else {
+                logger.warn("virtualThreadWorker is enabled, but virtual threads are not supported by current JVM, fall back to the platform worker threads");
+            }
+        }
         requestHandler = new RequestHandler(context);
         mainHandler = new MainHandler(context);
         Ready.post(new GeneralEvent(Event.WEB_SERVER_AFTER_HANDLER_INIT, this));
@@ -280,6 +291,10 @@ public class WebServer {
         return requestHandler;
     }
 
+    public ExecutorService getWorkerExecutor() {
+        return workerExecutor;
+    }
+
     public GracefulShutdownHandler getShutdownHandler() {
         return shutdownHandler;
     }
@@ -326,6 +341,9 @@ public class WebServer {
             if (!success) {
                 logger.warn("Failed to stop: failed to wait active http requests to complete");
                 server.getWorker().shutdownNow();
+                if (workerExecutor != null) {
+                    workerExecutor.shutdownNow();
+                }
             } else {
                 logger.info("active http requests completed");
             }
@@ -335,6 +353,9 @@ public class WebServer {
     public void awaitTermination() {
         if (server != null) {
             server.stop();
+            if (workerExecutor != null) {
+                workerExecutor.shutdown();
+            }
             logger.info("http server stopped");
             Ready.post(new GeneralEvent(Event.WEB_SERVER_AFTER_SHUTDOWN, this));
         }
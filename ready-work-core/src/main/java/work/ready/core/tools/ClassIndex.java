@@ -0,0 +1,275 @@
+/**
+ *
+ * Copyright (c) 2020 WeiHua Lyu [ready.work]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package work.ready.core.tools;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Type metadata read straight from class file headers, so candidates can be filtered by super type or
+ * annotation without defining the classes. An index can also be written at build time to META-INF/ready-work.idx.
+ */
+public class ClassIndex {
+
+    public static final String INDEX_FILE = "META-INF/ready-work.idx";
+    private static final int INDEX_VERSION = 1;
+    private static final int ACC_PUBLIC = 0x0001;
+
+    private final Map<String, Entry> entries;
+
+    public ClassIndex(Map<String, Entry> entries) {
+        this.entries = entries;
+    }
+
+    public Entry get(String className) {
+        return entries.get(className);
+    }
+
+    public Collection<Entry> entries() {
+        return entries.values();
+    }
+
+    public static class Entry {
+        private final String name;
+        private final int access;
+        private final String superName;
+        private final String[] interfaces;
+        private final Set<String> annotations;
+        private final Set<String> methodAnnotations;
+
+        public Entry(String name, int access, String superName, String[] interfaces, Set<String> annotations, Set<String> methodAnnotations) {
+            this.name = name;
+            this.access = access;
+            this.superName = superName;
+            this.interfaces = interfaces;
+            this.annotations = annotations;
+            this.methodAnnotations = methodAnnotations;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getAccess() {
+            return access;
+        }
+
+        public String getSuperName() {
+            return superName;
+        }
+
+        public String[] getInterfaces() {
+            return interfaces;
+        }
+
+        // runtime visible annotations on the class itself
+        public Set<String> getAnnotations() {
+            return annotations;
+        }
+
+        // runtime visible annotations on public methods declared by the class
+        public Set<String> getMethodAnnotations() {
+            return methodAnnotations;
+        }
+    }
+
+    public static Entry readClass(InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(inputStream.readAllBytes()));
+        if (in.readInt() != 0xCAFEBABE) {
+            throw new IOException("not a class file");
+        }
+        in.readUnsignedShort();
+        in.readUnsignedShort();
+        int poolSize = in.readUnsignedShort();
+        String[] utf8 = new String[poolSize];
+        int[] classes = new int[poolSize];
+        for (int i = 1; i < poolSize; i++) {
+            int tag = in.readUnsignedByte();
+            switch (tag) {
+                case 1: utf8[i] = in.readUTF(); break;
+                case 7: classes[i] = in.readUnsignedShort(); break;
+                case 8: case 16: case 19: case 20: in.skipBytes(2); break;
+                case 15: in.skipBytes(3); break;
+                case 3: case 4: case 9: case 10: case 11: case 12: case 17: case 18: in.skipBytes(4); break;
+                case 5: case 6: in.skipBytes(8); i++; break;
+                default: throw new IOException("unknown constant pool tag " + tag);
+            }
+        }
+        int access = in.readUnsignedShort();
+        String name = className(utf8[classes[in.readUnsignedShort()]]);
+        int superIndex = in.readUnsignedShort();
+        String superName = superIndex == 0 ? null : className(utf8[classes[superIndex]]);
+        String[] interfaces = new String[in.readUnsignedShort()];
+        for (int i = 0; i < interfaces.length; i++) {
+            interfaces[i] = className(utf8[classes[in.readUnsignedShort()]]);
+        }
+        Set<String> methodAnnotations = new HashSet<>();
+        readMembers(in, utf8, null);
+        readMembers(in, utf8, methodAnnotations);
+        Set<String> annotations = new HashSet<>();
+        readAttributes(in, utf8, annotations);
+        return new Entry(name, access, superName, interfaces, annotations, methodAnnotations);
+    }
+
+    private static void readMembers(DataInputStream in, String[] utf8, Set<String> annotations) throws IOException {
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            int access = in.readUnsignedShort();
+            in.skipBytes(4);
+            readAttributes(in, utf8, annotations != null && (access & ACC_PUBLIC) != 0 ? annotations : null);
+        }
+    }
+
+    private static void readAttributes(DataInputStream in, String[] utf8, Set<String> annotations) throws IOException {
+        int count = in.readUnsignedShort();
+        for (int i = 0; i < count; i++) {
+            String name = utf8[in.readUnsignedShort()];
+            int length = in.readInt();
+            if (annotations != null && "RuntimeVisibleAnnotations".equals(name)) {
+                int size = in.readUnsignedShort();
+                for (int j = 0; j < size; j++) {
+                    readAnnotation(in, utf8, annotations);
+                }
+            } else {
+                in.skipBytes(length);
+            }
+        }
+    }
+
+    private static void readAnnotation(DataInputStream in, String[] utf8, Set<String> annotations) throws IOException {
+        String descriptor = utf8[in.readUnsignedShort()];
+        if (annotations != null) {
+            annotations.add(className(descriptor.substring(1, descriptor.length() - 1)));
+        }
+        int pairs = in.readUnsignedShort();
+        for (int i = 0; i < pairs; i++) {
+            in.skipBytes(2);
+            skipElementValue(in, utf8);
+        }
+    }
+
+    private static void skipElementValue(DataInputStream in, String[] utf8) throws IOException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+            case 'e': in.skipBytes(4); break;
+            case '@': readAnnotation(in, utf8, null); break;
+            case '[':
+                int size = in.readUnsignedShort();
+                for (int i = 0; i < size; i++) {
+                    skipElementValue(in, utf8);
+                }
+                break;
+            default: in.skipBytes(2);
+        }
+    }
+
+    private static String className(String internalName) {
+        return internalName.replace('/', '.');
+    }
+
+    public static ClassIndex read(InputStream inputStream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(inputStream));
+        if (in.readInt() != INDEX_VERSION) {
+            throw new IOException("unsupported class index version");
+        }
+        int size = in.readInt();
+        Map<String, Entry> entries = new HashMap<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            String name = in.readUTF();
+            int access = in.readUnsignedShort();
+            String superName = in.readUTF();
+            String[] interfaces = new String[in.readUnsignedShort()];
+            for (int j = 0; j < interfaces.length; j++) {
+                interfaces[j] = in.readUTF();
+            }
+            entries.put(name, new Entry(name, access, superName.isEmpty() ? null : superName, interfaces, readNames(in), readNames(in)));
+        }
+        return new ClassIndex(entries);
+    }
+
+    private static Set<String> readNames(DataInputStream in) throws IOException {
+        int size = in.readUnsignedShort();
+        Set<String> names = new HashSet<>(size * 2);
+        for (int i = 0; i < size; i++) {
+            names.add(in.readUTF());
+        }
+        return names;
+    }
+
+    public void write(OutputStream outputStream) throws IOException {
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputStream));
+        out.writeInt(INDEX_VERSION);
+        out.writeInt(entries.size());
+        for (Entry entry : entries.values()) {
+            out.writeUTF(entry.name);
+            out.writeShort(entry.access);
+            out.writeUTF(entry.superName == null ? "" : entry.superName);
+            out.writeShort(entry.interfaces.length);
+            for (String name : entry.interfaces) {
+                out.writeUTF(name);
+            }
+            writeNames(out, entry.annotations);
+            writeNames(out, entry.methodAnnotations);
+        }
+        out.flush();
+    }
+
+    private static void writeNames(DataOutputStream out, Set<String> names) throws IOException {
+        out.writeShort(names.size());
+        for (String name : names) {
+            out.writeUTF(name);
+        }
+    }
+
+    public static ClassIndex build(Path classPath) throws IOException {
+        Map<String, Entry> entries = new HashMap<>();
+        try (Stream<Path> files = Files.walk(classPath)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String fileName = file.getFileName().toString();
+                if (!fileName.endsWith(".class") || fileName.equals("module-info.class") || fileName.equals("package-info.class")) {
+                    continue;
+                }
+                try (InputStream in = Files.newInputStream(file)) {
+                    Entry entry = readClass(in);
+                    entries.put(entry.getName(), entry);
+                }
+            }
+        }
+        return new ClassIndex(entries);
+    }
+
+    // build time usage, e.g. from exec-maven-plugin in process-classes phase: ClassIndex ${project.build.outputDirectory}
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("Usage: ClassIndex <class output directory>");
+            System.exit(1);
+        }
+        Path classPath = Paths.get(args[0]);
+        ClassIndex index = build(classPath);
+        Path indexFile = classPath.resolve(INDEX_FILE);
+        Files.createDirectories(indexFile.getParent());
+        try (OutputStream out = Files.newOutputStream(indexFile)) {
+            index.write(out);
+        }
+        System.out.println("ClassIndex: " + index.entries.size() + " classes written to " + indexFile);
+    }
+}
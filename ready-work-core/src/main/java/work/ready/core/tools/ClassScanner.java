@@ -29,13 +29,17 @@ import work.ready.core.server.Ready;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.annotation.Annotation;
+import java.lang.annotation.Inherited;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.net.URL;
 import java.net.URLClassLoader;
 import java.net.URLDecoder;
+import java.nio.file.Files;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.stream.Collectors;
@@ -44,6 +48,8 @@ public class ClassScanner {
     private static final Log logger = LogFactory.getLog(ClassScanner.class);
 
     private final Set<Class<?>> applicationClassCache = new HashSet<>();
+    // every class found on the scanned paths, classes are only loaded once they match a scan
+    private final Map<String, ClassIndex.Entry> classIndex = new ConcurrentHashMap<>();
     private final Map<Class<?>, List<?>> scanCache = new HashMap<>();
 
     public final Set<String> includeJars = new HashSet<>();
@@ -369,6 +375,11 @@ public class ClassScanner {
     public List<Class<?>> scanClass(boolean isInstantiable) {
 
         initIfNecessary();
+        for (ClassIndex.Entry entry : classIndex.values()) {
+            if (isIncludeClass(entry.getName())) {
+                loadClass(entry.getName());
+            }
+        }
 
         if (!isInstantiable) {
             return new ArrayList<>(applicationClassCache);
@@ -381,6 +392,7 @@ public class ClassScanner {
 
     public void clearClassCache() {
         applicationClassCache.clear();
+        classIndex.clear();
         scanCache.clear();
     }
 
@@ -392,7 +404,15 @@ public class ClassScanner {
         initIfNecessary();
         if(scanCache.get(annotationClass) == null){
             List<Class<?>> list = new ArrayList<>();
-            for (Class<?> clazz : applicationClassCache) {
+            Map<String, Boolean> checked = new HashMap<>();
+            for (ClassIndex.Entry entry : classIndex.values()) {
+                if (!isIncludeClass(entry.getName()) || !hasMethodAnnotation(entry.getName(), annotationClass, checked)) {
+                    continue;
+                }
+                Class<?> clazz = loadClass(entry.getName());
+                if (clazz == null) {
+                    continue;
+                }
                 Method[] methods = clazz.getMethods();
                 for (Method method : methods) {
                     if (method.isAnnotationPresent(annotationClass)) {
@@ -411,8 +431,13 @@ public class ClassScanner {
         initIfNecessary();
         if(scanCache.get(annotationClass) == null) {
             List<Class<?>> list = new ArrayList<>();
-            for (Class<?> clazz : applicationClassCache) {
-                if (!clazz.isAnnotationPresent(annotationClass)) {
+            boolean inherited = annotationClass.isAnnotationPresent(Inherited.class);
+            for (ClassIndex.Entry entry : classIndex.values()) {
+                if (!isIncludeClass(entry.getName()) || !hasAnnotation(entry, annotationClass, inherited)) {
+                    continue;
+                }
+                Class<?> clazz = loadClass(entry.getName());
+                if (clazz == null || !clazz.isAnnotationPresent(annotationClass)) {
                     continue;
                 }
                 list.add(clazz);
@@ -424,15 +449,21 @@ public class ClassScanner {
     }
 
     private void initIfNecessary() {
-        if (applicationClassCache.isEmpty()) {
+        if (classIndex.isEmpty()) {
             initAppClasses();
         }
     }
 
     private <T> void findChildClasses(List<Class<T>> classes, Class<T> parent, boolean isInstantiable) {
-        for (Class clazz : applicationClassCache) {
+        Map<String, Boolean> checked = new HashMap<>();
+        for (ClassIndex.Entry entry : classIndex.values()) {
 
-            if (!parent.isAssignableFrom(clazz)) {
+            if (!isIncludeClass(entry.getName()) || !isSubType(entry.getName(), parent, checked)) {
+                continue;
+            }
+
+            Class clazz = loadClass(entry.getName());
+            if (clazz == null || !parent.isAssignableFrom(clazz)) {
                 continue;
             }
 
@@ -444,6 +475,76 @@ public class ClassScanner {
         }
     }
 
+    // walks the hierarchy through the index, types outside of it (framework or library classes) are loaded to answer
+    private boolean isSubType(String className, Class<?> parent, Map<String, Boolean> checked) {
+        if (className == null) {
+            return false;
+        }
+        if (className.equals(parent.getName())) {
+            return true;
+        }
+        Boolean result = checked.get(className);
+        if (result != null) {
+            return result;
+        }
+        checked.put(className, false);
+        ClassIndex.Entry entry = classIndex.get(className);
+        if (entry == null) {
+            Class<?> clazz = classForName(className);
+            result = clazz != null && parent.isAssignableFrom(clazz);
+        } else {
+            result = isSubType(entry.getSuperName(), parent, checked);
+            for (String name : entry.getInterfaces()) {
+                if (result) break;
+                result = isSubType(name, parent, checked);
+            }
+        }
+        checked.put(className, result);
+        return result;
+    }
+
+    private boolean hasAnnotation(ClassIndex.Entry entry, Class<? extends Annotation> annotationClass, boolean inherited) {
+        while (true) {
+            if (entry.getAnnotations().contains(annotationClass.getName())) {
+                return true;
+            }
+            if (!inherited || entry.getSuperName() == null) {
+                return false;
+            }
+            ClassIndex.Entry superEntry = classIndex.get(entry.getSuperName());
+            if (superEntry == null) {
+                Class<?> clazz = classForName(entry.getSuperName());
+                return clazz != null && clazz.isAnnotationPresent(annotationClass);
+            }
+            entry = superEntry;
+        }
+    }
+
+    private boolean hasMethodAnnotation(String className, Class<? extends Annotation> annotationClass, Map<String, Boolean> checked) {
+        if (className == null) {
+            return false;
+        }
+        Boolean result = checked.get(className);
+        if (result != null) {
+            return result;
+        }
+        checked.put(className, false);
+        ClassIndex.Entry entry = classIndex.get(className);
+        if (entry == null) {
+            Class<?> clazz = classForName(className);
+            result = clazz != null && Arrays.stream(clazz.getMethods()).anyMatch(method -> method.isAnnotationPresent(annotationClass));
+        } else {
+            result = entry.getMethodAnnotations().contains(annotationClass.getName())
+                    || hasMethodAnnotation(entry.getSuperName(), annotationClass, checked);
+            for (String name : entry.getInterfaces()) {
+                if (result) break;
+                result = hasMethodAnnotation(name, annotationClass, checked);
+            }
+        }
+        checked.put(className, result);
+        return result;
+    }
+
     private void initAppClasses() {
 
         Set<String> jarPaths = new HashSet<>();
@@ -453,19 +554,15 @@ public class ClassScanner {
 
         findClassPathsAndJarsByClassPath(jarPaths, classPaths);
 
-        for (String classPath : classPaths) {
+        classPaths.parallelStream().forEach(classPath -> {
             logger.debug("ClassScanner scan classpath : " + classPath);
             addClassesFromClassPath(classPath);
-        }
-
-        for (String jarPath : jarPaths) {
-            if (!isIncludeJar(jarPath)) {
-                continue;
-            }
+        });
 
+        jarPaths.parallelStream().filter(this::isIncludeJar).forEach(jarPath -> {
             logger.debug("ClassScanner scan jar : " + jarPath);
             addClassesFromJar(jarPath);
-        }
+        });
     }
 
     private static String removePrefix(String str, String prefix) {
@@ -476,9 +573,9 @@ public class ClassScanner {
     }
 
     private void addClassesFromJar(String jarPath) {
-        JarFile jarFile = null;
-        try {
-            jarFile = new JarFile(jarPath);
+        try (JarFile jarFile = new JarFile(jarPath)) {
+            JarEntry indexEntry = jarFile.getJarEntry(ClassIndex.INDEX_FILE);
+            boolean indexed = indexEntry != null && addPrebuiltIndex(jarFile.getInputStream(indexEntry), jarPath, -1);
             Enumeration<JarEntry> entries = jarFile.entries();
             while (entries.hasMoreElements()) {
                 JarEntry jarEntry = entries.nextElement();
@@ -490,18 +587,15 @@ public class ClassScanner {
                     entryName = removePrefix(entryName, PATH_FILE_PRE); 
                     addClassesFromJar(entryName);
                 }
-                if (!jarEntry.isDirectory() && entryName.endsWith(CLASS_EXT)) {
-                    String className = entryName.replace("/", ".").substring(0, entryName.length() - 6);
-                    addClass(classForName(className));
+                if (!indexed && !jarEntry.isDirectory() && isClassFile(entryName)) {
+                    try (InputStream in = jarFile.getInputStream(jarEntry)) {
+                        addClass(ClassIndex.readClass(in));
+                    } catch (IOException e) {
+                        logger.debug("ClassScanner failed to read %s in %s", entryName, jarPath);
+                    }
                 }
             }
-        } catch (IOException e1) {
-        } finally {
-            if (jarFile != null)
-                try {
-                    jarFile.close();
-                } catch (IOException e) {
-                }
+        } catch (IOException e) {
         }
     }
 
@@ -509,22 +603,68 @@ public class ClassScanner {
         List<File> classFileList = new ArrayList<>();
         scanClassFile(classFileList, classPath);
 
-        for (File file : classFileList) {
+        // an IDE incremental compile does not rebuild the index, so it is only used while it still matches the class files
+        File indexFile = new File(classPath, ClassIndex.INDEX_FILE);
+        try {
+            if (indexFile.isFile() && isIndexUpToDate(indexFile, classFileList)
+                    && addPrebuiltIndex(Files.newInputStream(indexFile.toPath()), classPath, classFileList.size())) {
+                return;
+            }
+        } catch (IOException e) {
+        }
 
-            int start = classPath.length();
-            int end = file.toString().length() - ".class".length();
+        for (File file : classFileList) {
+            try (InputStream in = Files.newInputStream(file.toPath())) {
+                addClass(ClassIndex.readClass(in));
+            } catch (IOException e) {
+                logger.debug("ClassScanner failed to read %s", file);
+            }
+        }
+    }
 
-            String classFile = file.toString().substring(start + 1, end);
-            String className = classFile.replace(File.separator, ".");
+    private boolean isIndexUpToDate(File indexFile, List<File> classFileList) {
+        long indexModified = indexFile.lastModified();
+        for (File file : classFileList) {
+            if (file.lastModified() > indexModified) {
+                logger.debug("ClassScanner found %s newer than the prebuilt class index, scanning class files instead", file);
+                return false;
+            }
+        }
+        return true;
+    }
 
-            addClass(classForName(className));
+    private boolean addPrebuiltIndex(InputStream inputStream, String path, int expectedSize) {
+        try (InputStream in = inputStream) {
+            Collection<ClassIndex.Entry> entries = ClassIndex.read(in).entries();
+            if (expectedSize >= 0 && entries.size() != expectedSize) {
+                logger.debug("ClassScanner found prebuilt class index of %s out of date, scanning class files instead", path);
+                return false;
+            }
+            for (ClassIndex.Entry entry : entries) {
+                addClass(entry);
+            }
+            return true;
+        } catch (IOException e) {
+            logger.warn(e, "ClassScanner failed to read prebuilt class index of %s, scanning class files instead", path);
+            return false;
         }
     }
 
-    private void addClass(Class<?> clazz) {
-        if (clazz != null && isIncludeClass(clazz.getName())){
+    private boolean isClassFile(String entryName) {
+        return entryName.endsWith(CLASS_EXT) && !entryName.startsWith("META-INF/")
+                && !entryName.endsWith("module-info.class") && !entryName.endsWith("package-info.class");
+    }
+
+    private void addClass(ClassIndex.Entry entry) {
+        classIndex.putIfAbsent(entry.getName(), entry);
+    }
+
+    private Class<?> loadClass(String className) {
+        Class<?> clazz = classForName(className);
+        if (clazz != null) {
             applicationClassCache.add(clazz);
         }
+        return clazz;
     }
 
     private boolean isIncludeClass(String clazzName) {
@@ -663,7 +803,7 @@ public class ClassScanner {
         for (File file : files) {
             if (file.isDirectory()) {
                 scanClassFile(fileList, file.getAbsolutePath());
-            } else if (file.getName().endsWith(".class")) {
+            } else if (file.getName().endsWith(".class") && !file.getName().equals("module-info.class") && !file.getName().equals("package-info.class")) {
                 fileList.add(file);
             }
         }
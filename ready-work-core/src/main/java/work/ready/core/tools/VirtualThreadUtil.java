@@ -0,0 +1,179 @@
+/**
+ *
+ * Copyright (c) 2020 WeiHua Lyu [ready.work]
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+package work.ready.core.tools;
+
+import work.ready.core.log.Log;
+import work.ready.core.log.LogFactory;
+import work.ready.core.module.ShutdownHook;
+import work.ready.core.server.Ready;
+import work.ready.core.server.ServerConfig;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * The framework is compiled for Java 11, virtual threads are reached by reflection
+ * and only used when the running JVM provides them (Java 21+).
+ */
+public class VirtualThreadUtil {
+    private static final Log logger = LogFactory.getLog(VirtualThreadUtil.class);
+    private static final String PINNING_TRACE_PROPERTY = "jdk.tracePinnedThreads";
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final Duration PINNED_THRESHOLD = Duration.ofMillis(20);
+    private static final int SHORT_EVENT_LENGTH = 1024;
+    private static final AtomicBoolean pinningTraceStarted = new AtomicBoolean();
+
+    private static final Method ofVirtual;
+    private static final Method builderName;
+    private static final Method builderFactory;
+    private static final Method newThreadPerTaskExecutor;
+    private static final Method isVirtual;
+
+    static {
+        Method ofVirtualMethod = null, nameMethod = null, factoryMethod = null, executorMethod = null, isVirtualMethod = null;
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+            nameMethod = builderClass.getMethod("name", String.class, long.class);
+            factoryMethod = builderClass.getMethod("factory");
+            executorMethod = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            isVirtualMethod = Thread.class.getMethod("isVirtual");
+            ofVirtualMethod.invoke(null);
+        } catch (Throwable e) {
+            ofVirtualMethod = null;
+        }
+        ofVirtual = ofVirtualMethod;
+        builderName = nameMethod;
+        builderFactory = factoryMethod;
+        newThreadPerTaskExecutor = executorMethod;
+        isVirtual = isVirtualMethod;
+    }
+
+    public static boolean isSupported() {
+        return ofVirtual != null;
+    }
+
+    // process wide pools follow the main application, which is also the config its web server reads
+    public static boolean isEnabled() {
+        return isEnabled(Ready.getMainApplicationConfig().getServer());
+    }
+
+    public static boolean isEnabled(ServerConfig serverConfig) {
+        return isSupported() && serverConfig.isVirtualThreadWorker();
+    }
+
+    public static ThreadFactory newThreadFactory(String namePrefix) {
+        if (!isSupported()) {
+            throw new UnsupportedOperationException("virtual threads are not supported by current JVM: " + System.getProperty("java.version"));
+        }
+        try {
+            Object builder = builderName.invoke(ofVirtual.invoke(null), namePrefix + "-virtual-", 0L);
+            return (ThreadFactory) builderFactory.invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static ExecutorService newExecutor(String namePrefix) {
+        try {
+            return (ExecutorService) newThreadPerTaskExecutor.invoke(null, newThreadFactory(namePrefix));
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public static ExecutorService newExecutorOrCachedPool(String namePrefix) {
+        if (isEnabled()) {
+            enablePinningTrace(Ready.getMainApplicationConfig().getServer());
+            return newExecutor(namePrefix);
+        }
+        return Executors.newCachedThreadPool(new ReadyThreadFactory(namePrefix));
+    }
+
+    // tasks run one after another in submission order, on one virtual thread when enabled
+    public static ExecutorService newSingleThreadExecutor(String namePrefix) {
+        if (isEnabled()) {
+            enablePinningTrace(Ready.getMainApplicationConfig().getServer());
+            return Executors.newSingleThreadExecutor(newThreadFactory(namePrefix));
+        }
+        return Executors.newSingleThreadExecutor(new ReadyThreadFactory(namePrefix));
+    }
+
+    public static boolean isVirtual(Thread thread) {
+        if (!isSupported()) {
+            return false;
+        }
+        try {
+            return (Boolean) isVirtual.invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            return false;
+        }
+    }
+
+    public static void enablePinningTrace(ServerConfig serverConfig) {
+        String mode = serverConfig.getVirtualThreadPinningTrace();
+        if (mode == null || !pinningTraceStarted.compareAndSet(false, true)) {
+            return;
+        }
+        if (System.getProperty(PINNING_TRACE_PROPERTY) == null) {
+            // has to be set before the first virtual thread is created, the JDK reads it only once.
+            // it prints the stack of a pinned thread that blocks, but only on JDK 21 to 23
+            System.setProperty(PINNING_TRACE_PROPERTY, mode);
+        }
+        startPinningMonitor("full".equalsIgnoreCase(mode));
+    }
+
+    // the JFR event is reported by every JDK with virtual threads, it is logged with the pinned stack and duration
+    private static void startPinningMonitor(boolean fullStack) {
+        try {
+            Class<?> streamClass = Class.forName("jdk.jfr.consumer.RecordingStream");
+            Class<?> settingsClass = Class.forName("jdk.jfr.EventSettings");
+            Object stream = streamClass.getConstructor().newInstance();
+            Object settings = streamClass.getMethod("enable", String.class).invoke(stream, PINNED_EVENT);
+            settingsClass.getMethod("withThreshold", Duration.class).invoke(settings, PINNED_THRESHOLD);
+            settingsClass.getMethod("withStackTrace").invoke(settings);
+            Consumer<Object> consumer = event -> {
+                if (fullStack) {
+                    logger.warn("Virtual thread pinned: %s", event);
+                } else {
+                    String text = String.valueOf(event);
+                    logger.warn("Virtual thread pinned: %s", text.length() > SHORT_EVENT_LENGTH ? text.substring(0, SHORT_EVENT_LENGTH) + " ..." : text);
+                }
+            };
+            streamClass.getMethod("onEvent", String.class, Consumer.class).invoke(stream, PINNED_EVENT, consumer);
+            streamClass.getMethod("startAsync").invoke(stream);
+            Method close = streamClass.getMethod("close");
+            Ready.shutdownHook.add(ShutdownHook.STAGE_9, inMs -> {
+                try {
+                    close.invoke(stream);
+                } catch (ReflectiveOperationException ignored) {
+                }
+            });
+            if (logger.isInfoEnabled()) {
+                logger.info("Virtual thread pinning monitor started, pinned blocking longer than %sms is logged", PINNED_THRESHOLD.toMillis());
+            }
+        } catch (Throwable e) {
+            logger.warn("Virtual thread pinning monitor is not available, only %s is set: %s", PINNING_TRACE_PROPERTY, e.toString());
+        }
+    }
+}